@@ -19,13 +19,14 @@ package org.apache.camel.dataformat.avro;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
-import org.apache.avro.io.Decoder;
 import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.Encoder;
 import org.apache.avro.io.EncoderFactory;
@@ -40,6 +41,7 @@ import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Dataformat;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 
@@ -51,11 +53,18 @@ import org.apache.camel.util.ObjectHelper;
 public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFormatName, CamelContextAware {
 
     private static final String GENERIC_CONTAINER_CLASSNAME = GenericContainer.class.getName();
+    private static final int CACHE_SIZE = 100;
     private CamelContext camelContext;
     private Object schema;
     private transient Schema actualSchema;
     private String instanceClassName;
 
+    // the schemas of the marshalled classes (when no schema is configured) and the writers of the schemas, as loading a
+    // schema creates an instance of the class, and the writers are thread-safe
+    private final Map<Class<?>, Schema> schemas = LRUCacheFactory.newLRUCache(CACHE_SIZE);
+    private final Map<Schema, DatumWriter<Object>> writers = LRUCacheFactory.newLRUCache(CACHE_SIZE);
+    private volatile DatumReader<GenericRecord> reader;
+
     public AvroDataFormat() {
     }
 
@@ -95,7 +104,9 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        reader = null;
+        schemas.clear();
+        writers.clear();
     }
 
     // the getter/setter for Schema is Object type in the API
@@ -106,6 +117,7 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
 
     public void setSchema(Object schema) {
         this.schema = schema;
+        this.reader = null;
     }
 
     public String getInstanceClassName() {
@@ -136,29 +148,62 @@ public class AvroDataFormat extends ServiceSupport implements DataFormat, DataFo
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream outputStream) throws Exception {
         // the schema should be from the graph class name
-        Schema useSchema = actualSchema != null ? actualSchema : loadSchema(graph.getClass().getName());
+        Schema useSchema = actualSchema;
+        if (useSchema == null) {
+            useSchema = schemas.get(graph.getClass());
+            if (useSchema == null) {
+                useSchema = loadSchema(graph.getClass().getName());
+                schemas.put(graph.getClass(), useSchema);
+            }
+        }
 
-        DatumWriter<Object> datum = new SpecificDatumWriter<>(useSchema);
+        DatumWriter<Object> datum = writers.get(useSchema);
+        if (datum == null) {
+            datum = new SpecificDatumWriter<>(useSchema);
+            writers.put(useSchema, datum);
+        }
         Encoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
         datum.write(graph, encoder);
         encoder.flush();
     }
 
+    @Override
+    public Object unmarshal(Exchange exchange, Object body) throws Exception {
+        if (body instanceof byte[] data) {
+            ObjectHelper.notNull(actualSchema, "schema", this);
+            // decode the bytes directly, instead of copying them into the read buffer of the decoder
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, null);
+            return getReader().read(null, decoder);
+        }
+        return DataFormat.super.unmarshal(exchange, body);
+    }
+
     @Override
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
         ObjectHelper.notNull(actualSchema, "schema", this);
 
-        ClassLoader classLoader = null;
-        Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
+        return getReader().read(null, decoder);
+    }
 
-        if (clazz != null) {
-            classLoader = clazz.getClassLoader();
+    /**
+     * Gets the reader of the schema, which is created once as the reader is thread-safe
+     */
+    private DatumReader<GenericRecord> getReader() {
+        DatumReader<GenericRecord> answer = reader;
+        if (answer == null) {
+            ClassLoader classLoader = null;
+            Class<?> clazz = camelContext.getClassResolver().resolveClass(actualSchema.getFullName());
+
+            if (clazz != null) {
+                classLoader = clazz.getClassLoader();
+            }
+            SpecificData specificData = new SpecificDataNoCache(classLoader);
+            answer = new SpecificDatumReader<>(null, null, specificData);
+            answer.setSchema(actualSchema);
+            reader = answer;
         }
-        SpecificData specificData = new SpecificDataNoCache(classLoader);
-        DatumReader<GenericRecord> reader = new SpecificDatumReader<>(null, null, specificData);
-        reader.setSchema(actualSchema);
-        Decoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
-        return reader.read(null, decoder);
+        return answer;
     }
 
 }
@@ -60,6 +60,21 @@ public class AvroMarshalAndUnmarshalTest extends CamelTestSupport {
         }
     }
 
+    @Test
+    public void testUnmarshalFromVariable() throws Exception {
+        Value input = Value.newBuilder().setValue("test body").build();
+        byte[] marshalled = template.requestBody("direct:in", input, byte[].class);
+
+        MockEndpoint mock = getMockEndpoint("mock:variable");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isEqualTo(input);
+
+        // the body is not the avro data, which is in the variable
+        template.sendBodyAndHeader("direct:variable", "not avro".getBytes(), "data", marshalled);
+
+        mock.assertIsSatisfied();
+    }
+
     private void marshalAndUnmarshal(String inURI, String outURI) throws Exception {
         Value input = Value.newBuilder().setValue("test body").build();
 
@@ -88,6 +103,10 @@ public class AvroMarshalAndUnmarshalTest extends CamelTestSupport {
                 from("direct:in").marshal(format);
                 from("direct:back").unmarshal(format).to("mock:reverse");
 
+                context.getRegistry().bind("avroFormat", format);
+                from("direct:variable").setVariable("data", header("data"))
+                        .unmarshal().variableSend("data").custom("avroFormat").to("mock:variable");
+
                 from("direct:marshal").marshal().avro(AvroLibrary.ApacheAvro);
                 from("direct:unmarshalA").unmarshal().avro(AvroLibrary.ApacheAvro, Value.class.getName()).to("mock:reverse");
 
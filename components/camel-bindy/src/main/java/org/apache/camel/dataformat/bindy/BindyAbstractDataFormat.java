@@ -16,20 +16,24 @@
  */
 package org.apache.camel.dataformat.bindy;
 
+import java.io.Closeable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.dataformat.bindy.annotation.FormatFactories;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.format.factories.DefaultFactoryRegistry;
@@ -39,7 +43,7 @@ import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.Registry;
 import org.apache.camel.support.service.ServiceSupport;
-import org.apache.camel.util.ReflectionHelper;
+import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +55,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
     private CamelContext camelContext;
     private boolean unwrapSingleInstance = true;
     private boolean allowEmptyStream;
+    private boolean streaming;
 
     protected BindyAbstractDataFormat() {
     }
@@ -91,6 +96,18 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to unmarshal the records one by one while iterating the returned {@link Iterator}, instead of reading all
+     * the records into a {@link List}. This allows to split big files using the Splitter EIP in streaming mode.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public BindyAbstractFactory getFactory() throws Exception {
         if (modelFactory == null) {
             FormatFactory formatFactory = createFormatFactory();
@@ -165,7 +182,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
             Link linkField = field.getAnnotation(Link.class);
             if (linkField != null) {
                 row.putIfAbsent(field.getType().getName(),
-                        ReflectionHelper.getField(field, model));
+                        FieldAccessor.of(field).get(model));
             }
         }
     }
@@ -177,7 +194,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
             // we expect to findForFormattingOptions this type in the models, and grab only that type
             List<Object> answer = new ArrayList<>();
             for (Map<String, Object> entry : models) {
-                Object data = entry.get(getClassType().getName());
+                Object data = extractUnmarshalRecord(entry);
                 if (data != null) {
                     answer.add(data);
                 }
@@ -193,6 +210,84 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         }
     }
 
+    /**
+     * Extracts the unmarshalled object of a single record
+     *
+     * @return the object of the class type, or the model if no class type has been configured
+     */
+    protected Object extractUnmarshalRecord(Map<String, Object> model) {
+        if (getClassType() != null) {
+            return model.get(getClassType().getName());
+        }
+        return model;
+    }
+
+    /**
+     * Iterator which unmarshals the records one at a time, which is used in streaming mode.
+     */
+    protected abstract class RecordIterator implements Iterator<Object>, Closeable {
+
+        private final Closeable input;
+        private final String noRecordsMessage;
+        private Object next;
+        private boolean done;
+        private int records;
+
+        protected RecordIterator(Closeable input, String noRecordsMessage) {
+            this.input = input;
+            this.noRecordsMessage = noRecordsMessage;
+        }
+
+        /**
+         * Unmarshals the next record
+         *
+         * @return the model of the record, or <tt>null</tt> if there are no more records
+         */
+        protected abstract Map<String, Object> nextModel() throws Exception;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !done) {
+                Map<String, Object> model;
+                try {
+                    model = nextModel();
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                } catch (Exception e) {
+                    close();
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+                if (model == null) {
+                    close();
+                    if (records == 0 && !isAllowEmptyStream()) {
+                        throw new IllegalArgumentException(noRecordsMessage);
+                    }
+                } else {
+                    records++;
+                    next = extractUnmarshalRecord(model);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            done = true;
+            IOHelper.close(input, "input", LOGGER);
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
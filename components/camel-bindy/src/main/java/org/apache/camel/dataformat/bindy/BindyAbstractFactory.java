@@ -31,7 +31,6 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
 import org.apache.camel.support.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -147,7 +146,7 @@ public abstract class BindyAbstractFactory implements BindyFactory {
 
                 org.apache.camel.util.ObjectHelper.notNull(to, "No @link annotation has been defined for the object to link");
 
-                ReflectionHelper.setField(field, model.get(field.getDeclaringClass().getName()), to);
+                FieldAccessor.of(field).set(model.get(field.getDeclaringClass().getName()), to);
             }
         }
     }
@@ -229,7 +229,6 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
         // Get Field to be setted
         Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
@@ -300,7 +299,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             }
         }
 
-        field.set(modelField, value);
+        FieldAccessor.of(field).set(modelField, value);
         return counterMandatoryFields;
     }
 
@@ -467,8 +466,6 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
         for (Field field : clazz.getDeclaredFields()) {
 
-            field.setAccessible(true);
-
             DataField datafield = field.getAnnotation(DataField.class);
 
             if (datafield != null) {
@@ -483,7 +480,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                     Format<?> format = formatFactory.getFormat(formattingOptions);
 
                     // Get field value
-                    Object value = field.get(obj);
+                    Object value = FieldAccessor.of(field).get(obj);
 
                     // If the field value is empty, populate it with the default value
                     if (org.apache.camel.util.ObjectHelper.isNotEmpty(datafield.defaultValue())
@@ -548,7 +545,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                 // Will be used during generation of CSV
                 isOneToMany = true;
 
-                List<?> list = (List<?>) field.get(obj);
+                List<?> list = (List<?>) FieldAccessor.of(field).get(obj);
                 if (list != null) {
 
                     Iterator<?> it = list.iterator();
@@ -587,8 +584,6 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
             // Retrieve the field
             Field field = annotatedFields.get(dataField.pos());
-            // Change accessibility to allow to read protected/private fields
-            field.setAccessible(true);
 
             // Get dataField
             final String res;
@@ -718,17 +713,16 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         // Set the default values, if defined
         for (int i = 1; i <= dataFields.size(); i++) {
             Field field = annotatedFields.get(i);
-            field.setAccessible(true);
             DataField dataField = dataFields.get(i);
             Object modelField = model.get(field.getDeclaringClass().getName());
-            if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
+            if (FieldAccessor.of(field).get(modelField) == null && !dataField.defaultValue().isEmpty()) {
                 FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
                         field.getType(),
                         field.getAnnotation(BindyConverter.class),
                         getLocale());
                 Format<?> format = formatFactory.getFormat(formattingOptions);
                 Object value = format.parse(dataField.defaultValue());
-                field.set(modelField, value);
+                FieldAccessor.of(field).set(modelField, value);
             }
         }
     }
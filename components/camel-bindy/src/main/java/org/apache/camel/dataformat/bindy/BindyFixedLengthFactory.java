@@ -189,9 +189,8 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             if (length == 0 && dataField.lengthPos() != 0) {
                 Field lengthField = annotatedFields.get(dataField.lengthPos());
-                lengthField.setAccessible(true);
                 Object modelObj = model.get(lengthField.getDeclaringClass().getName());
-                Object lengthObj = lengthField.get(modelObj);
+                Object lengthObj = FieldAccessor.of(lengthField).get(modelObj);
                 length = ((Integer) lengthObj).intValue();
             }
             if (length < 1 && delimiter == null && dataField.lengthPos() == 0) {
@@ -255,7 +254,6 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             // Get Field to be set
             field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
@@ -317,7 +315,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                 }
             }
 
-            field.set(modelField, value);
+            FieldAccessor.of(field).set(modelField, value);
 
             ++pos;
 
@@ -429,8 +427,6 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
         for (Field field : clazz.getDeclaredFields()) {
 
-            field.setAccessible(true);
-
             DataField datafield = field.getAnnotation(DataField.class);
 
             if (datafield != null) {
@@ -445,7 +441,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                     Format<?> format = formatFactory.getFormat(formattingOptions);
 
                     // Get field value
-                    Object value = field.get(obj);
+                    Object value = FieldAccessor.of(field).get(obj);
 
                     // If the field value is empty, populate it with the default value
                     if (org.apache.camel.util.ObjectHelper.isNotEmpty(datafield.defaultValue())
@@ -187,8 +187,6 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
 
         for (Field field : clazz.getDeclaredFields()) {
 
-            field.setAccessible(true);
-
             KeyValuePairField keyValuePairField = field.getAnnotation(KeyValuePairField.class);
 
             if (keyValuePairField != null) {
@@ -217,7 +215,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                         Object result = getDefaultValueForPrimitive(field.getType());
 
                         try {
-                            field.set(obj, result);
+                            FieldAccessor.of(field).set(obj, result);
                         } catch (Exception e) {
                             throw new IllegalArgumentException(
                                     "Setting of field " + field + " failed for object : " + obj + " and result : " + result);
@@ -245,7 +243,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
 
                             Object result = getDefaultValueForPrimitive(field.getType());
                             try {
-                                field.set(obj, result);
+                                FieldAccessor.of(field).set(obj, result);
                             } catch (Exception e) {
                                 throw new IllegalArgumentException(
                                         "Setting of field " + field + " failed for object : " + obj + " and result : "
@@ -302,7 +300,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                                 result = getDefaultValueForPrimitive(field.getType());
                             }
                             try {
-                                field.set(obj, result);
+                                FieldAccessor.of(field).set(obj, result);
                             } catch (Exception e) {
                                 throw new IllegalArgumentException(
                                         "Setting of field " + field + " failed for object : " + obj + " and result : "
@@ -342,9 +340,9 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
 
                                     try {
                                         if (value != null) {
-                                            field.set(obj, result);
+                                            FieldAccessor.of(field).set(obj, result);
                                         } else {
-                                            field.set(obj, getDefaultValueForPrimitive(field.getType()));
+                                            FieldAccessor.of(field).set(obj, getDefaultValueForPrimitive(field.getType()));
                                         }
                                     } catch (Exception e) {
                                         throw new IllegalArgumentException(
@@ -379,7 +377,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                         Object result = getDefaultValueForPrimitive(field.getType());
 
                         try {
-                            field.set(obj, result);
+                            FieldAccessor.of(field).set(obj, result);
                         } catch (Exception e) {
                             throw new IllegalArgumentException(
                                     "Setting of field " + field + " failed for object: " + obj + " and result: " + result);
@@ -411,7 +409,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                     generateModelFromKeyValueMap(cl, null, results, line, lists);
 
                     // Add list of objects
-                    field.set(obj, lists.get(cl.getName()));
+                    FieldAccessor.of(field).set(obj, lists.get(cl.getName()));
 
                 } else {
                     throw new IllegalArgumentException("No target class has been defined in @OneToMany annotation");
@@ -456,8 +454,6 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
 
             // Retrieve the field
             Field field = annotatedFields.get(keyValuePairField.tag());
-            // Change accessibility to allow to read protected/private fields
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Tag: {}, Field type: {}, class: {}", keyValuePairField.tag(), field.getType(),
@@ -477,7 +473,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
             if (obj != null) {
 
                 // Get field value
-                Object keyValue = field.get(obj);
+                Object keyValue = FieldAccessor.of(field).get(obj);
 
                 if (this.isMessageOrdered()) {
                     // Generate a key using the number of the section
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.RuntimeCamelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes a field of a model class using method handles, which are created once per field and cached per model
+ * class, instead of reflective {@link Field} access for every record.
+ * <p/>
+ * Falls back to reflection if method handles cannot be created for the field.
+ */
+final class FieldAccessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FieldAccessor.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        field.setAccessible(true);
+
+        MethodHandle get = null;
+        MethodHandle set = null;
+        if (!Modifier.isStatic(field.getModifiers())) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                get = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                if (!Modifier.isFinal(field.getModifiers())) {
+                    set = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                LOG.debug("Cannot create method handles for field: {}. Will use reflection.", field, e);
+            }
+        }
+        this.getter = get;
+        this.setter = set;
+    }
+
+    /**
+     * Gets the (cached) accessor of the field
+     */
+    static FieldAccessor of(Field field) {
+        return ACCESSORS.get(field.getDeclaringClass()).computeIfAbsent(field.getName(), n -> new FieldAccessor(field));
+    }
+
+    /**
+     * Gets the value of the field
+     */
+    Object get(Object target) {
+        if (getter != null) {
+            try {
+                return getter.invokeExact(target);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Sets the value of the field
+     */
+    void set(Object target, Object value) {
+        if (setter != null) {
+            try {
+                setter.invokeExact(target, value);
+                return;
+            } catch (ClassCastException | NullPointerException e) {
+                // the value needs a widening conversion (or is invalid), which is done (or reported) by reflection
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+}
@@ -54,6 +54,7 @@ import org.slf4j.LoggerFactory;
 @Dataformat("bindyCsv")
 public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private static final Logger LOG = LoggerFactory.getLogger(BindyCsvDataFormat.class);
+    private static final Pattern TRAILING_WHITESPACE = Pattern.compile("[ \\n\\x0B\\f\\r]+$");
 
     public BindyCsvDataFormat() {
     }
@@ -147,6 +148,10 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         BindyCsvFactory factory = (BindyCsvFactory) getFactory();
         org.apache.camel.util.ObjectHelper.notNull(factory, "not instantiated");
 
+        if (isStreaming()) {
+            return unmarshalStreaming(exchange, inputStream, factory);
+        }
+
         // List of Pojos
         List<Map<String, Object>> models = new ArrayList<>();
 
@@ -158,12 +163,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
             in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
 
-            // Retrieve the separator defined to split the record
-            String separator = factory.getSeparator();
-            String quote = factory.getQuote();
-            org.apache.camel.util.ObjectHelper.notNull(separator,
-                    "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
-            Boolean removeQuotes = factory.getRemoveQuotes();
+            CsvRecordParser parser = new CsvRecordParser(factory);
             AtomicInteger count = new AtomicInteger();
 
             // Use a Stream to stream a file across.
@@ -180,7 +180,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
                     lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                            .forEachOrdered(consumeFile(parser, models, count));
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -201,92 +201,149 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
     }
 
-    private Consumer<String> consumeFile(
-            BindyCsvFactory factory, List<Map<String, Object>> models,
-            String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+    private Object unmarshalStreaming(Exchange exchange, InputStream inputStream, BindyCsvFactory factory)
+            throws Exception {
+        if (checkEmptyStream(factory, inputStream)) {
+            IOHelper.close(inputStream);
+            return Collections.emptyIterator();
+        }
+
+        BufferedReader reader
+                = IOHelper.buffered(new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange)));
+        // If the first line of the CSV file contains columns name, then we skip this line
+        if (factory.getSkipFirstLine()) {
+            reader.readLine();
+        }
+
+        CsvRecordParser parser = new CsvRecordParser(factory);
+        return new RecordIterator(reader, "No records have been defined in the CSV") {
+            private int count;
+
+            @Override
+            protected Map<String, Object> nextModel() throws Exception {
+                String line = reader.readLine();
+                return line != null ? parser.parse(line, ++count) : null;
+            }
+        };
+    }
+
+    private Consumer<String> consumeFile(CsvRecordParser parser, List<Map<String, Object>> models, AtomicInteger count) {
         return line -> {
             try {
-                String trimmedLine;
-
-                // Trim the line coming in to remove any trailing whitespace
-                if (factory.isTrimLine()) {
-                    // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                    if (separator.equals("\t")) {
-                        // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                        trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
-                    } else {
-                        trimmedLine = line.trim();
-                    }
+                // Add objects graph to the list
+                models.add(parser.parse(line, count.incrementAndGet()));
+            } catch (Exception e) {
+                throw new WrappedException(e);
+            }
+        };
+    }
+
+    /**
+     * Parses the lines of the CSV into models.
+     * <p/>
+     * The separator is a regular expression, however it is most often a single character, and then the line is split
+     * and unquoted in a single pass by {@link CsvLineTokenizer}.
+     */
+    private final class CsvRecordParser {
+
+        private final BindyCsvFactory factory;
+        private final String separator;
+        private final String quote;
+        private final boolean removeQuotes;
+        private final Pattern pattern;
+        private final Pattern delimiterPattern;
+        private final CsvLineTokenizer tokenizer;
+
+        private CsvRecordParser(BindyCsvFactory factory) {
+            this.factory = factory;
+            // Retrieve the separator defined to split the record
+            this.separator = factory.getSeparator();
+            this.quote = factory.getQuote();
+            org.apache.camel.util.ObjectHelper.notNull(separator,
+                    "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
+            this.removeQuotes = Boolean.TRUE.equals(factory.getRemoveQuotes());
+            this.pattern = Pattern.compile(separator);
+            this.delimiterPattern = Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote));
+            // auto spanning the last field needs the separators, so it uses the regular expression
+            this.tokenizer = removeQuotes && !factory.getAutospanLine() ? CsvLineTokenizer.create(separator, quote) : null;
+        }
+
+        Map<String, Object> parse(String line, int count) throws Exception {
+            String trimmedLine;
+
+            // Trim the line coming in to remove any trailing whitespace
+            if (factory.isTrimLine()) {
+                // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+                if (separator.equals("\t")) {
+                    // trim only trailing whitespaces (remove new lines etc but keep tab character)
+                    trimmedLine = TRAILING_WHITESPACE.matcher(line).replaceAll("");
                 } else {
-                    // no trim
-                    trimmedLine = line;
+                    trimmedLine = line.trim();
                 }
+            } else {
+                // no trim
+                trimmedLine = line;
+            }
 
-                // Increment counter
-                count.incrementAndGet();
-                Map<String, Object> model;
-
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
+            // Create POJO where CSV data will be stored
+            Map<String, Object> model = factory.factory();
 
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
+            List<String> result = tokenizer != null ? tokenizer.tokenize(trimmedLine) : split(trimmedLine);
 
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (!separators.isEmpty()) {
-                    separators.add(separators.get(separators.size() - 1));
+            if (result.isEmpty()) {
+                throw new IllegalArgumentException("No records have been defined in the CSV");
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Size of the record splitted : {}", result.size());
                 }
 
-                Pattern delimiterPattern = Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote));
-                Matcher delimiterMatcher = delimiterPattern.matcher(trimmedLine);
+                // Bind data from CSV record with model classes
 
-                int escapedSubstringToHandle = 0;
-                // Find and print delimited substrings
-                while (delimiterMatcher.find()) {
-                    String substring = delimiterMatcher.group();
-                    escapedSubstringToHandle += pattern.split(substring).length - 1;
-                }
+                factory.bind(getCamelContext(), result, model, count);
 
-                String[] tokens = pattern.split(trimmedLine,
-                        factory.getAutospanLine() ? factory.getMaxpos() + escapedSubstringToHandle : -1);
+                // Link objects together
+                factory.link(model);
 
-                List<String> result = Arrays.asList(tokens);
+                LOG.debug("Graph of objects created: {}", model);
+            }
+            return model;
+        }
 
-                // must unquote tokens before use
-                if (Boolean.TRUE.equals(removeQuotes)) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+        private List<String> split(String trimmedLine) {
+            // Split the CSV record according to the separator defined in
+            // annotated class @CSVRecord
+            Matcher matcher = pattern.matcher(trimmedLine);
+            List<String> separators = new ArrayList<>();
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+            // Retrieve separators for each match
+            while (matcher.find()) {
+                separators.add(matcher.group());
+            }
+            // Add terminal separator
+            if (!separators.isEmpty()) {
+                separators.add(separators.get(separators.size() - 1));
+            }
 
-                    // Bind data from CSV record with model classes
+            Matcher delimiterMatcher = delimiterPattern.matcher(trimmedLine);
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+            int escapedSubstringToHandle = 0;
+            // Find and print delimited substrings
+            while (delimiterMatcher.find()) {
+                String substring = delimiterMatcher.group();
+                escapedSubstringToHandle += pattern.split(substring).length - 1;
+            }
 
-                    // Link objects together
-                    factory.link(model);
+            String[] tokens = pattern.split(trimmedLine,
+                    factory.getAutospanLine() ? factory.getMaxpos() + escapedSubstringToHandle : -1);
 
-                    // Add objects graph to the list
-                    models.add(model);
+            List<String> result = Arrays.asList(tokens);
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
+            // must unquote tokens before use
+            if (removeQuotes) {
+                result = unquoteTokens(result, separators, quote);
             }
-        };
+            return result;
+        }
     }
 
     /**
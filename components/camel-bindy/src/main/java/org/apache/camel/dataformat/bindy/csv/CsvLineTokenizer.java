@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a CSV line into tokens in a single pass, and removes the quotes around quoted tokens.
+ * <p/>
+ * This is used instead of splitting the line with the separator regular expression, and then joining the tokens which
+ * were split inside quotes, when the separator is a single character. The content of the tokens is kept as-is (such as
+ * escaped quotes), which is handled when binding the tokens to the model.
+ */
+final class CsvLineTokenizer {
+
+    private static final String REGEX_META_CHARS = "\\.[]{}()<>*+-=!?^$|";
+
+    private final char separator;
+    private final char quote;
+
+    private CsvLineTokenizer(char separator, char quote) {
+        this.separator = separator;
+        this.quote = quote;
+    }
+
+    /**
+     * Creates a tokenizer for the given separator and quote
+     *
+     * @param  separator the separator (which is a regular expression)
+     * @param  quote     the quote
+     * @return           the tokenizer, or <tt>null</tt> if the separator does not match a single character, or the
+     *                   quote is not a single character
+     */
+    static CsvLineTokenizer create(String separator, String quote) {
+        if (quote == null || quote.length() != 1 || separator == null) {
+            return null;
+        }
+        char ch;
+        if (separator.length() == 1 && REGEX_META_CHARS.indexOf(separator.charAt(0)) == -1) {
+            ch = separator.charAt(0);
+        } else if (separator.length() == 2 && separator.charAt(0) == '\\'
+                && REGEX_META_CHARS.indexOf(separator.charAt(1)) != -1) {
+            // an escaped regular expression character such as \|
+            ch = separator.charAt(1);
+        } else if ("\\t".equals(separator)) {
+            ch = '\t';
+        } else {
+            return null;
+        }
+        if (ch == quote.charAt(0)) {
+            return null;
+        }
+        return new CsvLineTokenizer(ch, quote.charAt(0));
+    }
+
+    /**
+     * Splits the line into tokens, and removes the quotes around quoted tokens
+     */
+    List<String> tokenize(String line) {
+        List<String> answer = new ArrayList<>();
+        int length = line.length();
+        int pos = 0;
+        while (true) {
+            if (pos < length && line.charAt(pos) == quote) {
+                // quoted token which ends with a quote followed by the separator or the end of the line
+                int start = pos + 1;
+                int end = -1;
+                for (int i = start; i < length; i++) {
+                    if (line.charAt(i) == quote && (i + 1 == length || line.charAt(i + 1) == separator)
+                            && !isEscaped(line, pos, i)) {
+                        end = i;
+                        break;
+                    }
+                }
+                if (end == -1) {
+                    // no closing quote, so the token is the rest of the line
+                    answer.add(line.substring(start));
+                    return answer;
+                }
+                answer.add(line.substring(start, end));
+                if (end + 1 == length) {
+                    return answer;
+                }
+                pos = end + 1;
+            } else {
+                int end = line.indexOf(separator, pos);
+                String token = line.substring(pos, end == -1 ? length : end);
+                if (token.length() > 1 && token.charAt(token.length() - 1) == quote) {
+                    // a dangling quote at the end of a token is removed
+                    token = token.substring(0, token.length() - 1);
+                }
+                answer.add(token);
+                if (end == -1) {
+                    return answer;
+                }
+                pos = end;
+            }
+            // skip the separator, and there is a (maybe empty) token after it
+            pos++;
+        }
+    }
+
+    /**
+     * Whether the quote at the given index is escaped by a preceding double quote (RFC 4180), which is when there is an
+     * odd number of double quotes (ignoring backslashes) before it
+     */
+    private boolean isEscaped(String line, int open, int index) {
+        if (quote != '"') {
+            return false;
+        }
+        boolean escaped = false;
+        for (int i = index - 1; i > open; i--) {
+            char ch = line.charAt(i);
+            if (ch == quote) {
+                escaped = !escaped;
+            } else if (ch != '\\') {
+                break;
+            }
+        }
+        return escaped;
+    }
+}
@@ -185,6 +185,10 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         BindyFixedLengthFactory factory = (BindyFixedLengthFactory) getFactory();
         org.apache.camel.util.ObjectHelper.notNull(factory, "not instantiated");
 
+        if (isStreaming()) {
+            return unmarshalStreaming(exchange, inputStream, factory);
+        }
+
         // List of Pojos
         List<Map<String, Object>> models = new ArrayList<>();
 
@@ -265,6 +269,63 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
 
     }
 
+    private Object unmarshalStreaming(Exchange exchange, InputStream inputStream, BindyFixedLengthFactory factory)
+            throws Exception {
+        InputStreamReader in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
+
+        // Scanner is used to read big file
+        Scanner scanner = new Scanner(in);
+        boolean isEolSet = false;
+        if (!"".equals(factory.getEndOfLine())) {
+            scanner.useDelimiter(factory.getEndOfLine());
+            isEolSet = true;
+        }
+        final boolean eolSet = isEolSet;
+
+        AtomicInteger count = new AtomicInteger();
+
+        try {
+            // Parse the header if it exists
+            if (headerExists(factory, scanner, isEolSet)) {
+
+                // Read the line (should not trim as its fixed length)
+                String line = getNextNonEmptyLine(scanner, count, isEolSet);
+
+                if (!factory.skipHeader()) {
+                    Map<String, Object> headerObjMap = createModel(headerFactory, line, count.intValue());
+                    exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_HEADER, headerObjMap);
+                }
+            }
+        } catch (Exception e) {
+            scanner.close();
+            throw e;
+        }
+
+        return new RecordIterator(scanner, "No records have been defined in the file") {
+            // the last line may be the footer, so we need to read one line ahead
+            private String thisLine = getNextNonEmptyLine(scanner, count, eolSet);
+
+            @Override
+            protected Map<String, Object> nextModel() throws Exception {
+                if (thisLine == null) {
+                    return null;
+                }
+                String line = thisLine;
+                thisLine = getNextNonEmptyLine(scanner, count, eolSet);
+                int lineCount = count.intValue();
+                if (thisLine == null && factory.hasFooter()) {
+                    // this line is the last non-empty line from the file, which is the footer
+                    if (!factory.skipFooter()) {
+                        Map<String, Object> footerObjMap = createModel(footerFactory, line, lineCount);
+                        exchange.getMessage().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
+                    }
+                    return null;
+                }
+                return createModel(factory, line, lineCount);
+            }
+        };
+    }
+
     private boolean headerExists(BindyFixedLengthFactory factory, Scanner scanner, boolean isEolSet) {
         return hasMore(isEolSet, scanner) && factory.hasHeader();
     }
@@ -95,6 +95,10 @@ public class BindyKeyValuePairDataFormat extends BindyAbstractDataFormat {
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
         BindyKeyValuePairFactory factory = (BindyKeyValuePairFactory) getFactory();
 
+        if (isStreaming()) {
+            return unmarshalStreaming(exchange, inputStream, factory);
+        }
+
         // List of Pojos
         List<Map<String, Object>> models = new ArrayList<>();
 
@@ -132,6 +136,37 @@ public class BindyKeyValuePairDataFormat extends BindyAbstractDataFormat {
         }
     }
 
+    private Object unmarshalStreaming(Exchange exchange, InputStream inputStream, BindyKeyValuePairFactory factory)
+            throws Exception {
+        // Retrieve the pair separator defined to split the record
+        org.apache.camel.util.ObjectHelper.notNull(factory.getPairSeparator(),
+                "The pair separator property of the annotation @Message");
+        String separator = factory.getPairSeparator();
+
+        BufferedReader reader
+                = IOHelper.buffered(new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange)));
+        return new RecordIterator(reader, "No records have been defined in the CSV") {
+            // Map to hold the model @OneToMany classes while binding
+            private final Map<String, List<Object>> lists = new HashMap<>();
+            private final AtomicInteger count = new AtomicInteger();
+            private final List<Map<String, Object>> models = new ArrayList<>(1);
+
+            @Override
+            protected Map<String, Object> nextModel() throws Exception {
+                models.clear();
+                String line;
+                while (models.isEmpty() && (line = reader.readLine()) != null) {
+                    try {
+                        consumeFile(factory, models, lists, separator, count, line);
+                    } catch (WrappedException e) {
+                        throw e.getWrappedException();
+                    }
+                }
+                return models.isEmpty() ? null : models.get(0);
+            }
+        };
+    }
+
     private void consumeFile(
             BindyKeyValuePairFactory factory, List<Map<String, Object>> models, Map<String, List<Object>> lists,
             String separator, AtomicInteger count, String line) {
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.pipeline.MyData;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BindyCsvStreamingTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshalStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBody("direct:split", "COL1|COL2|COL3\nHAPPY | NEW | YEAR\n\"A|B\"|C|D\n");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        MyData rec1 = mock.getReceivedExchanges().get(0).getIn().getBody(MyData.class);
+        MyData rec2 = mock.getReceivedExchanges().get(1).getIn().getBody(MyData.class);
+        MyData rec3 = mock.getReceivedExchanges().get(2).getIn().getBody(MyData.class);
+
+        assertEquals("COL1", rec1.getCol1());
+        assertEquals("COL3", rec1.getCol3());
+        assertEquals("HAPPY ", rec2.getCol1());
+        assertEquals(" NEW ", rec2.getCol2());
+        assertEquals(" YEAR", rec2.getCol3());
+        assertEquals("A|B", rec3.getCol1());
+        assertEquals("C", rec3.getCol2());
+        assertEquals("D", rec3.getCol3());
+    }
+
+    @Test
+    public void testUnmarshalStreamingIterator() {
+        Object body = template.requestBody("direct:unmarshal", "A|B|C\nD|E|F");
+
+        Iterator<?> it = assertInstanceOf(Iterator.class, body);
+        assertEquals("A", ((MyData) it.next()).getCol1());
+        assertEquals("D", ((MyData) it.next()).getCol1());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshalStreamingEmpty() {
+        Object body = template.requestBody("direct:unmarshal", "");
+
+        Iterator<?> it = assertInstanceOf(Iterator.class, body);
+        Exception e = assertThrows(IllegalArgumentException.class, it::hasNext);
+        assertEquals("No records have been defined in the CSV", e.getMessage());
+    }
+
+    @Test
+    public void testUnmarshalStreamingInvalidRecord() {
+        Object body = template.requestBody("direct:unmarshal", "A|B|C\nD|E|F|G|H");
+
+        Iterator<?> it = assertInstanceOf(Iterator.class, body);
+        assertEquals("A", ((MyData) it.next()).getCol1());
+        // the invalid record is only unmarshalled when it is read
+        assertThrows(IllegalArgumentException.class, it::next);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                BindyCsvDataFormat bindy = new BindyCsvDataFormat(MyData.class);
+                bindy.setStreaming(true);
+
+                from("direct:unmarshal")
+                        .unmarshal(bindy);
+
+                from("direct:split")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.csimple.joor;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares evaluating common predicates with the simple language and with the compiled csimple language.
+ */
+@Disabled("this is a manual test")
+public class SimpleVsCSimplePerformanceManualTest extends CamelTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimpleVsCSimplePerformanceManualTest.class);
+
+    private static final String[] PREDICATES = {
+            "${header.foo} == 'abc'",
+            "${header.size} > 100",
+            "${header.foo} == 'abc' && ${header.size} >= '150'",
+            "${header.foo} != 'def' || ${header.size} < 100" };
+
+    @Test
+    public void testPerformance() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("foo", "abc");
+        exchange.getMessage().setHeader("size", "150");
+
+        int times = 1000000;
+        for (String text : PREDICATES) {
+            Predicate simple = context.resolveLanguage("simple").createPredicate(text);
+            Predicate csimple = context.resolveLanguage("csimple").createPredicate(text);
+            assertEquals(csimple.matches(exchange), simple.matches(exchange), text);
+
+            LOG.info("Evaluating {} {} times: simple took {}, csimple took {}", text, times,
+                    TimeUtils.printDuration(run(simple, exchange, times), true),
+                    TimeUtils.printDuration(run(csimple, exchange, times), true));
+        }
+    }
+
+    private static long run(Predicate predicate, Exchange exchange, int times) {
+        // warm up
+        for (int i = 0; i < times; i++) {
+            predicate.matches(exchange);
+        }
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < times; i++) {
+            predicate.matches(exchange);
+        }
+        return watch.taken();
+    }
+}
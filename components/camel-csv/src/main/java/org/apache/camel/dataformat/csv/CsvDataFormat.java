@@ -67,6 +67,8 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
     private boolean useMaps;
     private boolean useOrderedMaps;
     private CsvRecordConverter<?> recordConverter;
+    private boolean fastParser;
+    private int batchSize;
 
     private CsvMarshallerFactory marshallerFactory = CsvMarshallerFactory.DEFAULT;
 
@@ -761,6 +763,50 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return this;
     }
 
+    /**
+     * Indicates whether the unmarshalling should use the fast parser instead of Commons CSV.
+     *
+     * @return {@code true} for the fast parser, {@code false} for Commons CSV
+     */
+    public boolean isFastParser() {
+        return fastParser;
+    }
+
+    /**
+     * Sets whether the unmarshalling should use the fast parser instead of Commons CSV. The fast parser scans the bytes
+     * of the input, and creates the strings of the fields lazily. It is used when the format has no escape character,
+     * comment marker, null string or trimming, the charset is UTF-8, US-ASCII or ISO-8859-1, and there is no custom
+     * record converter. Otherwise, Commons CSV is used.
+     *
+     * @param  fastParser {@code true} for the fast parser, {@code false} for Commons CSV
+     * @return            Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setFastParser(boolean fastParser) {
+        this.fastParser = fastParser;
+        return this;
+    }
+
+    /**
+     * Gets the number of records in each batch when lazily loading the records.
+     *
+     * @return number of records in each batch, or {@code 0} if records are not batched
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of records in each batch when lazily loading the records. The iterator then returns lists of up
+     * to this number of records, instead of the records one at a time.
+     *
+     * @param  batchSize number of records in each batch, or {@code 0} to not batch the records
+     * @return           Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     //endregion
     /**
      * Sets whether to trim leading and trailing blanks.
@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.DuplicateHeaderMode;
+
+/**
+ * A CSV parser which scans the bytes of the input for delimiters, quotes and line breaks 8 bytes at a time (SWAR, SIMD
+ * within a register), and creates the strings of the fields lazily.
+ * <p/>
+ * The parser produces the same records as Commons CSV for the subset of {@link CSVFormat} options it supports (see
+ * {@link #isSupported(CSVFormat, Charset)}), which are the options of the common formats without escape characters,
+ * comments, trimming or null strings. As it scans bytes, the charset must be one where these characters are single
+ * bytes which cannot be part of other characters, such as UTF-8.
+ */
+final class CsvFastParser implements Closeable {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long CR_PATTERN = ONES * '\r';
+    private static final long LF_PATTERN = ONES * '\n';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final byte delimiter;
+    private final long delimiterPattern;
+    private final boolean quoting;
+    private final byte quote;
+    private final long quotePattern;
+    private final boolean ignoreEmptyLines;
+    private final boolean trailingData;
+    private final boolean lenientEof;
+    private final CsvFastRecord row;
+    private final List<String> headerNames;
+    private final Map<String, Integer> headerMap;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    // the start of the current row, the position of the scanner and the end of the data in the buffer
+    private int rowStart;
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private long lineNumber = 1;
+
+    CsvFastParser(InputStream in, CSVFormat format, Charset charset) throws IOException {
+        this.in = in;
+        this.delimiter = (byte) format.getDelimiterString().charAt(0);
+        this.delimiterPattern = ONES * (delimiter & 0xFF);
+        this.quoting = format.getQuoteCharacter() != null;
+        this.quote = quoting ? (byte) format.getQuoteCharacter().charValue() : 0;
+        this.quotePattern = ONES * (quote & 0xFF);
+        this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+        this.trailingData = format.getTrailingData();
+        this.lenientEof = format.getLenientEof();
+        this.row = new CsvFastRecord(charset, quote);
+
+        String[] header = format.getHeader();
+        if (header == null) {
+            this.headerNames = Collections.emptyList();
+            this.headerMap = null;
+        } else {
+            List<String> names;
+            if (header.length == 0) {
+                // the header is the first record
+                CsvFastRecord first = nextRecord();
+                names = first != null ? new ArrayList<>(first) : Collections.emptyList();
+            } else {
+                names = Arrays.asList(header);
+                if (format.getSkipHeaderRecord()) {
+                    nextRecord();
+                }
+            }
+            Map<String, Integer> map = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i);
+                if ((name == null || name.isBlank()) && !format.getAllowMissingColumnNames()) {
+                    throw new IllegalArgumentException("A header name is missing in " + names);
+                }
+                map.put(name, i);
+            }
+            this.headerNames = Collections.unmodifiableList(names);
+            this.headerMap = map;
+        }
+    }
+
+    /**
+     * Whether the format and charset can be parsed by this parser
+     */
+    static boolean isSupported(CSVFormat format, Charset charset) {
+        if (!StandardCharsets.UTF_8.equals(charset) && !StandardCharsets.US_ASCII.equals(charset)
+                && !StandardCharsets.ISO_8859_1.equals(charset)) {
+            return false;
+        }
+        String delimiter = format.getDelimiterString();
+        if (delimiter.length() != 1 || !isSingleByte(delimiter.charAt(0))) {
+            return false;
+        }
+        Character quote = format.getQuoteCharacter();
+        if (quote != null && (!isSingleByte(quote) || quote == delimiter.charAt(0))) {
+            return false;
+        }
+        return format.getEscapeCharacter() == null && format.getCommentMarker() == null && format.getNullString() == null
+                && !format.getIgnoreSurroundingSpaces() && !format.getTrim() && !format.getTrailingDelimiter()
+                && !format.getIgnoreHeaderCase() && format.getMaxRows() <= 0
+                && format.getDuplicateHeaderMode() == DuplicateHeaderMode.ALLOW_ALL;
+    }
+
+    private static boolean isSingleByte(char ch) {
+        return ch < 0x80 && ch != '\r' && ch != '\n';
+    }
+
+    /**
+     * The names of the header, which is empty if the format has no header
+     */
+    List<String> getHeaderNames() {
+        return headerNames;
+    }
+
+    /**
+     * The index of the columns by name, or <tt>null</tt> if the format has no header
+     */
+    Map<String, Integer> getHeaderMap() {
+        return headerMap;
+    }
+
+    /**
+     * Parses the next record
+     *
+     * @return the record, which is reused for the following record, or <tt>null</tt> at the end of the input
+     */
+    CsvFastRecord nextRecord() throws IOException {
+        while (true) {
+            rowStart = pos;
+            row.reset(buffer, rowStart);
+            if (pos == limit && !fill()) {
+                return null;
+            }
+            byte b = buffer[pos];
+            if (b == '\r' || b == '\n') {
+                endOfLine();
+                if (ignoreEmptyLines) {
+                    continue;
+                }
+                row.addField(0, 0, false);
+                return row;
+            }
+            parseRecord();
+            return row;
+        }
+    }
+
+    private void parseRecord() throws IOException {
+        while (true) {
+            int end;
+            if (quoting && pos < limit && buffer[pos] == quote) {
+                end = parseQuoted();
+            } else {
+                // the positions in the row, as the row is moved when reading more data
+                int start = pos - rowStart;
+                end = scan(pos, false);
+                row.addField(start, end - rowStart, false);
+            }
+            if (end == limit) {
+                // end of the input
+                pos = end;
+                return;
+            }
+            if (buffer[end] == delimiter) {
+                pos = end + 1;
+                if (pos == limit && !fill()) {
+                    // the line ends with a delimiter, so the last field is empty
+                    row.addField(pos - rowStart, pos - rowStart, false);
+                    return;
+                }
+            } else {
+                pos = end;
+                endOfLine();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Parses a quoted field starting at the opening quote
+     *
+     * @return the position of the delimiter or line break after the field, or the end of the data at the end of the
+     *         input
+     */
+    private int parseQuoted() throws IOException {
+        long startLine = lineNumber;
+        // the position in the row, as the row is moved when reading more data
+        int start = pos + 1 - rowStart;
+        int i = pos + 1;
+        boolean escaped = false;
+        int end;
+        while (true) {
+            int found = scan(i, true);
+            if (found == limit) {
+                if (!lenientEof) {
+                    throw new IOException("(startline " + startLine + ") EOF reached before encapsulated token finished");
+                }
+                row.addField(start, limit - rowStart, escaped);
+                countLines(rowStart + start, limit);
+                pos = limit;
+                return limit;
+            }
+            // a quote followed by another quote is an escaped quote
+            if (found + 1 == limit) {
+                int shift = rowStart;
+                boolean more = fill();
+                found -= shift - rowStart;
+                if (!more) {
+                    end = found;
+                    break;
+                }
+            }
+            if (buffer[found + 1] == quote) {
+                escaped = true;
+                i = found + 2;
+            } else {
+                end = found;
+                break;
+            }
+        }
+        countLines(rowStart + start, end);
+        if (trailingData) {
+            // the data after the closing quote until the delimiter or the end of the line is part of the field
+            int quoteEnd = end - rowStart;
+            pos = scan(end + 1, false);
+            row.addField(start, quoteEnd, pos - rowStart, escaped);
+            return pos;
+        }
+        row.addField(start, end - rowStart, escaped);
+
+        // skip whitespace until the delimiter or the end of the line
+        pos = end + 1;
+        while (true) {
+            if (pos == limit && !fill()) {
+                return limit;
+            }
+            byte b = buffer[pos];
+            if (b == delimiter || b == '\r' || b == '\n') {
+                return pos;
+            }
+            if (!Character.isWhitespace(b)) {
+                throw new IOException(
+                        "Invalid character between encapsulated token and delimiter at line: " + lineNumber);
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Scans for the end of an unquoted field (a delimiter or line break), or a quote in a quoted field.
+     *
+     * @return the position of the character found, or the end of the data at the end of the input
+     */
+    private int scan(int from, boolean quoted) throws IOException {
+        int i = from;
+        while (true) {
+            byte[] buf = buffer;
+            int end = limit;
+            // 8 bytes at a time
+            while (i + Long.BYTES <= end) {
+                long word = (long) LONG_VIEW.get(buf, i);
+                long mask = quoted
+                        ? match(word, quotePattern)
+                        : match(word, delimiterPattern) | match(word, LF_PATTERN) | match(word, CR_PATTERN);
+                if (mask != 0) {
+                    return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+                }
+                i += Long.BYTES;
+            }
+            // and the remaining bytes one at a time
+            for (; i < end; i++) {
+                byte b = buf[i];
+                if (quoted ? b == quote : b == delimiter || b == '\n' || b == '\r') {
+                    return i;
+                }
+            }
+            int shift = rowStart;
+            if (!fill()) {
+                return limit;
+            }
+            i -= shift - rowStart;
+        }
+    }
+
+    /**
+     * Flags the bytes of the word which are equal to the byte of the pattern. Only the lowest flagged byte is exact, as
+     * the bytes above a match may be flagged as well.
+     */
+    private static long match(long word, long pattern) {
+        long x = word ^ pattern;
+        return (x - ONES) & ~x & HIGH_BITS;
+    }
+
+    private void endOfLine() throws IOException {
+        // a line ends with CR, LF or CRLF
+        if (buffer[pos++] == '\r' && (pos < limit || fill()) && buffer[pos] == '\n') {
+            pos++;
+        }
+        lineNumber++;
+    }
+
+    private void countLines(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '\n' || buffer[i] == '\r' && (i + 1 == end || buffer[i + 1] != '\n')) {
+                lineNumber++;
+            }
+        }
+    }
+
+    /**
+     * Reads more data into the buffer, first moving the current row to the start of the buffer (or growing the buffer
+     * if the row already starts there). All positions in the buffer are moved as well.
+     *
+     * @return <tt>false</tt> at the end of the input
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (rowStart > 0) {
+            int shift = rowStart;
+            System.arraycopy(buffer, rowStart, buffer, 0, limit - rowStart);
+            rowStart = 0;
+            pos -= shift;
+            limit -= shift;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        row.move(buffer, rowStart);
+        int n = in.read(buffer, limit, buffer.length - limit);
+        while (n == 0) {
+            n = in.read(buffer, limit, buffer.length - limit);
+        }
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
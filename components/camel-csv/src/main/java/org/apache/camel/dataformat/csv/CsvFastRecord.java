@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A CSV record parsed by {@link CsvFastParser}.
+ * <p/>
+ * The record is a view of the fields in a byte buffer, and the string of a field is only created when the field is
+ * accessed for the first time. The parser reuses a single record as view of its own buffer for every row, which must be
+ * detached (copying the bytes of the row) before it can be kept after reading the next row.
+ */
+final class CsvFastRecord extends AbstractList<String> implements RandomAccess {
+
+    // marks a field which has been set to null, as null means the field has not been created yet
+    private static final String NULL_VALUE = new String();
+
+    private final Charset charset;
+    private final byte quote;
+    private byte[] buffer;
+    private int offset;
+    private int length;
+    private int size;
+    // the fields as offsets relative to the start of the row, where the quoted content of a field can be followed by
+    // trailing data, and whether the quoted content has escaped (doubled) quotes
+    private int[] starts;
+    private int[] quoteEnds;
+    private int[] ends;
+    private boolean[] escaped;
+    private String[] values;
+
+    CsvFastRecord(Charset charset, byte quote) {
+        this(charset, quote, new int[16], new int[16], new int[16], new boolean[16]);
+    }
+
+    private CsvFastRecord(Charset charset, byte quote, int[] starts, int[] quoteEnds, int[] ends, boolean[] escaped) {
+        this.charset = charset;
+        this.quote = quote;
+        this.starts = starts;
+        this.quoteEnds = quoteEnds;
+        this.ends = ends;
+        this.escaped = escaped;
+        this.values = new String[starts.length];
+    }
+
+    /**
+     * Starts a new row, which begins at the given offset of the buffer
+     */
+    void reset(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = 0;
+        Arrays.fill(values, 0, size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Moves the row (after the parser has compacted or grown its buffer)
+     */
+    void move(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Adds a field of the row
+     *
+     * @param start   the start of the field relative to the start of the row
+     * @param end     the end (exclusive) of the field relative to the start of the row
+     * @param escaped whether the field contains escaped (doubled) quotes
+     */
+    void addField(int start, int end, boolean escaped) {
+        addField(start, end, end, escaped);
+    }
+
+    /**
+     * Adds a quoted field which is followed by trailing data (up to the delimiter)
+     *
+     * @param start    the start of the field relative to the start of the row
+     * @param quoteEnd the position of the closing quote relative to the start of the row
+     * @param end      the end (exclusive) of the trailing data relative to the start of the row
+     * @param escaped  whether the quoted content contains escaped (doubled) quotes
+     */
+    void addField(int start, int quoteEnd, int end, boolean escaped) {
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            quoteEnds = Arrays.copyOf(quoteEnds, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            this.escaped = Arrays.copyOf(this.escaped, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        starts[size] = start;
+        quoteEnds[size] = quoteEnd;
+        ends[size] = end;
+        this.escaped[size] = escaped;
+        size++;
+        length = Math.max(length, end);
+    }
+
+    /**
+     * Copies the row, so it is no longer a view of the buffer of the parser
+     */
+    CsvFastRecord detach() {
+        CsvFastRecord answer = new CsvFastRecord(
+                charset, quote, Arrays.copyOf(starts, size), Arrays.copyOf(quoteEnds, size), Arrays.copyOf(ends, size),
+                Arrays.copyOf(escaped, size));
+        answer.buffer = Arrays.copyOfRange(buffer, offset, offset + length);
+        answer.length = length;
+        answer.size = size;
+        System.arraycopy(values, 0, answer.values, 0, size);
+        return answer;
+    }
+
+    /**
+     * Creates a map of the fields by the given header, like {@link org.apache.commons.csv.CSVRecord#toMap()}
+     */
+    Map<String, String> toMap(Map<String, Integer> header) {
+        Map<String, String> answer = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : header.entrySet()) {
+            int index = entry.getValue();
+            if (index < size) {
+                answer.put(entry.getKey(), get(index));
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        String answer = values[index];
+        if (answer == null) {
+            answer = materialize(index);
+            values[index] = answer;
+        }
+        return answer == NULL_VALUE ? null : answer;
+    }
+
+    @Override
+    public String set(int index, String element) {
+        String answer = get(index);
+        values[index] = element != null ? element : NULL_VALUE;
+        return answer;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private String materialize(int index) {
+        int start = offset + starts[index];
+        int quoteEnd = offset + quoteEnds[index];
+        int end = offset + ends[index];
+        if (!escaped[index] && quoteEnd == end) {
+            return new String(buffer, start, end - start, charset);
+        }
+        byte[] bytes = new byte[end - start];
+        int count = 0;
+        for (int i = start; i < quoteEnd; i++) {
+            byte b = buffer[i];
+            bytes[count++] = b;
+            if (b == quote && escaped[index]) {
+                // remove the second quote of each pair of doubled quotes
+                i++;
+            }
+        }
+        if (quoteEnd < end) {
+            // the trailing data after the closing quote
+            System.arraycopy(buffer, quoteEnd + 1, bytes, count, end - quoteEnd - 1);
+            count += end - quoteEnd - 1;
+        }
+        return new String(bytes, 0, count, charset);
+    }
+}
@@ -21,9 +21,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.support.ExchangeHelper;
@@ -60,10 +63,17 @@ abstract class CsvUnmarshaller {
             format = format.withHeader();
         }
 
+        CsvUnmarshaller answer;
         if (dataFormat.isLazyLoad()) {
-            return new StreamCsvUnmarshaller(format, dataFormat);
+            answer = new StreamCsvUnmarshaller(format, dataFormat);
+        } else {
+            answer = new BulkCsvUnmarshaller(format, dataFormat);
+        }
+        // the fast parser cannot create CSVRecord instances for custom record converters
+        if (dataFormat.isFastParser() && dataFormat.getRecordConverter() == null) {
+            answer = new FastCsvUnmarshaller(format, dataFormat, answer);
         }
-        return new BulkCsvUnmarshaller(format, dataFormat);
+        return answer;
     }
 
     /**
@@ -76,6 +86,14 @@ abstract class CsvUnmarshaller {
      */
     public abstract Object unmarshal(Exchange exchange, Object body) throws Exception;
 
+    /**
+     * Batches the records of the iterator if a batch size is configured
+     */
+    protected Iterator<?> batch(Iterator<?> iterator) {
+        int size = dataFormat.getBatchSize();
+        return size > 0 ? new BatchIterator<>(iterator, size) : iterator;
+    }
+
     private static CsvRecordConverter<?> extractConverter(CsvDataFormat dataFormat) {
         if (dataFormat.getRecordConverter() != null) {
             return dataFormat.getRecordConverter();
@@ -150,7 +168,7 @@ abstract class CsvUnmarshaller {
                 CsvIterator<?> answer = new CsvIterator<>(parser, converter);
                 // add to UoW, so we can close the iterator, so it can release any resources
                 exchange.getExchangeExtension().addOnCompletion(new CsvUnmarshalOnCompletion(answer));
-                return answer;
+                return batch(answer);
             } catch (Exception e) {
                 IOHelper.close(reader);
                 throw e;
@@ -158,6 +176,66 @@ abstract class CsvUnmarshaller {
         }
     }
 
+    /**
+     * This class parses the CSV with {@link CsvFastParser}, and falls back to Commons CSV if the charset of the
+     * exchange is not supported or the body cannot be read as a stream.
+     */
+    private static final class FastCsvUnmarshaller extends CsvUnmarshaller {
+        private final CsvUnmarshaller fallback;
+        private final boolean useMaps;
+
+        private FastCsvUnmarshaller(CSVFormat format, CsvDataFormat dataFormat, CsvUnmarshaller fallback) {
+            super(format, dataFormat);
+            this.fallback = fallback;
+            this.useMaps = dataFormat.isUseMaps() || dataFormat.isUseOrderedMaps();
+        }
+
+        @Override
+        public Object unmarshal(Exchange exchange, Object body) throws Exception {
+            Charset charset = Charset.forName(ExchangeHelper.getCharsetName(exchange));
+            InputStream is = null;
+            if (CsvFastParser.isSupported(format, charset)) {
+                is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, body);
+            }
+            if (is == null) {
+                return fallback.unmarshal(exchange, body);
+            }
+
+            CsvFastParser parser;
+            try {
+                parser = new CsvFastParser(is, format, charset);
+            } catch (Exception e) {
+                IOHelper.close(is);
+                throw e;
+            }
+            if (dataFormat.isCaptureHeaderRecord()) {
+                exchange.getMessage().setHeader(CsvConstants.HEADER_RECORD, parser.getHeaderNames());
+            }
+
+            if (dataFormat.isLazyLoad()) {
+                FastCsvIterator answer = new FastCsvIterator(parser, useMaps);
+                // add to UoW, so we can close the iterator, so it can release any resources
+                exchange.getExchangeExtension().addOnCompletion(new CsvUnmarshalOnCompletion(answer));
+                return batch(answer);
+            }
+            try {
+                List<Object> answer = new ArrayList<>();
+                CsvFastRecord csvRecord;
+                while ((csvRecord = parser.nextRecord()) != null) {
+                    answer.add(convert(parser, csvRecord, useMaps));
+                }
+                return answer;
+            } finally {
+                IOHelper.close(parser);
+            }
+        }
+
+        private static Object convert(CsvFastParser parser, CsvFastRecord csvRecord, boolean useMaps) {
+            // the record is reused by the parser, so it is copied
+            return useMaps ? csvRecord.toMap(parser.getHeaderMap()) : csvRecord.detach();
+        }
+    }
+
     /**
      * This class converts the CSV iterator into the proper result type.
      *
@@ -196,5 +274,94 @@ abstract class CsvUnmarshaller {
             }
         }
     }
+
+    /**
+     * This class iterates the records parsed by {@link CsvFastParser}.
+     */
+    private static final class FastCsvIterator implements Iterator<Object>, Closeable {
+        private final CsvFastParser parser;
+        private final boolean useMaps;
+        private Object next;
+        private boolean done;
+
+        private FastCsvIterator(CsvFastParser parser, boolean useMaps) {
+            this.parser = parser;
+            this.useMaps = useMaps;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                CsvFastRecord csvRecord;
+                try {
+                    csvRecord = parser.nextRecord();
+                } catch (IOException e) {
+                    IOHelper.close(parser);
+                    throw new UncheckedIOException(e);
+                }
+                if (csvRecord == null) {
+                    close();
+                } else {
+                    next = FastCsvUnmarshaller.convert(parser, csvRecord, useMaps);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            done = true;
+            IOHelper.close(parser);
+        }
+    }
+
+    /**
+     * This class groups the records of an iterator into lists.
+     *
+     * @param <T> Record type
+     */
+    private static final class BatchIterator<T> implements Iterator<List<T>>, Closeable {
+        private final Iterator<T> iterator;
+        private final int size;
+
+        private BatchIterator(Iterator<T> iterator, int size) {
+            this.iterator = iterator;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> answer = new ArrayList<>(size);
+            while (answer.size() < size && iterator.hasNext()) {
+                answer.add(iterator.next());
+            }
+            return answer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (iterator instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
     //endregion
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the records of {@link CsvFastParser} with Commons CSV
+ */
+public class CsvFastParserTest {
+
+    @Test
+    void testSameRecordsAsCommonsCsv() throws Exception {
+        String[] inputs = {
+                "", "a", "a,b\nc,d", "a,b\r\nc,d\r\n", "a\rb\r", "a,b\n\n\nc,d", "a,", ",", ",,\n,", "\"\"", "\"\",x,",
+                "a,\"b\"  ,c\n", "a,b\"c\",d\r\ne\rf", "a,b\n\"x\"\"y\",\"\"\"\"\n", "\"a\nb\",\"c\r\nd\"\ne", " \n",
+                "\n", "\n\n", "a\n\nb\n\n", "\"a,b\",c", "été,\"à la\"\n€,x", "a,\"b\"x,c", "a,\"b\"x\"y\"\"z,c\n",
+                "a,\"b\" ,c", "a,\"b\"x\ny", "a,\"b\n", "a,\"b\"\"" };
+        for (String input : inputs) {
+            assertSameRecords(CSVFormat.DEFAULT, input);
+            assertSameRecords(CSVFormat.DEFAULT.withIgnoreEmptyLines(false), input);
+            assertSameRecords(CSVFormat.EXCEL, input);
+            assertSameRecords(CSVFormat.DEFAULT.withQuote(null), input);
+            assertSameRecords(CSVFormat.DEFAULT.withDelimiter('|'), input.replace(',', '|'));
+        }
+    }
+
+    @Test
+    void testSameRecordsAsCommonsCsvAcrossBuffers() throws Exception {
+        Random random = new Random(42);
+        String[] fields = { "", "abc", "\"q,u\"\"o\"\"te\"", "\"multi\nline\"", "é€", "x".repeat(100) };
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 300 * 1024) {
+            int count = 1 + random.nextInt(8);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(fields[random.nextInt(fields.length)]);
+            }
+            sb.append(random.nextBoolean() ? "\r\n" : "\n");
+        }
+        // a field which is larger than the buffer
+        sb.append("\"").append("y\"\"".repeat(40 * 1024)).append("\",end\n");
+        assertSameRecords(CSVFormat.DEFAULT, sb.toString());
+        assertSameRecords(CSVFormat.EXCEL, sb.toString());
+    }
+
+    @Test
+    void testHeader() throws Exception {
+        String input = "h1,,h1\n1,2,3\n4";
+        CSVFormat format = CSVFormat.DEFAULT.withHeader().withAllowMissingColumnNames(true);
+        try (CSVParser expected = CSVParser.parse(input, format);
+             CsvFastParser parser = createParser(format, input)) {
+            assertEquals(expected.getHeaderNames(), parser.getHeaderNames());
+            for (CSVRecord csvRecord : expected) {
+                assertEquals(csvRecord.toMap(), parser.nextRecord().toMap(parser.getHeaderMap()));
+            }
+        }
+
+        format = CSVFormat.DEFAULT.withHeader("x", "y").withSkipHeaderRecord(true);
+        try (CsvFastParser parser = createParser(format, "h1,h2\n1,2,3\n4")) {
+            assertEquals(List.of("x", "y"), parser.getHeaderNames());
+            assertEquals(Map.of("x", "1", "y", "2"), parser.nextRecord().toMap(parser.getHeaderMap()));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> createParser(CSVFormat.DEFAULT.withHeader(), "a,,b"));
+    }
+
+    @Test
+    void testInvalidQuotedField() throws Exception {
+        try (CsvFastParser parser = createParser(CSVFormat.DEFAULT, "a,\"b\"x,c\n")) {
+            assertThrows(IOException.class, parser::nextRecord);
+        }
+        try (CsvFastParser parser = createParser(CSVFormat.DEFAULT, "a,\"b\n")) {
+            assertThrows(IOException.class, parser::nextRecord);
+        }
+    }
+
+    @Test
+    void testLazyRecord() throws Exception {
+        try (CsvFastParser parser = createParser(CSVFormat.DEFAULT, "a,\"b\"\"c\"\n")) {
+            CsvFastRecord csvRecord = parser.nextRecord().detach();
+            assertEquals(List.of("a", "b\"c"), csvRecord);
+            csvRecord.set(0, null);
+            assertEquals(null, csvRecord.get(0));
+            assertEquals(null, parser.nextRecord());
+        }
+    }
+
+    @Test
+    void testIsSupported() {
+        assertTrue(CsvFastParser.isSupported(CSVFormat.DEFAULT, StandardCharsets.UTF_8));
+        assertTrue(CsvFastParser.isSupported(CSVFormat.EXCEL, StandardCharsets.ISO_8859_1));
+        assertTrue(CsvFastParser.isSupported(CSVFormat.RFC4180, StandardCharsets.US_ASCII));
+        assertFalse(CsvFastParser.isSupported(CSVFormat.DEFAULT, StandardCharsets.UTF_16));
+        assertFalse(CsvFastParser.isSupported(CSVFormat.MYSQL, StandardCharsets.UTF_8));
+        assertFalse(CsvFastParser.isSupported(CSVFormat.TDF, StandardCharsets.UTF_8));
+        assertFalse(CsvFastParser.isSupported(CSVFormat.DEFAULT.withCommentMarker('#'), StandardCharsets.UTF_8));
+        assertFalse(CsvFastParser.isSupported(CSVFormat.DEFAULT.withDelimiter('§'), StandardCharsets.UTF_8));
+    }
+
+    private static void assertSameRecords(CSVFormat format, String input) throws IOException {
+        List<List<String>> expected = new ArrayList<>();
+        try (CSVParser parser = CSVParser.parse(input, format)) {
+            for (CSVRecord csvRecord : parser) {
+                expected.add(csvRecord.toList());
+            }
+        } catch (UncheckedIOException e) {
+            // invalid CSV
+            expected = null;
+        }
+        List<List<String>> actual = new ArrayList<>();
+        try (CsvFastParser parser = createParser(format, input)) {
+            CsvFastRecord csvRecord;
+            while ((csvRecord = parser.nextRecord()) != null) {
+                actual.add(new ArrayList<>(csvRecord));
+            }
+        } catch (IOException e) {
+            actual = null;
+        }
+        assertEquals(expected, actual, "Input: " + input);
+    }
+
+    private static CsvFastParser createParser(CSVFormat format, String input) throws IOException {
+        // read a few bytes at a time, so the records are split across reads
+        InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 8191));
+            }
+        };
+        return new CsvFastParser(in, format, StandardCharsets.UTF_8);
+    }
+}
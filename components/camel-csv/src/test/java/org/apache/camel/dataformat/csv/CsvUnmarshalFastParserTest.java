@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.dataformat.csv.TestUtils.asMap;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This class tests unmarshalling with the fast parser
+ */
+public class CsvUnmarshalFastParserTest extends CamelTestSupport {
+    private static final String CSV_SAMPLE = "A,B,C\r\n1,\"2\"\"\",3\r\none,\"t\nwo\",three\r\nx,y,z";
+
+    @EndpointInject("mock:output")
+    MockEndpoint output;
+
+    @EndpointInject("mock:line")
+    MockEndpoint line;
+
+    @Test
+    void shouldUnmarshal() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:default", CSV_SAMPLE);
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(4, body.size());
+        assertEquals(Arrays.asList("A", "B", "C"), body.get(0));
+        assertEquals(Arrays.asList("1", "2\"", "3"), body.get(1));
+        assertEquals(Arrays.asList("one", "t\nwo", "three"), body.get(2));
+        assertEquals(Arrays.asList("x", "y", "z"), body.get(3));
+    }
+
+    @Test
+    void shouldUseMapsAndCaptureHeader() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBody("direct:map", CSV_SAMPLE);
+        output.assertIsSatisfied();
+
+        Message message = output.getExchanges().get(0).getIn();
+        assertEquals(Arrays.asList("A", "B", "C"), message.getHeader(CsvConstants.HEADER_RECORD));
+        List<?> body = assertIsInstanceOf(List.class, message.getBody());
+        assertEquals(3, body.size());
+        assertEquals(asMap("A", "1", "B", "2\"", "C", "3"), body.get(0));
+        assertEquals(asMap("A", "x", "B", "y", "C", "z"), body.get(2));
+    }
+
+    @Test
+    void shouldUseLazyLoadingInBatches() throws Exception {
+        line.expectedMessageCount(2);
+        template.sendBody("direct:lazy", CSV_SAMPLE);
+        line.assertIsSatisfied();
+
+        List<?> batch1 = line.getExchanges().get(0).getIn().getBody(List.class);
+        List<?> batch2 = line.getExchanges().get(1).getIn().getBody(List.class);
+        assertEquals(3, batch1.size());
+        assertEquals(Arrays.asList("A", "B", "C"), batch1.get(0));
+        assertEquals(Arrays.asList("one", "t\nwo", "three"), batch1.get(2));
+        assertEquals(List.of(Arrays.asList("x", "y", "z")), batch2);
+    }
+
+    @Test
+    void shouldFallbackToCommonsCsvForUnsupportedCharset() throws Exception {
+        output.expectedMessageCount(1);
+
+        template.sendBodyAndProperty("direct:default", CSV_SAMPLE, Exchange.CHARSET_NAME, "UTF-16");
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(4, body.size());
+        assertEquals(Arrays.asList("1", "2\"", "3"), body.get(1));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:default").unmarshal(new CsvDataFormat().setFastParser(true)).to("mock:output");
+
+                from("direct:map")
+                        .unmarshal(new CsvDataFormat().setFastParser(true).setUseMaps(true).setCaptureHeaderRecord(true))
+                        .to("mock:output");
+
+                from("direct:lazy")
+                        .unmarshal(new CsvDataFormat().setFastParser(true).setLazyLoad(true).setBatchSize(3))
+                        .split(body()).streaming()
+                        .to("mock:line");
+            }
+        };
+    }
+}
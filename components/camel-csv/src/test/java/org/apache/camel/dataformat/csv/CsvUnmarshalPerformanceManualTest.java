@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the time to unmarshal a big CSV with Commons CSV and with the fast parser
+ */
+@Disabled("this is a manual test")
+public class CsvUnmarshalPerformanceManualTest extends CamelTestSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CsvUnmarshalPerformanceManualTest.class);
+
+    private final int size = 1000 * 1000;
+    private final int runs = 10;
+
+    @Test
+    void testUnmarshalPerformance() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.append(i).append(",Customer ").append(i).append(",\"Street ").append(i % 100)
+                    .append(", City\",").append(i * 1.5).append(",\"said \"\"hello\"\"\",2025-01-01\r\n");
+        }
+        byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < runs; i++) {
+            long commons = unmarshal(new CsvDataFormat().setLazyLoad(true), data);
+            long fast = unmarshal(new CsvDataFormat().setLazyLoad(true).setFastParser(true), data);
+            LOG.info("Unmarshalled {} records with Commons CSV in {}, and with the fast parser in {}", size,
+                    TimeUtils.printDuration(commons, true), TimeUtils.printDuration(fast, true));
+        }
+    }
+
+    private long unmarshal(CsvDataFormat dataFormat, byte[] data) throws Exception {
+        dataFormat.start();
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            StopWatch watch = new StopWatch();
+            Iterator<?> it = (Iterator<?>) dataFormat.unmarshal(exchange, new ByteArrayInputStream(data));
+            int count = 0;
+            while (it.hasNext()) {
+                it.next();
+                count++;
+            }
+            long taken = watch.taken();
+            assertEquals(size, count);
+            return taken;
+        } finally {
+            dataFormat.stop();
+        }
+    }
+}
@@ -16,13 +16,18 @@
  */
 package org.apache.camel.component.disruptor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Consumer;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeExtension;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
@@ -132,7 +137,16 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         return "DisruptorConsumer[" + endpoint + "]";
     }
 
-    private Exchange prepareExchange(final Exchange exchange) {
+    private Exchange prepareExchange(final SynchronizedExchange synchronizedExchange) {
+        final Exchange exchange = synchronizedExchange.getExchange();
+        if (!endpoint.isCopyExchange() && exchange.getPattern() == ExchangePattern.InOnly
+                && synchronizedExchange instanceof SingleConsumerSynchronizedExchange) {
+            // the producer published a correlated copy which nobody else sees, so it can be routed as-is
+            final ExchangeExtension exchangeExtension = exchange.getExchangeExtension();
+            exchangeExtension.setFromEndpoint(endpoint);
+            exchangeExtension.setFromRouteId(null);
+            return exchange;
+        }
         // send a new copied exchange with new camel context
         // don't copy handovers as they are handled by the Disruptor Event Handlers
         final Exchange newExchange = ExchangeHelper.copyExchangeWithProperties(exchange, endpoint.getCamelContext());
@@ -141,20 +155,24 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         return newExchange;
     }
 
+    private static boolean isIgnored(final Exchange exchange) {
+        final boolean ignore = exchange.hasProperties() && exchange
+                .getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
+        if (ignore) {
+            // Property was set and it was set to true, so don't process Exchange.
+            LOGGER.trace("Ignoring exchange {}", exchange);
+        }
+        return ignore;
+    }
+
     private void process(final SynchronizedExchange synchronizedExchange) {
         try {
-            Exchange exchange = synchronizedExchange.getExchange();
-
-            final boolean ignore = exchange.hasProperties() && exchange
-                    .getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
-            if (ignore) {
-                // Property was set and it was set to true, so don't process Exchange.
-                LOGGER.trace("Ignoring exchange {}", exchange);
+            if (isIgnored(synchronizedExchange.getExchange())) {
                 return;
             }
 
             // send a new copied exchange with new camel context
-            final Exchange result = prepareExchange(exchange);
+            final Exchange result = prepareExchange(synchronizedExchange);
 
             // We need to be notified when the exchange processing is complete to synchronize the original exchange
             // This is however, the last part of the processing of this exchange and as such can't be done
@@ -173,6 +191,29 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         }
     }
 
+    private void processBatch(final List<SynchronizedExchange> synchronizedExchanges) {
+        try {
+            final List<Exchange> results = new ArrayList<>(synchronizedExchanges.size());
+            for (SynchronizedExchange synchronizedExchange : synchronizedExchanges) {
+                results.add(prepareExchange(synchronizedExchange));
+            }
+
+            final Exchange batch = endpoint.createExchange();
+            batch.getIn().setBody(results);
+            batch.setProperty(ExchangePropertyKey.BATCH_SIZE, results.size());
+
+            // the original exchanges are synchronized when the batch exchange is done, as with single exchanges
+            batch.getExchangeExtension().addOnCompletion(newBatchSynchronization(synchronizedExchanges, results));
+
+            processor.process(batch, NOOP_ASYNC_CALLBACK);
+
+        } catch (Exception e) {
+            for (SynchronizedExchange synchronizedExchange : synchronizedExchanges) {
+                handleException(synchronizedExchange, e);
+            }
+        }
+    }
+
     private static Synchronization newSynchronization(SynchronizedExchange synchronizedExchange, Exchange result) {
         return new Synchronization() {
             @Override
@@ -187,6 +228,30 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         };
     }
 
+    private static Synchronization newBatchSynchronization(
+            List<SynchronizedExchange> synchronizedExchanges, List<Exchange> results) {
+        return new Synchronization() {
+            @Override
+            public void onComplete(Exchange exchange) {
+                for (int i = 0; i < results.size(); i++) {
+                    synchronizedExchanges.get(i).consumed(results.get(i));
+                }
+            }
+
+            @Override
+            public void onFailure(Exchange exchange) {
+                for (int i = 0; i < results.size(); i++) {
+                    final Exchange result = results.get(i);
+                    // the batch failed as a whole, so fail the exchanges that did not fail on their own
+                    if (result.getException() == null) {
+                        result.setException(exchange.getException());
+                    }
+                    synchronizedExchanges.get(i).consumed(result);
+                }
+            }
+        };
+    }
+
     private void handleException(SynchronizedExchange synchronizedExchange, Exception e) {
         Exchange exchange = synchronizedExchange.getExchange();
 
@@ -218,9 +283,17 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
 
         private final int concurrentConsumers;
 
+        private final boolean batching;
+
+        private final int maxBatchSize;
+
+        private List<SynchronizedExchange> pending;
+
         ConsumerEventHandler(final int ordinal, final int concurrentConsumers) {
             this.ordinal = ordinal;
             this.concurrentConsumers = concurrentConsumers;
+            this.batching = endpoint.isBatching();
+            this.maxBatchSize = endpoint.getMaxBatchSize();
         }
 
         @Override
@@ -232,7 +305,38 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
             // which can be used to determine whether he should process the exchange, or leave it for his brethren.
             //see http://code.google.com/p/disruptor/wiki/FrequentlyAskedQuestions#How_do_you_arrange_a_Disruptor_with_multiple_consumers_so_that_e
             if (sequence % concurrentConsumers == ordinal) {
-                process(event.getSynchronizedExchange());
+                if (batching) {
+                    addToBatch(event.getSynchronizedExchange());
+                } else {
+                    process(event.getSynchronizedExchange());
+                }
+            }
+            // the Disruptor signals the end of the events that are currently available, so deliver what we have
+            // collected rather than waiting for more events to arrive
+            if (batching && endOfBatch) {
+                flushBatch();
+            }
+        }
+
+        private void addToBatch(final SynchronizedExchange synchronizedExchange) {
+            if (isIgnored(synchronizedExchange.getExchange())) {
+                return;
+            }
+            if (pending == null) {
+                pending = new ArrayList<>();
+            }
+            pending.add(synchronizedExchange);
+            if (maxBatchSize > 0 && pending.size() >= maxBatchSize) {
+                flushBatch();
+            }
+        }
+
+        private void flushBatch() {
+            if (pending != null) {
+                // the list is handed over to the batch exchange, so start a new one for the next batch
+                final List<SynchronizedExchange> batch = pending;
+                pending = null;
+                processBatch(batch);
             }
         }
 
@@ -79,6 +79,12 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
     private DisruptorWaitStrategy waitStrategy;
     @UriParam(label = "producer", defaultValue = "Multi")
     private DisruptorProducerType producerType;
+    @UriParam(label = "consumer,advanced")
+    private boolean batching;
+    @UriParam(label = "consumer,advanced")
+    private int maxBatchSize;
+    @UriParam(label = "consumer,advanced", defaultValue = "true")
+    private boolean copyExchange = true;
 
     public DisruptorEndpoint(final String endpointUri, final Component component,
                              final DisruptorReference disruptorReference) {
@@ -240,6 +246,49 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
         this.producerType = producerType;
     }
 
+    @ManagedAttribute(description = "Whether the consumer delivers exchanges in batches")
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether the consumer delivers the exchanges available in the ringbuffer in batches instead of one by one. When
+     * enabled, the exchanges taken from the ringbuffer until the Disruptor signals the end of a batch are routed as a
+     * single exchange whose body is a java.util.List holding one exchange per message (the same layout as the grouped
+     * exchanges of the aggregator). The original exchanges are completed when the batch exchange completes.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    @ManagedAttribute(description = "Maximum number of exchanges in a batch")
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum number of exchanges delivered in a batch when batching is enabled. A batch is delivered when the
+     * Disruptor signals the end of a batch or when it reaches this size. Use 0 or a negative value for no limit (a
+     * batch is then bounded by the size of the ringbuffer).
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @ManagedAttribute(description = "Whether the consumer routes a copy of the exchanges taken from the ringbuffer")
+    public boolean isCopyExchange() {
+        return copyExchange;
+    }
+
+    /**
+     * Whether the consumer routes a copy of the exchanges taken from the ringbuffer. The producer already publishes a
+     * correlated copy of the exchange, so when this option is disabled InOnly exchanges are routed as-is, which saves
+     * an exchange copy per message. InOut exchanges, and exchanges delivered to multiple consumers, are always copied.
+     */
+    public void setCopyExchange(boolean copyExchange) {
+        this.copyExchange = copyExchange;
+    }
+
     @Override
     public Producer createProducer() throws Exception {
         if (getProducers().size() == 1 && getDisruptor().getProducerType() == DisruptorProducerType.Single) {
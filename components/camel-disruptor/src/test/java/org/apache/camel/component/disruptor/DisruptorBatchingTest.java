@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.disruptor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DisruptorBatchingTest extends CamelTestSupport {
+
+    private final Set<String> routedIds = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void testBatching() throws Exception {
+        final MockEndpoint batches = getMockEndpoint("mock:batches");
+        final MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("disruptor:batch?maxBatchSize=10", i);
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        int total = 0;
+        for (Exchange batch : batches.getReceivedExchanges()) {
+            final List<?> body = batch.getMessage().getBody(List.class);
+            assertTrue(body.size() <= 10, "Batch should not exceed the max batch size: " + body.size());
+            assertEquals(body.size(), batch.getProperty(Exchange.BATCH_SIZE, Integer.class));
+            total += body.size();
+        }
+        assertEquals(100, total);
+    }
+
+    @Test
+    void testBatchingInOut() throws Exception {
+        final Object reply = template.requestBody("disruptor:batch?maxBatchSize=10", "Hello World");
+        assertEquals("Hello World", reply);
+    }
+
+    @Test
+    void testNoCopyInOnly() throws Exception {
+        final MockEndpoint result = getMockEndpoint("mock:nocopy");
+        result.expectedBodiesReceived("Hello World");
+
+        final Exchange sent = template.send("disruptor:nocopy", ExchangePattern.InOnly,
+                exchange -> exchange.getIn().setBody("Hello World"));
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the exchange published by the producer is routed as-is
+        final Exchange received = result.getReceivedExchanges().get(0);
+        assertEquals(sent.getExchangeId(), received.getProperty(Exchange.CORRELATION_ID));
+        assertTrue(routedIds.contains(received.getExchangeId()));
+        assertEquals("disruptor://nocopy?copyExchange=false", received.getFromEndpoint().getEndpointUri());
+    }
+
+    @Test
+    void testNoCopyInOut() throws Exception {
+        getMockEndpoint("mock:nocopy").expectedBodiesReceived("Hello World");
+
+        assertEquals("Hello World", template.requestBody("disruptor:nocopy", "Hello World"));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("disruptor:batch?batching=true&maxBatchSize=10")
+                        .to("mock:batches")
+                        .split(body())
+                        .to("mock:result");
+
+                from("disruptor:nocopy?copyExchange=false")
+                        .process(exchange -> routedIds.add(exchange.getExchangeId()))
+                        .to("mock:nocopy");
+            }
+        };
+    }
+}
@@ -61,6 +61,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": target.setDelete(property(camelContext, boolean.class, value)); return true;
         case "directorymustexist":
         case "directoryMustExist": target.setDirectoryMustExist(property(camelContext, boolean.class, value)); return true;
+        case "directoryscanparallelism":
+        case "directoryScanParallelism": target.setDirectoryScanParallelism(property(camelContext, int.class, value)); return true;
         case "donefilename":
         case "doneFileName": target.setDoneFileName(property(camelContext, java.lang.String.class, value)); return true;
         case "eagerdeletetargetfile":
@@ -204,6 +206,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "watchchanges":
+        case "watchChanges": target.setWatchChanges(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -249,6 +253,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": return boolean.class;
         case "directorymustexist":
         case "directoryMustExist": return boolean.class;
+        case "directoryscanparallelism":
+        case "directoryScanParallelism": return int.class;
         case "donefilename":
         case "doneFileName": return java.lang.String.class;
         case "eagerdeletetargetfile":
@@ -392,6 +398,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "watchchanges":
+        case "watchChanges": return boolean.class;
         default: return null;
         }
     }
@@ -438,6 +446,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": return target.isDelete();
         case "directorymustexist":
         case "directoryMustExist": return target.isDirectoryMustExist();
+        case "directoryscanparallelism":
+        case "directoryScanParallelism": return target.getDirectoryScanParallelism();
         case "donefilename":
         case "doneFileName": return target.getDoneFileName();
         case "eagerdeletetargetfile":
@@ -581,6 +591,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "watchchanges":
+        case "watchChanges": return target.isWatchChanges();
         default: return null;
         }
     }
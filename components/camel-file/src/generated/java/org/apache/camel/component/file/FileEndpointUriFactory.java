@@ -23,7 +23,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(100);
+        Set<String> props = new HashSet<>(102);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -46,6 +46,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("delete");
         props.add("directoryMustExist");
         props.add("directoryName");
+        props.add("directoryScanParallelism");
         props.add("doneFileName");
         props.add("eagerDeleteTargetFile");
         props.add("eagerMaxMessagesPerPoll");
@@ -124,6 +125,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("tempPrefix");
         props.add("timeUnit");
         props.add("useFixedDelay");
+        props.add("watchChanges");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         Set<String> prefixes = new HashSet<>(1);
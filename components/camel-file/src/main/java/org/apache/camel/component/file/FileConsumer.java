@@ -21,13 +21,19 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.apache.camel.Exchange;
@@ -38,7 +44,10 @@ import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
 import org.apache.camel.resume.ResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
+import org.apache.camel.spi.PollingConsumerPollStrategy;
+import org.apache.camel.support.DefaultScheduledPollConsumerScheduler;
 import org.apache.camel.support.resume.Resumables;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.function.Suppliers;
@@ -54,6 +63,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    private ForkJoinPool scanPool;
+    private Map<File, File[]> scannedDirectories;
+    private FileWatchPollTrigger watchPollTrigger;
+    private final Lock pollLock = new ReentrantLock();
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -87,7 +100,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         }
 
         if (getEndpoint().isPreSort()) {
-            Arrays.sort(files, Comparator.comparing(File::getAbsoluteFile));
+            // all the files are from the same directory so sorting by their path
+            // gives the same order as by absolute path without creating new files
+            Arrays.sort(files);
         }
 
         if (processPolledFiles(dynamic, fileList, depth, files)) {
@@ -210,6 +225,18 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
+        if (scanPool != null && depth == 0) {
+            // list the directory tree in parallel up front, and then walk the listings
+            // sequentially so files are selected in the same order as a sequential scan
+            scannedDirectories = new ConcurrentHashMap<>();
+            try {
+                scanPool.invoke(new DirectoryScanTask(directory, depth + 1));
+                return pollDirectory(dynamic, directory, fileList, depth);
+            } finally {
+                scannedDirectories = null;
+            }
+        }
+
         return pollDirectory(dynamic, directory, fileList, depth);
     }
 
@@ -217,7 +244,12 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
             return null;
         }
-        final File[] dirFiles = directory.listFiles();
+        final File[] dirFiles;
+        if (scannedDirectories != null && scannedDirectories.containsKey(directory)) {
+            dirFiles = scannedDirectories.remove(directory);
+        } else {
+            dirFiles = directory.listFiles();
+        }
 
         if (dirFiles == null || dirFiles.length == 0) {
             // no files in this directory to poll
@@ -407,6 +439,16 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             resumeStrategy.loadCache();
         }
 
+        int parallelism = getEndpoint().getDirectoryScanParallelism();
+        if (parallelism > 0 && getEndpoint().isRecursive()) {
+            final String name = "Camel (" + getEndpoint().getCamelContext().getName() + ") file scan " + endpointPath;
+            scanPool = new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(name + " #" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+
         // turn off scheduler first, so autoCreate is handled before scheduler
         // starts
         boolean startScheduler = isStartScheduler();
@@ -429,6 +471,70 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         }
 
         super.doStart();
+
+        if (getEndpoint().isWatchChanges()) {
+            if (getScheduler() instanceof DefaultScheduledPollConsumerScheduler scheduler
+                    && scheduler.getScheduledExecutorService() != null) {
+                watchPollTrigger = new FileWatchPollTrigger(this, scheduler.getScheduledExecutorService());
+                ServiceHelper.startService(watchPollTrigger);
+            } else {
+                LOG.warn("Cannot use watchChanges with a custom scheduler: {}. Only the scheduled polls will be used.",
+                        getScheduler());
+            }
+        }
+    }
+
+    @Override
+    protected int poll() throws Exception {
+        // polls triggered by watchChanges may run on another thread of the scheduler, so polls must not overlap
+        pollLock.lock();
+        try {
+            return super.poll();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Polls the directory when triggered by changes from the {@link FileWatchPollTrigger}.
+     * <p/>
+     * This is not a scheduled poll, so it does not count towards the backoff and the repeat count of the scheduler.
+     */
+    void triggeredPoll() {
+        if (!isRunAllowed() || isSuspended() || !isPollAllowed()) {
+            return;
+        }
+
+        PollingConsumerPollStrategy strategy = getPollStrategy();
+        try {
+            if (strategy.begin(this, getEndpoint())) {
+                int polledMessages = poll();
+                LOG.trace("Polled {} messages triggered by changes in directory", polledMessages);
+                strategy.commit(this, getEndpoint(), polledMessages);
+            }
+        } catch (Exception e) {
+            try {
+                strategy.rollback(this, getEndpoint(), 0, e);
+            } catch (Exception t) {
+                LOG.debug("Error during rollback of triggered poll. This exception is ignored.", t);
+            }
+            if (isRunAllowed()) {
+                getExceptionHandler().handleException("Failed polling endpoint: " + getEndpoint()
+                                                      + ". Will try again at next poll",
+                        e);
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(watchPollTrigger);
+        watchPollTrigger = null;
+        super.doStop();
+        if (scanPool != null) {
+            scanPool.shutdownNow();
+            scanPool = null;
+        }
     }
 
     private void tryCreateDirectory(File file) throws FileNotFoundException {
@@ -473,4 +579,41 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     public String adapterFactoryService() {
         return "file-adapter-factory";
     }
+
+    /**
+     * Lists a directory, and forks listing of its sub directories (up to the max depth), storing the listings in
+     * {@link #scannedDirectories} so the sequential scan does not need to list the directories again.
+     */
+    private final class DirectoryScanTask extends RecursiveAction {
+
+        private final File directory;
+        private final int depth;
+
+        private DirectoryScanTask(File directory, int depth) {
+            this.directory = directory;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
+                return;
+            }
+            File[] files = directory.listFiles();
+            if (files == null) {
+                return;
+            }
+            scannedDirectories.put(directory, files);
+
+            if (depth < getEndpoint().getMaxDepth()) {
+                List<DirectoryScanTask> tasks = new ArrayList<>();
+                for (File file : files) {
+                    if (file.isDirectory() && isMatchedHiddenFile(null, file.getName(), true)) {
+                        tasks.add(new DirectoryScanTask(file, depth + 1));
+                    }
+                }
+                invokeAll(tasks);
+            }
+        }
+    }
 }
@@ -78,8 +78,12 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     @UriParam(label = "consumer,advanced")
     private boolean directoryMustExist;
     @UriParam(label = "consumer,advanced")
+    private int directoryScanParallelism;
+    @UriParam(label = "consumer,advanced")
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
+    private boolean watchChanges;
+    @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
@@ -353,6 +357,35 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.directoryMustExist = directoryMustExist;
     }
 
+    public int getDirectoryScanParallelism() {
+        return directoryScanParallelism;
+    }
+
+    /**
+     * To list the sub directories of a recursive consumer in parallel using a fork-join pool with the given
+     * parallelism. This can speed up polling of large directory trees as the directories are listed concurrently, while
+     * the files are still selected and processed in the same order as when scanning sequentially. This option is
+     * disabled by default (0), and only applies when recursive is enabled.
+     */
+    public void setDirectoryScanParallelism(int directoryScanParallelism) {
+        this.directoryScanParallelism = directoryScanParallelism;
+    }
+
+    public boolean isWatchChanges() {
+        return watchChanges;
+    }
+
+    /**
+     * Whether to use a java.nio.file.WatchService to watch the directory (and sub directories when recursive is
+     * enabled) for new or modified files, and trigger a poll as soon as a change is detected, instead of waiting for
+     * the next scheduled poll. The scheduled polls continue to run as a safety net (for example if the file system does
+     * not support watching), and the delay option can therefore be set to a higher value. All the other consumer
+     * options such as readLock, move, idempotent and doneFileName apply as usual.
+     */
+    public void setWatchChanges(boolean watchChanges) {
+        this.watchChanges = watchChanges;
+    }
+
     public boolean isForceWrites() {
         return forceWrites;
     }
@@ -17,7 +17,7 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -27,9 +27,9 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -472,50 +472,112 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
+        if (target.exists() && Files.isSameFile(source.toPath(), target.toPath())) {
+            // writing the file to itself would truncate the source before it is read
+            LOG.trace("writeFileByFile source and target is the same file: {}", target);
+            return;
+        }
+
         // in case we are using file locks as read-locks then we need to use
-        // file channels for copying to support this
+        // the already opened file channel for copying to support this
         String path = source.getAbsolutePath();
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
         if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
-                LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+            try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
+                LOG.trace("writeFileByFile using read lock FileChannel: {} -> {}", source, target);
+                transferFully(channel, 0, out);
+            }
+        } else if (!Files.isRegularFile(source.toPath())) {
+            // special files (such as pipes) do not have a known size, so they cannot be transferred by file channels
+            try (InputStream in = Files.newInputStream(source.toPath());
+                 SeekableByteChannel out = Files.newByteChannel(target.toPath(), StandardOpenOption.WRITE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
+                LOG.trace("writeFileByFile using InputStream: {} -> {}", source, target);
+                writeStreamToChannel(in, out);
             }
         } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            // use file channels so the OS can copy the content without
+            // moving the bytes through the JVM heap (zero-copy)
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
+                LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
+                transferFully(in, 0, out);
+            }
+        }
+    }
+
+    /**
+     * Transfers the content of the input channel, from the given position, to the output channel. The transfer is done
+     * in a loop as {@link FileChannel#transferTo(long, long, WritableByteChannel)} may transfer fewer bytes than
+     * requested (for example for files larger than 2gb).
+     *
+     * @throws IOException if the input ends before its size, such as when the file is truncated while copying
+     */
+    private static void transferFully(FileChannel in, long position, WritableByteChannel out) throws IOException {
+        long size = in.size();
+        long pos = position;
+        while (pos < size) {
+            long transferred = in.transferTo(pos, size - pos, out);
+            if (transferred <= 0) {
+                throw new IOException("Cannot transfer file content as only " + pos + " of " + size + " bytes could be read");
+            }
+            pos += transferred;
+        }
+    }
+
+    /**
+     * The position of the channel of the stream, if the stream is backed by a regular file, which content can be
+     * transferred using file channels, or -1 otherwise. Special files (such as pipes, /dev/stdin or /proc files) report
+     * a size of 0 and may not support positioning.
+     */
+    private static long transferablePosition(FileChannel channel) {
+        try {
+            long position = channel.position();
+            return channel.size() > position ? position : -1;
+        } catch (IOException e) {
+            return -1;
         }
     }
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
-            LOG.debug("Using InputStream to write file: {}", target);
-            int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
-            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                if (bytesRead < size) {
-                    ((Buffer) byteBuffer).limit(bytesRead);
-                }
-                out.write(byteBuffer);
-                ((Buffer) byteBuffer).clear();
+            long position = in instanceof FileInputStream fis ? transferablePosition(fis.getChannel()) : -1;
+            if (position >= 0) {
+                // the stream is backed by a regular file so we can transfer using file channels (zero-copy)
+                LOG.debug("Using FileInputStream channel to write file: {}", target);
+                transferFully(((FileInputStream) in).getChannel(), position, out);
+            } else {
+                LOG.debug("Using InputStream to write file: {}", target);
+                writeStreamToChannel(in, out);
             }
 
             boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+                ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
                 out.write(byteBuffer);
-                Buffer buf = byteBuffer;
-                buf.clear();
             }
         } finally {
             IOHelper.close(in, target.getName(), LOG);
         }
     }
 
+    private void writeStreamToChannel(InputStream in, WritableByteChannel out) throws IOException {
+        int size = endpoint.getBufferSize();
+        byte[] buffer = new byte[size];
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+        int bytesRead;
+        while ((bytesRead = in.read(buffer)) != -1) {
+            if (bytesRead < size) {
+                ((Buffer) byteBuffer).limit(bytesRead);
+            }
+            out.write(byteBuffer);
+            ((Buffer) byteBuffer).clear();
+        }
+    }
+
     private void writeFileByReaderWithCharset(Reader in, File target, String charset) throws IOException {
         boolean append = endpoint.getFileExist() == GenericFileExist.Append;
         try (Writer out = Files.newBufferedWriter(target.toPath(), Charset.forName(charset), StandardOpenOption.WRITE,
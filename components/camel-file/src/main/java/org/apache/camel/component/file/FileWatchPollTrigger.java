@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Uses a {@link WatchService} to watch the directory of a {@link FileConsumer} for new or modified files, and then
+ * triggers a poll of the consumer immediately, instead of waiting for the next scheduled poll.
+ * <p/>
+ * The triggered polls are executed by the given executor, which is the executor of the scheduler. The executor may
+ * have more than one thread, so {@link FileConsumer#triggeredPoll()} serializes the triggered polls with the scheduled
+ * polls. The triggered polls do not count towards the backoff and repeat count of the scheduled polls. Changes that
+ * happen while a triggered poll is pending are coalesced into that poll.
+ */
+final class FileWatchPollTrigger extends ServiceSupport implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileWatchPollTrigger.class);
+
+    private final FileConsumer consumer;
+    private final ExecutorService pollExecutor;
+    private final AtomicBoolean pollPending = new AtomicBoolean();
+    private WatchService watchService;
+    private ExecutorService watchExecutor;
+
+    FileWatchPollTrigger(FileConsumer consumer, ExecutorService pollExecutor) {
+        this.consumer = consumer;
+        this.pollExecutor = pollExecutor;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        FileEndpoint endpoint = consumer.getEndpoint();
+        watchService = FileSystems.getDefault().newWatchService();
+        registerDirectories(endpoint.getFile().toPath(), 1);
+
+        watchExecutor = endpoint.getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this,
+                "FileWatchPollTrigger");
+        watchExecutor.submit(this);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        IOHelper.close(watchService);
+        watchService = null;
+        if (watchExecutor != null) {
+            consumer.getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(watchExecutor);
+            watchExecutor = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        WatchService watcher = watchService;
+        while (isRunAllowed()) {
+            WatchKey key;
+            try {
+                key = watcher.take();
+            } catch (ClosedWatchServiceException e) {
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            boolean trigger = false;
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    LOG.debug("WatchService overflow for directory: {}. Triggering poll.", dir);
+                    trigger = true;
+                    continue;
+                }
+                Path name = (Path) event.context();
+                if (isIgnored(name.toString())) {
+                    continue;
+                }
+                Path path = dir.resolve(name);
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                    registerDirectories(path, depthOf(path));
+                }
+                LOG.trace("WatchService event: {} on file: {}", event.kind(), path);
+                trigger = true;
+            }
+            key.reset();
+
+            if (trigger) {
+                triggerPoll();
+            }
+        }
+    }
+
+    private void triggerPoll() {
+        // only have one pending triggered poll, as one poll picks up all the changes
+        if (pollPending.compareAndSet(false, true)) {
+            pollExecutor.execute(() -> {
+                pollPending.set(false);
+                LOG.trace("Triggering poll due to changes in directory: {}", consumer.getEndpoint().getFile());
+                consumer.triggeredPoll();
+            });
+        }
+    }
+
+    private boolean isIgnored(String name) {
+        // marker lock files are created/deleted by the consumer itself while processing files
+        if (name.endsWith(FileComponent.DEFAULT_LOCK_FILE_POSTFIX)) {
+            return true;
+        }
+        return name.startsWith(".") && !consumer.getEndpoint().isIncludeHiddenFiles()
+                && !consumer.getEndpoint().isIncludeHiddenDirs();
+    }
+
+    private int depthOf(Path path) {
+        Path root = consumer.getEndpoint().getFile().toPath();
+        return root.relativize(path).getNameCount() + 1;
+    }
+
+    private void registerDirectories(Path dir, int depth) {
+        FileEndpoint endpoint = consumer.getEndpoint();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        if (depth > 1 && (!endpoint.isRecursive() || depth > endpoint.getMaxDepth())) {
+            return;
+        }
+        try {
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            LOG.trace("Watching directory: {}", dir);
+            if (endpoint.isRecursive() && depth < endpoint.getMaxDepth()) {
+                try (Stream<Path> children = Files.list(dir)) {
+                    children.filter(Files::isDirectory)
+                            .filter(p -> endpoint.isIncludeHiddenDirs() || !p.getFileName().toString().startsWith("."))
+                            .forEach(p -> registerDirectories(p, depth + 1));
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // we are stopping
+        } catch (IOException e) {
+            LOG.warn("Cannot watch directory: {} due to: {}. Changes in this directory are picked up by the scheduled poll.",
+                    dir, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileWatchPollTrigger[" + consumer.getEndpoint().getFile() + "]";
+    }
+}
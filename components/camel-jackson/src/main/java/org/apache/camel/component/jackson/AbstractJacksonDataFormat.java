@@ -35,6 +35,7 @@ import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
@@ -51,9 +52,12 @@ import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatContentTypeHeader;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.CastUtils;
+import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +67,7 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractJacksonDataFormat extends ServiceSupport
         implements DataFormat, DataFormatName, DataFormatContentTypeHeader, CamelContextAware {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractJacksonDataFormat.class);
+    private static final int CACHE_SIZE = 100;
 
     private CamelContext camelContext;
     private ObjectMapper objectMapper;
@@ -91,6 +96,12 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private SchemaResolver schemaResolver;
     private boolean autoDiscoverSchemaResolver = true;
     private String namingStrategy;
+    private boolean streaming;
+
+    // the readers and writers are immutable and thread-safe, so they are created once and reused
+    private final Map<FormatSchema, ObjectWriter> writers = LRUCacheFactory.newLRUCache(CACHE_SIZE);
+    private final Map<ReaderKey, ObjectReader> readers = LRUCacheFactory.newLRUCache(CACHE_SIZE);
+    private volatile ObjectWriter defaultWriter;
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
@@ -160,11 +171,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (this.schemaResolver != null) {
             schema = this.schemaResolver.resolve(exchange);
         }
-        ObjectWriter objectWriter = this.objectMapper.writerWithView(jsonView);
-        if (combineUnicodeSurrogates) {
-            objectWriter = objectWriter.with(JsonWriteFeature.COMBINE_UNICODE_SURROGATES_IN_UTF8);
-        }
-        objectWriter.with(schema).writeValue(stream, graph);
+        getWriter(schema).writeValue(stream, graph);
 
         if (contentTypeHeader) {
             exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, getDefaultContentType());
@@ -195,18 +202,15 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
 
-        ObjectReader reader;
-        if (collectionType != null) {
-            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            reader = this.objectMapper.readerFor(collType).with(schema);
-        } else {
-            reader = this.objectMapper.reader(schema).forType(clazz);
-        }
-
         // unwrap file (such as from camel-file)
         if (body instanceof WrappedFile<?>) {
             body = ((WrappedFile<?>) body).getBody();
         }
+        if (streaming) {
+            return unmarshalStreaming(exchange, body, getReader(clazz, schema, false));
+        }
+
+        ObjectReader reader = getReader(clazz, schema, collectionType != null);
         Object answer;
         if (body instanceof String b) {
             answer = reader.readValue(b);
@@ -227,6 +231,79 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         return answer;
     }
 
+    private Object unmarshalStreaming(Exchange exchange, Object body, ObjectReader reader) throws Exception {
+        MappingIterator<?> answer;
+        if (body instanceof String b) {
+            answer = reader.readValues(b);
+        } else if (body instanceof byte[] arr) {
+            answer = reader.readValues(arr);
+        } else if (body instanceof Reader r) {
+            answer = reader.readValues(r);
+        } else if (body instanceof File f) {
+            answer = reader.readValues(f);
+        } else if (body instanceof JsonNode n) {
+            answer = reader.readValues(reader.treeAsTokens(n));
+        } else {
+            // fallback to input stream
+            InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, body);
+            answer = reader.readValues(is);
+        }
+        // add to UoW, so we can close the iterator, so it can release any resources
+        exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                IOHelper.close(answer);
+            }
+        });
+        return answer;
+    }
+
+    /**
+     * Gets the (cached) writer for the schema
+     */
+    private ObjectWriter getWriter(FormatSchema schema) {
+        ObjectWriter writer = defaultWriter;
+        if (writer == null) {
+            writer = this.objectMapper.writerWithView(jsonView);
+            if (combineUnicodeSurrogates) {
+                writer = writer.with(JsonWriteFeature.COMBINE_UNICODE_SURROGATES_IN_UTF8);
+            }
+            defaultWriter = writer;
+        }
+        if (schema == null) {
+            return writer;
+        }
+        ObjectWriter answer = writers.get(schema);
+        if (answer == null) {
+            answer = writer.with(schema);
+            writers.put(schema, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the (cached) reader for the type and schema
+     *
+     * @param collection whether to read a collection of the type
+     */
+    private ObjectReader getReader(Class<?> clazz, FormatSchema schema, boolean collection) {
+        ReaderKey key = new ReaderKey(clazz, schema, collection);
+        ObjectReader answer = readers.get(key);
+        if (answer == null) {
+            if (collection) {
+                CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
+                answer = this.objectMapper.readerFor(collType).with(schema);
+            } else {
+                answer = this.objectMapper.reader(schema).forType(clazz);
+            }
+            readers.put(key, answer);
+        }
+        return answer;
+    }
+
+    private record ReaderKey(Class<?> type, FormatSchema schema, boolean collection) {
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -236,6 +313,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        clearCaches();
     }
 
     public boolean isUseDefaultObjectMapper() {
@@ -268,6 +346,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setCombineUnicodeSurrogates(boolean combineUnicodeSurrogates) {
         this.combineUnicodeSurrogates = combineUnicodeSurrogates;
+        clearCaches();
     }
 
     public Class<? extends Collection> getCollectionType() {
@@ -276,6 +355,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setCollectionType(Class<? extends Collection> collectionType) {
         this.collectionType = collectionType;
+        clearCaches();
     }
 
     public String getCollectionTypeName() {
@@ -292,6 +372,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setJsonView(Class<?> jsonView) {
         this.jsonView = jsonView;
+        clearCaches();
     }
 
     public String getJsonViewTypeName() {
@@ -480,6 +561,19 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         this.schemaResolver = schemaResolver;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * If enabled then unmarshal returns an {@link Iterator} which reads the values one at a time, such as the elements
+     * of a JSON array, so big arrays can be split in streaming mode without reading all the elements into memory. The
+     * unmarshal type is the type of the elements.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public boolean isAutoDiscoverSchemaResolver() {
         return autoDiscoverSchemaResolver;
     }
@@ -627,6 +721,15 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         } else {
             LOG.debug("The option autoDiscoverSchemaResolver is set to false, Camel won't search in the registry");
         }
+
+        // the object mapper has been configured, so any readers and writers created before are stale
+        clearCaches();
+    }
+
+    private void clearCaches() {
+        defaultWriter = null;
+        readers.clear();
+        writers.clear();
     }
 
     private boolean resolveObjectMapper() {
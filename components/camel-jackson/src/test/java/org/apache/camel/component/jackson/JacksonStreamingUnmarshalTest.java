@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JacksonStreamingUnmarshalTest extends CamelTestSupport {
+
+    @Test
+    public void testStreamingArray() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(3);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+
+        String json = "[{\"name\":\"Camel\"}, {\"name\":\"World\"}, {\"name\":\"Jackson\"}]";
+        template.sendBody("direct:stream", new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals("Camel", mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+        assertEquals("Jackson", mock.getReceivedExchanges().get(2).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testStreamingValues() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(2);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+
+        // a sequence of root-level values instead of an array
+        template.sendBody("direct:stream", "{\"name\":\"Camel\"}\n{\"name\":\"World\"}");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals("World", mock.getReceivedExchanges().get(1).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testStreamingEmptyArray() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(0);
+
+        template.sendBody("direct:stream", "[]");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() {
+                JacksonDataFormat format = new JacksonDataFormat(TestPojo.class);
+                format.setStreaming(true);
+
+                from("direct:stream").unmarshal(format).split(body()).streaming().to("mock:pojo");
+            }
+        };
+    }
+
+}
@@ -34,6 +34,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
@@ -48,6 +49,7 @@ import org.apache.camel.spi.DataFormatContentTypeHeader;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.CastUtils;
@@ -63,6 +65,7 @@ public class JacksonXMLDataFormat extends ServiceSupport
         implements DataFormat, DataFormatName, DataFormatContentTypeHeader, CamelContextAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(JacksonXMLDataFormat.class);
+    private static final int CACHE_SIZE = 100;
 
     private CamelContext camelContext;
     private XmlMapper xmlMapper;
@@ -87,6 +90,10 @@ public class JacksonXMLDataFormat extends ServiceSupport
     private boolean contentTypeHeader = true;
     private TimeZone timezone;
 
+    // the readers and writers are immutable and thread-safe, so they are created once and reused
+    private final Map<Class<?>, ObjectReader> readers = LRUCacheFactory.newLRUCache(CACHE_SIZE);
+    private volatile ObjectWriter writer;
+
     /**
      * Use the default Jackson {@link XmlMapper} and {@link Map}
      */
@@ -169,7 +176,12 @@ public class JacksonXMLDataFormat extends ServiceSupport
 
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        this.xmlMapper.writerWithView(jsonView).writeValue(stream, graph);
+        ObjectWriter objectWriter = writer;
+        if (objectWriter == null) {
+            objectWriter = this.xmlMapper.writerWithView(jsonView);
+            writer = objectWriter;
+        }
+        objectWriter.writeValue(stream, graph);
 
         if (contentTypeHeader) {
             exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, "application/xml");
@@ -196,12 +208,15 @@ public class JacksonXMLDataFormat extends ServiceSupport
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
 
-        ObjectReader reader;
-        if (collectionType != null) {
-            CollectionType collType = xmlMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            reader = this.xmlMapper.readerFor(collType);
-        } else {
-            reader = this.xmlMapper.reader().forType(clazz);
+        ObjectReader reader = readers.get(clazz);
+        if (reader == null) {
+            if (collectionType != null) {
+                CollectionType collType = xmlMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
+                reader = this.xmlMapper.readerFor(collType);
+            } else {
+                reader = this.xmlMapper.reader().forType(clazz);
+            }
+            readers.put(clazz, reader);
         }
 
         // unwrap file (such as from camel-file)
@@ -237,6 +252,7 @@ public class JacksonXMLDataFormat extends ServiceSupport
 
     public void setXmlMapper(XmlMapper xmlMapper) {
         this.xmlMapper = xmlMapper;
+        clearCaches();
     }
 
     public String getUnmarshalTypeName() {
@@ -269,6 +285,7 @@ public class JacksonXMLDataFormat extends ServiceSupport
 
     public void setCollectionType(Class<? extends Collection> collectionType) {
         this.collectionType = collectionType;
+        clearCaches();
     }
 
     public String getJsonViewTypeName() {
@@ -285,6 +302,7 @@ public class JacksonXMLDataFormat extends ServiceSupport
 
     public void setJsonView(Class<?> jsonView) {
         this.jsonView = jsonView;
+        clearCaches();
     }
 
     public String getInclude() {
@@ -668,6 +686,14 @@ public class JacksonXMLDataFormat extends ServiceSupport
             LOG.debug("Setting timezone to XML Mapper: {}", timezone);
             xmlMapper.setTimeZone(timezone);
         }
+
+        // the xml mapper has been configured, so any readers and writers created before are stale
+        clearCaches();
+    }
+
+    private void clearCaches() {
+        writer = null;
+        readers.clear();
     }
 
     @Override
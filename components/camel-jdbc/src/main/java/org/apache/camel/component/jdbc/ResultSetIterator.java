@@ -41,14 +41,13 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
     private final Statement statement;
     private final ResultSet resultSet;
     private final Column[] columns;
-    private final boolean useGetBytes;
+    private final int rowCapacity;
     private final AtomicBoolean closed = new AtomicBoolean();
 
     public ResultSetIterator(Connection conn, ResultSet resultSet, boolean isJDBC4, boolean useGetBytes) throws SQLException {
         this.resultSet = resultSet;
         this.statement = this.resultSet.getStatement();
         this.connection = conn;
-        this.useGetBytes = useGetBytes;
 
         ResultSetMetaData metaData = resultSet.getMetaData();
         columns = new Column[metaData.getColumnCount()];
@@ -60,12 +59,16 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
             if (columnType == Types.CLOB) {
                 columns[i] = new ClobColumn(columnName, columnNumber);
             } else if (columnType == Types.BLOB) {
-                columns[i] = new BlobColumn(columnName, columnNumber);
+                columns[i] = useGetBytes
+                        ? new BlobBytesColumn(columnName, columnNumber) : new BlobColumn(columnName, columnNumber);
             } else {
                 columns[i] = new DefaultColumn(columnName, columnNumber);
             }
         }
 
+        // initial capacity so the rows can hold all the columns without resizing
+        rowCapacity = (int) (columns.length / 0.75f) + 1;
+
         loadNext();
     }
 
@@ -81,13 +84,10 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
         }
 
         try {
-            Map<String, Object> row = new LinkedHashMap<>();
+            // the column types are resolved up front, and the row is sized to avoid rehashing
+            Map<String, Object> row = new LinkedHashMap<>(rowCapacity);
             for (Column column : columns) {
-                if (useGetBytes && column instanceof BlobColumn) {
-                    row.put(column.getName(), ((BlobColumn) column).getBytes(resultSet));
-                } else {
-                    row.put(column.getName(), column.getValue(resultSet));
-                }
+                row.put(column.getName(), column.getValue(resultSet));
             }
             loadNext();
             return row;
@@ -212,8 +212,24 @@ public class ResultSetIterator implements Iterator<Map<String, Object>> {
         public Object getValue(ResultSet resultSet) throws SQLException {
             return resultSet.getBlob(columnNumber);
         }
+    }
+
+    private static final class BlobBytesColumn implements Column {
+        private final int columnNumber;
+        private final String name;
+
+        private BlobBytesColumn(String name, int columnNumber) {
+            this.name = name;
+            this.columnNumber = columnNumber;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
 
-        public Object getBytes(ResultSet resultSet) throws SQLException {
+        @Override
+        public Object getValue(ResultSet resultSet) throws SQLException {
             return resultSet.getBytes(columnNumber);
         }
     }
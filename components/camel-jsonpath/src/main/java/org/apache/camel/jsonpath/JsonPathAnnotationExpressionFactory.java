@@ -57,6 +57,11 @@ public class JsonPathAnnotationExpressionFactory extends DefaultAnnotationExpres
             }
         }
 
+        // share the parsed documents with the jsonpath language
+        if (camelContext.resolveLanguage("jsonpath") instanceof JsonPathLanguage language && language.isCacheDocument()) {
+            answer.setDocumentCache(language.getDocumentCache());
+        }
+
         answer.init(camelContext);
         return answer;
     }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.SafeCopyProperty;
+
+/**
+ * Caches the parsed JSON document on the {@link Exchange}, so multiple JsonPath expressions evaluated on the same
+ * payload (such as the predicates of a content based router) only parse the payload once.
+ * <p/>
+ * The document is cached together with the payload it was parsed from, and is only reused as long as the JsonPath
+ * expression is evaluated on the very same payload instance. Setting a new message body therefore invalidates the
+ * cached document, which is removed from the exchange by the next JsonPath expression that is evaluated, so the
+ * document and the old payload are not kept in memory for the rest of the lifetime of the exchange.
+ * <p/>
+ * The cached document is only shared by the expressions evaluated on the same exchange, as copies of the exchange (such
+ * as for parallel processing in the multicast or splitter EIPs) must parse their own document. The expressions must not
+ * return parts of the cached document as is, as they could then be changed by the route.
+ */
+public class JsonPathDocumentCache {
+
+    private static final String DOCUMENT_PROPERTY = "CamelJsonPathDocument";
+    private static final Document EMPTY = new Document(null, null, null);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Gets the cached document parsed from the given payload
+     *
+     * @param  exchange the exchange
+     * @param  payload  the payload the JsonPath expression is evaluated on
+     * @param  parser   the parser (such as the object mapper) of the document, which must be the same as the one that
+     *                  parsed the cached document
+     * @return          the cached document, or <tt>null</tt> if no document is cached for the payload
+     */
+    public Object get(Exchange exchange, Object payload, Object parser) {
+        Document document = exchange.getExchangeExtension().getSafeCopyProperty(DOCUMENT_PROPERTY, Document.class);
+        if (document != null && document.json != null && document.payload == payload && document.parser == parser) {
+            hits.increment();
+            return document.json;
+        }
+        if (document != null) {
+            // the payload has changed so the cached document is stale
+            remove(exchange);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the document parsed from the given payload, replacing any document cached before.
+     */
+    public void put(Exchange exchange, Object payload, Object parser, Object json) {
+        exchange.getExchangeExtension().setSafeCopyProperty(DOCUMENT_PROPERTY, new Document(payload, parser, json));
+    }
+
+    /**
+     * Removes the cached document (if any) from the exchange
+     */
+    public void remove(Exchange exchange) {
+        exchange.getExchangeExtension().setSafeCopyProperty(DOCUMENT_PROPERTY, null);
+    }
+
+    /**
+     * Number of times a cached document was reused
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times the payload had to be parsed
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    private static final class Document implements SafeCopyProperty {
+
+        private final Object payload;
+        private final Object parser;
+        private final Object json;
+
+        private Document(Object payload, Object parser, Object json) {
+            this.payload = payload;
+            this.parser = parser;
+            this.json = json;
+        }
+
+        @Override
+        public SafeCopyProperty safeCopy() {
+            // the copy may be processed concurrently, so it must parse its own document
+            return EMPTY;
+        }
+    }
+}
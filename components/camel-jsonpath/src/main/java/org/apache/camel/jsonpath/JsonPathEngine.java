@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -59,6 +60,8 @@ public class JsonPathEngine {
     private final Configuration configuration;
     private final boolean hasSimple;
     private final Expression source;
+    private final ObjectMapper objectMapper;
+    private final JsonPathDocumentCache documentCache;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
 
@@ -69,16 +72,23 @@ public class JsonPathEngine {
 
     public JsonPathEngine(String expression, Expression source, boolean writeAsString, boolean suppressExceptions,
                           boolean allowSimple, Option[] options, CamelContext context) {
+        this(expression, source, writeAsString, suppressExceptions, allowSimple, options, context, null);
+    }
+
+    public JsonPathEngine(String expression, Expression source, boolean writeAsString, boolean suppressExceptions,
+                          boolean allowSimple, Option[] options, CamelContext context,
+                          JsonPathDocumentCache documentCache) {
         this.expression = expression;
         this.source = source;
         this.writeAsString = writeAsString;
+        this.documentCache = documentCache;
 
         Configuration.ConfigurationBuilder builder = Configuration.builder();
         if (options != null) {
             builder.options(options);
         }
         // Use custom ObjectMapper if provided (CAMEL-17956)
-        ObjectMapper objectMapper = findRegisteredMapper(context);
+        this.objectMapper = findRegisteredMapper(context);
         if (objectMapper != null) {
             builder.jsonProvider(new JacksonJsonProvider(objectMapper));
             builder.mappingProvider(new JacksonMappingProvider(objectMapper));
@@ -182,24 +192,12 @@ public class JsonPathEngine {
     private Object doRead(String path, Exchange exchange) throws IOException, CamelExchangeException {
         final Object json = getPayload(exchange);
 
-        if (json instanceof InputStream) {
-            return readWithInputStream(path, exchange);
-        } else if (json instanceof GenericFile) {
-            LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
-            GenericFile<?> genericFile = (GenericFile<?>) json;
-            if (genericFile.getCharset() != null) {
-                // special treatment for generic file with charset
-                InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).read(path);
-            }
+        if (documentCache != null && (json instanceof Map || json instanceof List)) {
+            // the payload is not parsed, so do not keep a document parsed from a previous payload
+            documentCache.remove(exchange);
         }
 
-        Object answer;
-        if (json instanceof String) {
-            LOG.trace("JSonPath: {} is read as String: {}", path, json);
-            String str = (String) json;
-            return JsonPath.using(configuration).parse(str).read(path);
-        } else if (json instanceof Map) {
+        if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
             return JsonPath.using(configuration).parse(map).read(path);
@@ -207,14 +205,26 @@ public class JsonPathEngine {
             LOG.trace("JSonPath: {} is read as List: {}", path, json);
             List list = (List) json;
             return JsonPath.using(configuration).parse(list).read(path);
-        } else {
-            //try to auto convert into inputStream
-            answer = readWithInputStream(path, exchange);
-            if (answer == null) {
-                // fallback and attempt an adapter which can read the message body/header
-                answer = readWithAdapter(path, exchange);
+        }
+
+        // reuse the document if the payload has already been parsed by another expression
+        Object document = documentCache != null ? documentCache.get(exchange, json, objectMapper) : null;
+        if (document != null) {
+            LOG.trace("JSonPath: {} is read from cached document", path);
+            return copyOf(JsonPath.using(configuration).parse(document).read(path));
+        }
+
+        document = parseDocument(path, json, exchange);
+        if (document != null) {
+            if (documentCache != null) {
+                documentCache.put(exchange, json, objectMapper, document);
+                return copyOf(JsonPath.using(configuration).parse(document).read(path));
             }
+            return JsonPath.using(configuration).parse(document).read(path);
         }
+
+        // fallback and attempt an adapter which can read the message body/header
+        Object answer = readWithAdapter(path, exchange);
         if (answer != null) {
             return answer;
         }
@@ -237,8 +247,42 @@ public class JsonPathEngine {
         }
     }
 
-    private Object readWithInputStream(String path, Exchange exchange) throws IOException {
-        Object json = getPayload(exchange);
+    /**
+     * Copies the maps and lists of a result read from a cached document, as they are part of the cached document, which
+     * must not be changed by the route.
+     */
+    private static Object copyOf(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> answer = new LinkedHashMap<>(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                answer.put(entry.getKey(), copyOf(entry.getValue()));
+            }
+            return answer;
+        } else if (value instanceof List<?> list) {
+            List<Object> answer = new ArrayList<>(list.size());
+            for (Object o : list) {
+                answer.add(copyOf(o));
+            }
+            return answer;
+        }
+        return value;
+    }
+
+    private Object parseDocument(String path, Object json, Exchange exchange) throws IOException {
+        if (json instanceof String str) {
+            LOG.trace("JSonPath: {} is read as String: {}", path, json);
+            return JsonPath.using(configuration).parse(str).json();
+        } else if (json instanceof GenericFile<?> genericFile && genericFile.getCharset() != null) {
+            LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
+            // special treatment for generic file with charset
+            InputStream inputStream = new FileInputStream((File) genericFile.getFile());
+            return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).json();
+        }
+        //try to auto convert into inputStream
+        return parseInputStream(path, json, exchange);
+    }
+
+    private Object parseInputStream(String path, Object json, Exchange exchange) throws IOException {
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
@@ -251,12 +295,12 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                return JsonPath.using(configuration).parse(is, jsonEncoding).json();
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).json();
             }
         }
 
@@ -49,6 +49,7 @@ public class JsonPathExpression extends ExpressionAdapter {
     private boolean unpackArray;
     private Expression source;
     private Option[] options;
+    private JsonPathDocumentCache documentCache;
 
     public JsonPathExpression(String expression) {
         this.expression = expression;
@@ -151,6 +152,18 @@ public class JsonPathExpression extends ExpressionAdapter {
         this.options = options;
     }
 
+    public JsonPathDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
+    /**
+     * To cache the parsed JSON document on the exchange, so it can be reused by other JsonPath expressions evaluated on
+     * the same payload.
+     */
+    public void setDocumentCache(JsonPathDocumentCache documentCache) {
+        this.documentCache = documentCache;
+    }
+
     @Override
     public Object evaluate(Exchange exchange) {
         try {
@@ -210,7 +223,7 @@ public class JsonPathExpression extends ExpressionAdapter {
         LOG.debug("Initializing {} using: {}", predicate ? "predicate" : "expression", exp);
         try {
             engine = new JsonPathEngine(
-                    exp, source, writeAsString, suppressExceptions, allowSimple, options, context);
+                    exp, source, writeAsString, suppressExceptions, allowSimple, options, context, documentCache);
         } catch (Exception e) {
             throw new ExpressionIllegalSyntaxException(exp, e);
         }
@@ -40,6 +40,8 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
     private boolean writeAsString;
     private boolean unpackArray;
     private Option[] options;
+    private boolean cacheDocument;
+    private final JsonPathDocumentCache documentCache = new JsonPathDocumentCache();
 
     public boolean isSuppressExceptions() {
         return suppressExceptions;
@@ -89,6 +91,26 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
         this.options = options;
     }
 
+    public boolean isCacheDocument() {
+        return cacheDocument;
+    }
+
+    /**
+     * Whether to cache the parsed JSON document on the exchange, so multiple JsonPath expressions evaluated on the same
+     * message body only parse it once. The document is kept on the exchange until the message body is changed, so this
+     * uses more memory per exchange. Is disabled by default.
+     */
+    public void setCacheDocument(boolean cacheDocument) {
+        this.cacheDocument = cacheDocument;
+    }
+
+    /**
+     * Gets the document cache, which keeps statistics of how often a parsed document was reused.
+     */
+    public JsonPathDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
     @Override
     public Predicate createPredicate(Expression source, String expression, Object[] properties) {
         return doCreateJsonPathExpression(source, expression, properties, true);
@@ -124,6 +146,9 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
         } else if (options != null) {
             answer.setOptions(options);
         }
+        if (cacheDocument) {
+            answer.setDocumentCache(documentCache);
+        }
         if (getCamelContext() != null) {
             answer.init(getCamelContext());
         }
@@ -171,6 +196,10 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
             case "unpackArray":
                 setUnpackArray(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
                 return true;
+            case "cachedocument":
+            case "cacheDocument":
+                setCacheDocument(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
+                return true;
             case "options":
                 setOptions(PropertyConfigurerSupport.property(camelContext, Option[].class, value));
                 return true;
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class JsonPathDocumentCacheTest extends CamelTestSupport {
+
+    private static final String JSON = "{\"kind\":\"order\",\"id\":123,\"amount\":25}";
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        ((JsonPathLanguage) context.resolveLanguage("jsonpath")).setCacheDocument(true);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("id").jsonpath("$.id")
+                        .choice()
+                        .when().jsonpath("$[?(@.kind == 'invoice')]").to("mock:invoice")
+                        .when().jsonpath("$[?(@.amount > 100)]").to("mock:big")
+                        .when().jsonpath("$[?(@.amount > 10)]").to("mock:order")
+                        .otherwise().to("mock:other")
+                        .end()
+                        .setBody(constant("{\"kind\":\"changed\"}"))
+                        .setHeader("kind").jsonpath("$.kind")
+                        .to("mock:result");
+
+                from("direct:change")
+                        .setHeader("customer").jsonpath("$.customer")
+                        .process(e -> e.getMessage().getHeader("customer", Map.class).put("name", "Changed"))
+                        .setHeader("name").jsonpath("$.customer.name")
+                        .to("mock:change");
+
+                from("direct:stale")
+                        .setHeader("id").jsonpath("$.id")
+                        .process(e -> e.getMessage().setBody(Map.of("id", 456)))
+                        .setHeader("other").jsonpath("$.id");
+            }
+        };
+    }
+
+    @Test
+    public void testParseOnce() throws Exception {
+        getMockEndpoint("mock:order").expectedMessageCount(1);
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedHeaderReceived("id", 123);
+        result.expectedHeaderReceived("kind", "changed");
+
+        JsonPathLanguage language = (JsonPathLanguage) context.resolveLanguage("jsonpath");
+        language.getDocumentCache().resetStatistics();
+
+        template.sendBody("direct:start", JSON);
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the body is parsed once, and again when it has been changed
+        assertEquals(2, language.getDocumentCache().getMisses());
+        assertEquals(3, language.getDocumentCache().getHits());
+    }
+
+    @Test
+    public void testParseOnceInputStream() throws Exception {
+        getMockEndpoint("mock:order").expectedMessageCount(1);
+        getMockEndpoint("mock:result").expectedHeaderReceived("id", 123);
+
+        JsonPathLanguage language = (JsonPathLanguage) context.resolveLanguage("jsonpath");
+        language.getDocumentCache().resetStatistics();
+
+        // a plain input stream can only be read once
+        template.sendBody("direct:start", new ByteArrayInputStream(JSON.getBytes()));
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(2, language.getDocumentCache().getMisses());
+        assertEquals(3, language.getDocumentCache().getHits());
+    }
+
+    @Test
+    public void testResultIsNotPartOfCachedDocument() throws Exception {
+        // changing the result of an expression must not change the cached document
+        getMockEndpoint("mock:change").expectedHeaderReceived("name", "Donald");
+
+        template.sendBody("direct:change", "{\"customer\":{\"name\":\"Donald\"}}");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testRemoveStaleDocument() {
+        Exchange out = template.request("direct:stale", e -> e.getMessage().setBody(JSON));
+
+        assertEquals(123, out.getMessage().getHeader("id"));
+        assertEquals(456, out.getMessage().getHeader("other"));
+        // the body is no longer the payload the cached document was parsed from
+        assertNull(out.getExchangeExtension().getSafeCopyProperty("CamelJsonPathDocument", Object.class));
+    }
+}
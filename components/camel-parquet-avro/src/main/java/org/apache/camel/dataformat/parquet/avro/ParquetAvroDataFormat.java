@@ -17,6 +17,7 @@
 package org.apache.camel.dataformat.parquet.avro;
 
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
@@ -29,18 +30,23 @@ import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.reflect.ReflectData;
 import org.apache.camel.Exchange;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.DefaultUuidGenerator;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.avro.AvroReadSupport;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.LocalInputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +63,12 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
     private CompressionCodecName compressionCodecName = GZIP;
     private Class<?> unmarshalType;
     private boolean lazyLoad;
+    private Schema projection;
+
+    // the hadoop configuration and the schema of the unmarshal type are created once, as they are costly to create
+    private volatile Configuration configuration;
+    private volatile Schema unmarshalTypeSchema;
+    private volatile boolean unmarshalTypeSchemaResolved;
 
     @Override
     public String getDataFormatName() {
@@ -66,9 +78,7 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
     @Override
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
         // marshal from the Java object or GenericRecord (graph) to the parquet-avro type
-        Configuration conf = new Configuration();
-
-        FileSystem.get(conf).setWriteChecksum(false);
+        Configuration conf = getConfiguration();
 
         BufferedOutputStream parquetOutput = new BufferedOutputStream(stream);
         ParquetOutputStream parquetOutputStream = new ParquetOutputStream(
@@ -77,21 +87,17 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
 
         List<?> list = (List<?>) graph;
 
-        Schema schema = null;
-        GenericData model = null;
-        if (unmarshalType != null) {
-            try {
-                schema = ReflectData.AllowNull.get().getSchema(unmarshalType); // generate nullable fields
-                model = ReflectData.get();
-            } catch (AvroRuntimeException e) {
-                LOG.warn("Fallback to use GenericRecord instead of POJO for marshalling", e);
-            }
-        }
-        if (schema == null) {
+        Schema schema = getUnmarshalTypeSchema();
+        GenericData model;
+        if (schema != null) {
+            model = ReflectData.get();
+        } else {
             schema = GenericContainer.class.cast(list.get(0)).getSchema();
             model = GenericData.get();
         }
 
+        // all the records of the list are written as a single file, which has one row group unless the records are
+        // bigger than the row group size
         try (ParquetWriter<Object> writer = AvroParquetWriter.builder(parquetOutputStream)
                 .withSchema(schema)
                 .withDataModel(model)
@@ -105,14 +111,35 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
         }
     }
 
+    @Override
+    public Object unmarshal(Exchange exchange, Object body) throws Exception {
+        // parquet must seek in the data (the footer is at the end), so read a file directly,
+        // or else use the bytes of the message in memory
+        if (body instanceof WrappedFile<?> wf && wf.getFile() instanceof File file) {
+            return unmarshal(exchange, new LocalInputFile(file.toPath()));
+        } else if (body instanceof File file) {
+            return unmarshal(exchange, new LocalInputFile(file.toPath()));
+        } else if (body instanceof byte[] data) {
+            return unmarshal(exchange, new ParquetInputStream(DEFAULT_UUID_GENERATOR.generateUuid(), data));
+        }
+        return DataFormat.super.unmarshal(exchange, body);
+    }
+
     @Override
     public Object unmarshal(Exchange exchange, InputStream stream) throws Exception {
-        // unmarshal from the input stream of parquet-avro to Java object or GenericRecord (graph)
-        Configuration conf = new Configuration();
+        byte[] data;
+        try {
+            data = stream.readAllBytes();
+        } finally {
+            // the data is read in memory, so the stream is not needed (also when lazy loading)
+            IOHelper.close(stream);
+        }
+        return unmarshal(exchange, new ParquetInputStream(DEFAULT_UUID_GENERATOR.generateUuid(), data));
+    }
 
-        ParquetInputStream parquetInputStream = new ParquetInputStream(
-                DEFAULT_UUID_GENERATOR.generateUuid(),
-                stream.readAllBytes());
+    private Object unmarshal(Exchange exchange, InputFile inputFile) throws Exception {
+        // unmarshal from the parquet-avro file to Java object or GenericRecord (graph)
+        Configuration conf = getConfiguration();
 
         Class<?> type = GenericRecord.class;
         GenericData model = GenericData.get();
@@ -121,7 +148,7 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
             model = new ReflectData(unmarshalType.getClassLoader());
         }
 
-        ParquetReader.Builder<?> builder = AvroParquetReader.builder(parquetInputStream)
+        ParquetReader.Builder<?> builder = AvroParquetReader.builder(inputFile)
                 .withDataModel(model)
                 .disableCompatibility() // always use this (since this is a new project)
                 .withConf(conf);
@@ -143,6 +170,36 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
         }
     }
 
+    private Configuration getConfiguration() throws Exception {
+        Configuration answer = configuration;
+        if (answer == null) {
+            answer = new Configuration();
+            FileSystem.get(answer).setWriteChecksum(false);
+            if (projection != null) {
+                // only read the columns of the projection
+                AvroReadSupport.setRequestedProjection(answer, projection);
+            }
+            configuration = answer;
+        }
+        return answer;
+    }
+
+    private Schema getUnmarshalTypeSchema() {
+        if (!unmarshalTypeSchemaResolved) {
+            Schema schema = null;
+            if (unmarshalType != null) {
+                try {
+                    schema = ReflectData.AllowNull.get().getSchema(unmarshalType); // generate nullable fields
+                } catch (AvroRuntimeException e) {
+                    LOG.warn("Fallback to use GenericRecord instead of POJO for marshalling", e);
+                }
+            }
+            unmarshalTypeSchema = schema;
+            unmarshalTypeSchemaResolved = true;
+        }
+        return unmarshalTypeSchema;
+    }
+
     @Override
     protected void doStart() throws Exception {
         // no-op
@@ -150,7 +207,8 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
 
     @Override
     protected void doStop() throws Exception {
-        // no-op
+        configuration = null;
+        unmarshalTypeSchemaResolved = false;
     }
 
     public String getCompressionCodecName() {
@@ -175,6 +233,20 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
      */
     public void setUnmarshalType(Class<?> unmarshalType) {
         this.unmarshalType = unmarshalType;
+        this.unmarshalTypeSchemaResolved = false;
+    }
+
+    public Schema getProjection() {
+        return projection;
+    }
+
+    /**
+     * The Avro schema of the columns to read when unmarshalling, so only these columns are read and decoded from the
+     * parquet data. The schema must be a subset of the schema of the data, and by default all the columns are read.
+     */
+    public void setProjection(Schema projection) {
+        this.projection = projection;
+        this.configuration = null;
     }
 
     /**
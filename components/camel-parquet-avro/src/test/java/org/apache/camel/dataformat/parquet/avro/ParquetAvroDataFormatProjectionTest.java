@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ParquetAvroDataFormatProjectionTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshalProjectionFromFile() throws Exception {
+        MockEndpoint mockResults = getMockEndpoint("mock:result");
+        mockResults.expectedMessageCount(3);
+
+        template.sendBody("direct:start", new File("src/test/resources/example1.parquet"));
+
+        mockResults.assertIsSatisfied();
+
+        List<Exchange> exchanges = mockResults.getExchanges();
+        GenericRecord first = exchanges.get(0).getMessage().getBody(GenericRecord.class);
+        assertEquals("airport", first.get("data").toString());
+        // the id column is not read
+        assertNull(first.get("id"));
+        assertEquals("verb", exchanges.get(2).getMessage().getBody(GenericRecord.class).get("data").toString());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                Schema projection = SchemaBuilder
+                        .record("Pojo")
+                        .fields()
+                        .optionalString("data")
+                        .endRecord();
+
+                ParquetAvroDataFormat format = new ParquetAvroDataFormat()
+                        .setLazyLoad(true);
+                format.setProjection(projection);
+
+                from("direct:start")
+                        .unmarshal(format)
+                        .split(body()).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+}
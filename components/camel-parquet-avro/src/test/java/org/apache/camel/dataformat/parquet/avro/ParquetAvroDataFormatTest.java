@@ -45,6 +45,21 @@ public class ParquetAvroDataFormatTest extends CamelTestSupport {
         assertArrayEquals(in.toArray(), receivedExchanges.get(0).getIn().getBody(List.class).toArray());
     }
 
+    @Test
+    public void testUnmarshalFromVariable() throws Exception {
+        Collection<Pojo> in = List.of(new Pojo(1, "airport"), new Pojo(2, "penguin"));
+        byte[] marshalled = template.requestBody("direct:in", in, byte[].class);
+
+        MockEndpoint mock = getMockEndpoint("mock:variable");
+        mock.expectedMessageCount(1);
+
+        // the body is not the parquet data, which is in the variable
+        template.sendBodyAndHeader("direct:variable", "not parquet".getBytes(), "data", marshalled);
+
+        mock.assertIsSatisfied();
+        assertArrayEquals(in.toArray(), mock.getReceivedExchanges().get(0).getIn().getBody(List.class).toArray());
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
@@ -55,6 +70,10 @@ public class ParquetAvroDataFormatTest extends CamelTestSupport {
                 format.setUnmarshalType(Pojo.class);
                 from("direct:in").marshal(format);
                 from("direct:back").unmarshal(format).to("mock:reverse");
+
+                context.getRegistry().bind("parquetFormat", format);
+                from("direct:variable").setVariable("data", header("data"))
+                        .unmarshal().variableSend("data").custom("parquetFormat").to("mock:variable");
             }
         };
     }
@@ -0,0 +1,490 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reactive.forkjoin;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Experimental;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.spi.annotations.JdkService;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} that hands reactive work scheduled from foreign threads over to a work-stealing
+ * {@link ForkJoinPool}.
+ * <p/>
+ * Asynchronous components often complete their callbacks on their own I/O threads (such as Netty or Vert.x event loops,
+ * or Kafka client threads), and with the default reactive executor the rest of the route then continues on that thread.
+ * This executor runs such continuations on the pool instead, so the I/O threads are released as soon as possible. Work
+ * scheduled from Camel threads, and work scheduled while a thread is already running reactive work, is executed on the
+ * current thread as with the default reactive executor.
+ * <p/>
+ * NOTE: This is an experimental implementation (use with care)
+ */
+@ManagedResource(description = "Managed ForkJoinReactiveExecutor")
+@JdkService(ReactiveExecutor.FACTORY)
+@Experimental
+public class ForkJoinReactiveExecutor extends ServiceSupport implements CamelContextAware, ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ForkJoinReactiveExecutor.class);
+
+    private CamelContext camelContext;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private String offloadThreadNamePattern;
+    private int maxQueueSize;
+    private volatile ForkJoinPool pool;
+    private Pattern offloadPattern;
+    private String camelThreadPrefix;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder offloadedTasks = new LongAdder();
+    private final LongAdder forkedTasks = new LongAdder();
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelForkJoinReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, ForkJoinReactiveExecutor.this);
+    });
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Parallelism of the fork join pool")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The parallelism (number of threads) of the fork join pool. Is by default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Pattern of the names of the threads whose reactive work is offloaded to the pool")
+    public String getOffloadThreadNamePattern() {
+        return offloadThreadNamePattern;
+    }
+
+    /**
+     * A regular expression matching the names of the threads whose reactive work should be handed over to the pool,
+     * such as <tt>vert.x-eventloop-thread-.*</tt>. By default the work of all threads that are not created by Camel is
+     * handed over to the pool.
+     * <p/>
+     * This must be configured before the executor is in use, as the decision is made once per thread.
+     */
+    public void setOffloadThreadNamePattern(String offloadThreadNamePattern) {
+        this.offloadThreadNamePattern = offloadThreadNamePattern;
+    }
+
+    @ManagedAttribute(description = "Maximum number of pending tasks in the queue of a pool thread")
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * The maximum number of pending tasks in the reactive queue of a pool thread. When a pool thread with a full queue
+     * starts a new flow, the flow is forked to the pool where it can be stolen by an idle thread, instead of waiting
+     * behind the queued tasks. Is by default 0 which means unbounded.
+     */
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        schedule(runnable, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        schedule(runnable, true, true);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        // must always run on the current thread
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        workers.get().queue.add(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    private void schedule(Runnable runnable, boolean first, boolean main) {
+        final Worker worker = workers.get();
+        final ForkJoinPool fjp = pool;
+        if (fjp != null) {
+            if (!worker.resolved) {
+                worker.resolve(this);
+            }
+            if (!worker.running) {
+                // new work on a foreign thread is continued on the pool
+                if (worker.offload && offload(fjp, runnable, first, main, false)) {
+                    return;
+                }
+            } else if (main && worker.poolThread && maxQueueSize > 0 && worker.queue.size() >= maxQueueSize) {
+                // this thread is busy so let the new flow be stolen by another thread of the pool
+                if (offload(fjp, runnable, first, main, true)) {
+                    return;
+                }
+            }
+        }
+        worker.schedule(runnable, first, main, false);
+    }
+
+    private boolean offload(ForkJoinPool fjp, Runnable runnable, boolean first, boolean main, boolean fork) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Offloading reactive work to pool [fork={}]: {}", fork, runnable);
+        }
+        final Runnable task = () -> workers.get().schedule(runnable, first, main, false);
+        try {
+            if (fork) {
+                // push onto the work queue of this pool thread which idle threads steal from
+                ForkJoinTask.adapt(task).fork();
+                forkedTasks.increment();
+            } else {
+                fjp.execute(task);
+                offloadedTasks.increment();
+            }
+            return true;
+        } catch (RejectedExecutionException e) {
+            // the pool is shutting down so run on the current thread
+            LOG.debug("Reactive work rejected by pool, will run on current thread: {}", runnable);
+            return false;
+        }
+    }
+
+    boolean isOffloadThread(Thread thread) {
+        if (isPoolThread(thread)) {
+            return false;
+        }
+        final String name = thread.getName();
+        if (offloadPattern != null) {
+            return offloadPattern.matcher(name).matches();
+        }
+        return camelThreadPrefix != null && !name.startsWith(camelThreadPrefix);
+    }
+
+    boolean isPoolThread(Thread thread) {
+        return thread instanceof ForkJoinWorkerThread fjt && fjt.getPool() == pool;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks handed over from foreign threads to the pool")
+    public long getOffloadedTasks() {
+        return offloadedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of flows forked by pool threads with a full queue")
+    public long getForkedTasks() {
+        return forkedTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen between the threads of the pool")
+    public long getStolenTasks() {
+        final ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getStealCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks queued in the pool waiting to be executed")
+    public long getQueuedTasks() {
+        final ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getQueuedTaskCount() + fjp.getQueuedSubmissionCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of threads in the pool")
+    public int getPoolSize() {
+        final ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getPoolSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of threads in the pool that are executing tasks")
+    public int getActiveThreads() {
+        final ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getActiveThreadCount() : 0;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        if (offloadThreadNamePattern != null) {
+            offloadPattern = Pattern.compile(offloadThreadNamePattern);
+        }
+        if (camelContext != null) {
+            camelThreadPrefix = resolveCamelThreadPrefix(camelContext);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism, this::newWorkerThread, null, true);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        final ForkJoinPool fjp = pool;
+        pool = null;
+        if (fjp != null) {
+            if (LOG.isDebugEnabled() && statisticsEnabled) {
+                LOG.debug(
+                        "Stopping ForkJoinReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, offloadedTasks: {}, stolenTasks: {}]",
+                        getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getOffloadedTasks(),
+                        fjp.getStealCount());
+            }
+            fjp.shutdown();
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+    }
+
+    private ForkJoinWorkerThread newWorkerThread(ForkJoinPool fjp) {
+        ForkJoinWorkerThread answer = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fjp);
+        if (camelContext != null) {
+            answer.setName(camelContext.getExecutorServiceManager().resolveThreadName("ReactiveExecutor"));
+        }
+        return answer;
+    }
+
+    private static String resolveCamelThreadPrefix(CamelContext camelContext) {
+        // the static part of the names of the threads created by Camel
+        String pattern = camelContext.getExecutorServiceManager().getThreadNamePattern();
+        pattern = pattern.replace("#camelId#", camelContext.getName());
+        int end = pattern.length();
+        for (String placeholder : new String[] { "#counter#", "#name#", "#longName#" }) {
+            int pos = pattern.indexOf(placeholder);
+            if (pos != -1) {
+                end = Math.min(end, pos);
+            }
+        }
+        return pattern.substring(0, end);
+    }
+
+    @Override
+    public String toString() {
+        return "camel-reactive-executor-forkjoin";
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final ForkJoinReactiveExecutor executor;
+        private final boolean stats;
+        private boolean resolved;
+        private boolean poolThread;
+        private boolean offload;
+        private volatile Deque<Runnable> queue = new ArrayDeque<>();
+        private volatile Deque<Deque<Runnable>> back;
+        private volatile boolean running;
+
+        public Worker(int number, ForkJoinReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor.isStatisticsEnabled();
+        }
+
+        void resolve(ForkJoinReactiveExecutor executor) {
+            // the worker is bound to its thread, so what kind of thread it is only needs to be resolved once
+            final Thread thread = Thread.currentThread();
+            poolThread = executor.isPoolThread(thread);
+            offload = executor.isOffloadThread(thread);
+            resolved = true;
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+
+            incrementPendingTasks();
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                if (back == null) {
+                    back = new ArrayDeque<>();
+                }
+                back.push(queue);
+                queue = new ArrayDeque<>();
+            }
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                running = true;
+                incrementRunningWorkers();
+                try {
+                    executeReactiveWork();
+                } finally {
+                    running = false;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork() {
+            for (;;) {
+                final Runnable polled = queue.pollFirst();
+                if (polled == null) {
+                    if (back != null && !back.isEmpty()) {
+                        queue = back.pollFirst();
+                        continue;
+                    } else {
+                        break;
+                    }
+                }
+                doRun(polled);
+            }
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception e) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        e.getMessage(), e);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void incrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue != null ? queue.pollFirst() : null;
+            if (polled == null) {
+                return false;
+            }
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Exception e) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", e.getMessage(), e);
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reactive;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.reactive.forkjoin.ForkJoinReactiveExecutor;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SimpleMockTest extends CamelTestSupport {
+
+    // simulates the I/O threads of an asynchronous component
+    private final Queue<String> threads = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService io = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "io-thread"));
+
+    @AfterEach
+    public void shutdownIo() {
+        io.shutdownNow();
+    }
+
+    @Test
+    public void testSimple() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        ReactiveExecutor re = context.getCamelContextExtension().getReactiveExecutor();
+        Assertions.assertInstanceOf(ForkJoinReactiveExecutor.class, re);
+    }
+
+    @Test
+    public void testSimpleTwoMessages() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testAsyncContinuationOffloaded() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:async");
+        mock.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:async", "Hello " + i);
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the route continues on the pool and not on the thread that completed the callback
+        Assertions.assertEquals(10, threads.size());
+        for (String thread : threads) {
+            Assertions.assertTrue(thread.endsWith("ReactiveExecutor"), "Should continue on the pool: " + thread);
+        }
+
+        ForkJoinReactiveExecutor re
+                = (ForkJoinReactiveExecutor) context.getCamelContextExtension().getReactiveExecutor();
+        Assertions.assertTrue(re.getOffloadedTasks() >= 10, "Should offload continuations: " + re.getOffloadedTasks());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("log:foo").to("log:bar").to("mock:result");
+
+                from("direct:async")
+                        .process(new AsyncProcessorSupport() {
+                            @Override
+                            public boolean process(Exchange exchange, AsyncCallback callback) {
+                                io.schedule(() -> callback.done(false), 5, TimeUnit.MILLISECONDS);
+                                return false;
+                            }
+                        })
+                        .process(e -> threads.add(Thread.currentThread().getName()))
+                        .to("log:async").to("mock:async");
+            }
+        };
+    }
+}
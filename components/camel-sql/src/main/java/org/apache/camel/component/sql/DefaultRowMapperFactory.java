@@ -17,7 +17,6 @@
 package org.apache.camel.component.sql;
 
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
-import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.RowMapper;
 
 /**
@@ -27,7 +26,7 @@ public class DefaultRowMapperFactory implements RowMapperFactory {
 
     @Override
     public RowMapper<?> newColumnRowMapper() {
-        return new ColumnMapRowMapper();
+        return new ResultSetColumnMapRowMapper();
     }
 
     @Override
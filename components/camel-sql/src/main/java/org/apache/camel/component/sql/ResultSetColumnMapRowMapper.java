@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * A {@link ColumnMapRowMapper} which looks up the column names from the {@link ResultSetMetaData} only once per
+ * {@link ResultSet}, instead of for every row.
+ * <p/>
+ * This mapper is intended to be used for mapping a single result set at a time, which is how the SQL component uses the
+ * row mappers created by {@link DefaultRowMapperFactory}.
+ */
+public class ResultSetColumnMapRowMapper extends ColumnMapRowMapper {
+
+    private ResultSet resultSet;
+    private String[] columnKeys;
+
+    @Override
+    public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (rs != resultSet) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            String[] keys = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                keys[i] = getColumnKey(JdbcUtils.lookupColumnName(metaData, i + 1));
+            }
+            columnKeys = keys;
+            resultSet = rs;
+        }
+
+        Map<String, Object> row = createColumnMap(columnKeys.length);
+        for (int i = 0; i < columnKeys.length; i++) {
+            row.putIfAbsent(columnKeys[i], getColumnValue(rs, i + 1));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link JdbcCamelCodec} that stores the exchange in a compact binary format instead of serializing a
+ * {@link org.apache.camel.support.DefaultExchangeHolder} with Java serialization.
+ * <p/>
+ * Bodies of type <tt>byte[]</tt> and <tt>String</tt>, and headers and properties of primitive, String, Date and
+ * BigDecimal/BigInteger types are written as typed values. Only other values (when allowed) are written using Java
+ * serialization, which is subject to the deserialization filter when reading. The data can optionally be compressed.
+ * <p/>
+ * Exchanges stored with the default {@link JdbcCamelCodec} can still be read, which allows switching an existing
+ * repository to this codec.
+ */
+public class JdbcCamelBinaryCodec extends JdbcCamelCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcCamelBinaryCodec.class);
+
+    private static final int MAGIC = 0x43414D4C; // CAML
+    private static final byte VERSION = 1;
+    private static final byte FLAG_COMPRESSED = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BYTES = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_DOUBLE = 6;
+    private static final byte TYPE_FLOAT = 7;
+    private static final byte TYPE_SHORT = 8;
+    private static final byte TYPE_BYTE = 9;
+    private static final byte TYPE_CHARACTER = 10;
+    private static final byte TYPE_DATE = 11;
+    private static final byte TYPE_BIG_DECIMAL = 12;
+    private static final byte TYPE_BIG_INTEGER = 13;
+    private static final byte TYPE_SERIALIZED = 20;
+
+    private static final String[] RETAINED_PROPERTIES = {
+            Exchange.AGGREGATED_SIZE, Exchange.AGGREGATED_TIMEOUT, Exchange.AGGREGATED_COMPLETED_BY,
+            Exchange.AGGREGATED_CORRELATION_KEY, Exchange.AGGREGATED_COLLECTION_GUARD };
+    private static final String FROM_ENDPOINT = "CamelAggregatedFromEndpoint";
+
+    private boolean compress;
+    private int compressionLevel = Deflater.BEST_SPEED;
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    /**
+     * Whether to compress the stored data (using deflate).
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * The deflate compression level to use when compress is enabled. Is by default {@link Deflater#BEST_SPEED}.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public void marshallExchange(Exchange exchange, boolean allowSerializedHeaders, OutputStream outputStream)
+            throws IOException {
+        // we do not support files
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile || body instanceof File) {
+            throw new RuntimeExchangeException(
+                    "Message body of type " + body.getClass().getCanonicalName() + " is not supported by this marshaller.",
+                    exchange);
+        }
+
+        DataOutputStream header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.writeByte(compress ? FLAG_COMPRESSED : 0);
+
+        Deflater deflater = compress ? new Deflater(compressionLevel) : null;
+        try {
+            OutputStream target = deflater != null ? new DeflaterOutputStream(outputStream, deflater, 8192) : outputStream;
+            DataOutputStream out = new DataOutputStream(target);
+
+            writeString(out, exchange.getExchangeId());
+            writeBody(out, exchange, exchange.getIn().getBody());
+            writeMap(out, exchange.getIn().getHeaders(), allowSerializedHeaders, false);
+            boolean hasOut = exchange.hasOut();
+            out.writeBoolean(hasOut);
+            if (hasOut) {
+                writeBody(out, exchange, exchange.getOut().getBody());
+                writeMap(out, exchange.getOut().getHeaders(), allowSerializedHeaders, false);
+            }
+
+            // the aggregated properties and the from endpoint are the only properties we want to retain
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (String key : RETAINED_PROPERTIES) {
+                Object value = exchange.getProperty(key);
+                if (value != null) {
+                    properties.put(key, value);
+                }
+            }
+            if (exchange.getFromEndpoint() != null) {
+                properties.put(FROM_ENDPOINT, exchange.getFromEndpoint().getEndpointUri());
+            }
+            writeMap(out, properties, allowSerializedHeaders, true);
+
+            writeSerialized(out, exchange.getException());
+            out.flush();
+            if (target instanceof DeflaterOutputStream dos) {
+                dos.finish();
+            }
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    @Override
+    public Exchange unmarshallExchange(CamelContext camelContext, InputStream inputStream, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        InputStream is = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        is.mark(4);
+        DataInputStream header = new DataInputStream(is);
+        int magic = header.readInt();
+        if (magic != MAGIC) {
+            // not in binary format, so it may be stored by the default codec (java serialized)
+            is.reset();
+            LOG.trace("Data is not in binary format, unmarshalling using Java serialization");
+            return super.unmarshallExchange(camelContext, is, deserializationFilter);
+        }
+        byte version = header.readByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported binary exchange format version: " + version);
+        }
+        byte flags = header.readByte();
+
+        InputStream source = (flags & FLAG_COMPRESSED) != 0 ? new InflaterInputStream(is) : is;
+        DataInputStream in = new DataInputStream(source);
+        try {
+            Exchange answer = new DefaultExchange(camelContext);
+            String exchangeId = readString(in);
+            if (exchangeId != null) {
+                answer.setExchangeId(exchangeId);
+            }
+            answer.getIn().setBody(readValue(in, camelContext, deserializationFilter));
+            readHeaders(in, answer.getIn(), camelContext, deserializationFilter);
+            if (in.readBoolean()) {
+                Object outBody = readValue(in, camelContext, deserializationFilter);
+                Message out = answer.getOut();
+                out.setBody(outBody);
+                readHeaders(in, out, camelContext, deserializationFilter);
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String key = readString(in);
+                Object value = readValue(in, camelContext, deserializationFilter);
+                answer.setProperty(key, value);
+            }
+            answer.setException((Exception) readValue(in, camelContext, deserializationFilter));
+
+            // restore the from endpoint
+            String fromEndpointUri = (String) answer.removeProperty(FROM_ENDPOINT);
+            if (fromEndpointUri != null) {
+                Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+                if (fromEndpoint != null) {
+                    answer.getExchangeExtension().setFromEndpoint(fromEndpoint);
+                }
+            }
+            return answer;
+        } finally {
+            if (source != is) {
+                IOHelper.close(source);
+            }
+        }
+    }
+
+    private void readHeaders(DataInputStream in, Message message, CamelContext camelContext, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            Object value = readValue(in, camelContext, deserializationFilter);
+            message.setHeader(key, value);
+        }
+    }
+
+    private void writeBody(DataOutputStream out, Exchange exchange, Object body) throws IOException {
+        if (body == null || body instanceof String || body instanceof byte[]) {
+            writeValue(out, body);
+            return;
+        }
+        Serializable converted = exchange.getContext().getTypeConverter().convertTo(Serializable.class, exchange, body);
+        if (converted == null) {
+            LOG.warn("Exchange body containing object: {} of type: {} cannot be serialized, it will be excluded.",
+                    body, body.getClass().getCanonicalName());
+        }
+        writeValue(out, converted);
+    }
+
+    private void writeMap(DataOutputStream out, Map<String, Object> map, boolean allowSerialized, boolean properties)
+            throws IOException {
+        if (map == null || map.isEmpty()) {
+            out.writeInt(0);
+            return;
+        }
+        // we need to know the number of valid entries up front
+        Map<String, Object> valid = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof CharSequence && !(value instanceof String)) {
+                value = value.toString();
+            }
+            if (isTyped(value) || allowSerialized && value instanceof Serializable
+                    || properties && value instanceof Throwable) {
+                valid.put(entry.getKey(), value);
+            } else {
+                LOG.debug("Cannot store value with key: {} of type: {}. The value will be excluded.", entry.getKey(),
+                        value.getClass().getCanonicalName());
+            }
+        }
+        out.writeInt(valid.size());
+        for (Map.Entry<String, Object> entry : valid.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static boolean isTyped(Object value) {
+        return value instanceof String || value instanceof byte[] || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Double || value instanceof Float || value instanceof Short
+                || value instanceof Byte || value instanceof Character || value instanceof Date
+                || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, s);
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(TYPE_BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Integer i) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Double d) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Float f) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat(f);
+        } else if (value instanceof Short s) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort(s);
+        } else if (value instanceof Byte b) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte(b);
+        } else if (value instanceof Character c) {
+            out.writeByte(TYPE_CHARACTER);
+            out.writeChar(c);
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(TYPE_DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof BigDecimal bd) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            writeString(out, bd.toString());
+        } else if (value instanceof BigInteger bi) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeString(out, bi.toString());
+        } else {
+            writeSerialized(out, value);
+        }
+    }
+
+    private void writeSerialized(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+            return;
+        }
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(value);
+        }
+        out.writeByte(TYPE_SERIALIZED);
+        out.writeInt(bos.size());
+        bos.writeTo(out);
+    }
+
+    private Object readValue(DataInputStream in, CamelContext camelContext, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_BYTES:
+                return readBytes(in);
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_CHARACTER:
+                return in.readChar();
+            case TYPE_DATE:
+                return new Date(in.readLong());
+            case TYPE_BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case TYPE_SERIALIZED:
+                return readSerialized(readBytes(in), camelContext, deserializationFilter);
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + type);
+        }
+    }
+
+    private Object readSerialized(byte[] data, CamelContext camelContext, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectIn = new ClassLoadingAwareObjectInputStream(
+                camelContext.getApplicationContextClassLoader(), new ByteArrayInputStream(data))) {
+            objectIn.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+            return objectIn.readObject();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
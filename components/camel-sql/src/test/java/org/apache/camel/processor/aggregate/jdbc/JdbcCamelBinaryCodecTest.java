@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InvalidClassException;
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.processor.aggregate.jdbc.util.HeaderDto;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcCamelBinaryCodecTest extends CamelTestSupport {
+
+    private static final String FILTER = "java.**;org.apache.camel.**;!*";
+
+    JdbcCamelBinaryCodec codec;
+
+    @BeforeEach
+    void setupTest() {
+        codec = new JdbcCamelBinaryCodec();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Exchange exchange = createExchange("Hello World");
+
+        byte[] data = codec.marshallExchange(exchange, false);
+        Exchange answer = codec.unmarshallExchange(context, data, FILTER);
+
+        assertExchange(exchange, answer);
+        Assertions.assertEquals("Hello World", answer.getIn().getBody());
+    }
+
+    @Test
+    public void testRoundTripCompressed() throws Exception {
+        codec.setCompress(true);
+        Exchange exchange = createExchange("Hello World ".repeat(1000));
+
+        byte[] data = codec.marshallExchange(exchange, false);
+        Assertions.assertTrue(data.length < 1000, "Should be compressed");
+
+        Exchange answer = codec.unmarshallExchange(context, new ByteArrayInputStream(data), FILTER);
+        assertExchange(exchange, answer);
+        Assertions.assertEquals("Hello World ".repeat(1000), answer.getIn().getBody());
+    }
+
+    @Test
+    public void testBytesBody() throws Exception {
+        byte[] body = new byte[] { 1, 2, 3, 4, 5 };
+        Exchange exchange = createExchange(body);
+
+        Exchange answer = codec.unmarshallExchange(context, codec.marshallExchange(exchange, false), FILTER);
+
+        Assertions.assertArrayEquals(body, answer.getIn().getBody(byte[].class));
+    }
+
+    @Test
+    public void testSerializedHeaders() throws Exception {
+        Exchange exchange = createExchange("Hello World");
+        exchange.getIn().setHeader("dto", new HeaderDto("org", "company", 1));
+
+        // not allowed so the header is excluded
+        Exchange answer = codec.unmarshallExchange(context, codec.marshallExchange(exchange, false), FILTER);
+        Assertions.assertNull(answer.getIn().getHeader("dto"));
+
+        answer = codec.unmarshallExchange(context, codec.marshallExchange(exchange, true), "java.**;org.apache.camel.**");
+        HeaderDto dto = answer.getIn().getHeader("dto", HeaderDto.class);
+        Assertions.assertEquals("org", dto.getOrg());
+        Assertions.assertEquals("company", dto.getType());
+
+        byte[] data = codec.marshallExchange(exchange, true);
+        Assertions.assertThrows(InvalidClassException.class, () -> codec.unmarshallExchange(context, data, "java.**;!*"));
+    }
+
+    @Test
+    public void testReadJavaSerialized() throws Exception {
+        Exchange exchange = createExchange("Hello World");
+
+        // stored with the default codec
+        byte[] data = new JdbcCamelCodec().marshallExchange(exchange, false);
+        Exchange answer = codec.unmarshallExchange(context, data, FILTER);
+
+        assertExchange(exchange, answer);
+        Assertions.assertEquals("Hello World", answer.getIn().getBody());
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialized() throws Exception {
+        Exchange exchange = createExchange("Hello World");
+
+        byte[] binary = codec.marshallExchange(exchange, false);
+        byte[] serialized = new JdbcCamelCodec().marshallExchange(exchange, false);
+
+        Assertions.assertTrue(binary.length < serialized.length,
+                "Binary " + binary.length + " should be smaller than serialized " + serialized.length);
+    }
+
+    private Exchange createExchange(Object body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        exchange.getIn().setHeader("foo", "bar");
+        exchange.getIn().setHeader("number", 123);
+        exchange.getIn().setHeader("long", 456L);
+        exchange.getIn().setHeader("flag", true);
+        exchange.getIn().setHeader("date", new Date(1000));
+        exchange.getIn().setHeader("amount", new BigDecimal("12.34"));
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 3);
+        exchange.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, "myKey");
+        exchange.setProperty("notRetained", "value");
+        return exchange;
+    }
+
+    private static void assertExchange(Exchange expected, Exchange actual) {
+        Assertions.assertEquals(expected.getExchangeId(), actual.getExchangeId());
+        Assertions.assertEquals("bar", actual.getIn().getHeader("foo"));
+        Assertions.assertEquals(123, actual.getIn().getHeader("number"));
+        Assertions.assertEquals(456L, actual.getIn().getHeader("long"));
+        Assertions.assertEquals(true, actual.getIn().getHeader("flag"));
+        Assertions.assertEquals(new Date(1000), actual.getIn().getHeader("date"));
+        Assertions.assertEquals(new BigDecimal("12.34"), actual.getIn().getHeader("amount"));
+        Assertions.assertEquals(3, actual.getProperty(Exchange.AGGREGATED_SIZE));
+        Assertions.assertEquals("myKey", actual.getProperty(Exchange.AGGREGATED_CORRELATION_KEY));
+        Assertions.assertNull(actual.getProperty("notRetained"));
+    }
+}
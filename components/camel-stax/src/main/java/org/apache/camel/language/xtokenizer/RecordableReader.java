@@ -59,6 +59,14 @@ class RecordableReader extends FilterReader {
         return t;
     }
 
+    /**
+     * Discards the recorded text up to the position, like {@link #getText(int)} without creating the text
+     */
+    public void discard(int pos) {
+        recording = false;
+        buf.trim(pos, 0);
+    }
+
     public char[] getChars(int pos) {
         recording = false;
         char[] b = buf.toCharArray(pos);
@@ -33,16 +33,24 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.converter.jaxp.StaxConverter;
+import org.apache.camel.converter.jaxp.XmlConverter;
 import org.apache.camel.spi.NamespaceAware;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.util.IOHelper;
@@ -59,6 +67,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
     protected final String path;
     protected char mode;
     protected int group;
+    protected boolean dom;
     protected Expression source;
     protected Map<String, String> nsmap;
 
@@ -105,6 +114,19 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         this.group = group;
     }
 
+    public boolean isDom() {
+        return dom;
+    }
+
+    /**
+     * Whether to build the extracted tokens as DOM documents directly from the StAX events, instead of extracting the
+     * text of the tokens. This is only supported in the injected mode without grouping, and otherwise the tokens are
+     * text.
+     */
+    public void setDom(boolean dom) {
+        this.dom = dom;
+    }
+
     protected Iterator<?> createIterator(InputStream in, String charset)
             throws XMLStreamException, UnsupportedEncodingException {
         return createIterator(new InputStreamReader(in, charset));
@@ -116,7 +138,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
     }
 
     protected Iterator<?> createIterator(Reader in) throws XMLStreamException {
-        return new XMLTokenIterator(path, nsmap, mode, group, in);
+        return new XMLTokenIterator(path, nsmap, mode, group, dom, in);
     }
 
     @Override
@@ -189,10 +211,17 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         private int trackdepth = -1;
         private int depth;
         private boolean compliant;
+        private boolean dom;
+        private DocumentBuilder documentBuilder;
 
         private Object nextToken;
 
         XMLTokenIterator(String path, Map<String, String> nsmap, char mode, int group, Reader in) throws XMLStreamException {
+            this(path, nsmap, mode, group, false, in);
+        }
+
+        XMLTokenIterator(String path, Map<String, String> nsmap, char mode, int group, boolean dom, Reader in)
+                                                                                                               throws XMLStreamException {
             final String[] sl = path.substring(1).split("/");
             this.splitpath = new AttributedQName[sl.length];
             for (int i = 0; i < sl.length; i++) {
@@ -207,6 +236,8 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
 
             this.mode = mode != 0 ? mode : 'i';
             this.group = group > 0 ? group : 1;
+            // the documents are built with the namespace bindings of the injected mode
+            this.dom = dom && this.mode == 'i' && this.group == 1;
             this.in = new RecordableReader(in);
             this.reader = new StaxConverter().createXMLStreamReader(this.in);
 
@@ -309,11 +340,17 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         }
 
         private void pushNamespaces(XMLStreamReader reader) {
+            int count = reader.getNamespaceCount();
+            if (count == 0 && !namespaces.isEmpty()) {
+                // the bindings are never modified, so share the bindings of the parent when there are no new ones
+                namespaces.add(namespaces.get(namespaces.size() - 1));
+                return;
+            }
             Map<String, String> m = new HashMap<>();
             if (!namespaces.isEmpty()) {
                 m.putAll(namespaces.get(namespaces.size() - 1));
             }
-            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            for (int i = 0; i < count; i++) {
                 m.put(reader.getNamespacePrefix(i), reader.getNamespaceURI(i));
             }
             namespaces.add(m);
@@ -361,6 +398,92 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
             return token;
         }
 
+        private Document getCurrentDocument() throws XMLStreamException {
+            if (documentBuilder == null) {
+                try {
+                    documentBuilder = new XmlConverter().createDocumentBuilder();
+                } catch (ParserConfigurationException e) {
+                    throw new XMLStreamException(e);
+                }
+            }
+            Document document = documentBuilder.newDocument();
+            Element root = createElement(document);
+            // inject the namespace bindings in the context of the element
+            for (Entry<String, String> e : getCurrentNamespaceBindings().entrySet()) {
+                String prefix = e.getKey() == null || e.getKey().isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE : e.getKey();
+                if (!root.hasAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, prefix)) {
+                    root.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                            XMLConstants.XMLNS_ATTRIBUTE.equals(prefix) ? prefix : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix,
+                            e.getValue());
+                }
+            }
+            document.appendChild(root);
+
+            // build the element from the events until its end element, like readCurrent
+            Node parent = root;
+            int d = depth;
+            while (d <= depth) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        Element element = createElement(document);
+                        parent.appendChild(element);
+                        parent = element;
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        depth--;
+                        parent = parent.getParentNode();
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                    case XMLStreamConstants.ENTITY_REFERENCE:
+                        parent.appendChild(document.createTextNode(reader.getText()));
+                        break;
+                    case XMLStreamConstants.CDATA:
+                        parent.appendChild(document.createCDATASection(reader.getText()));
+                        break;
+                    case XMLStreamConstants.COMMENT:
+                        parent.appendChild(document.createComment(reader.getText()));
+                        break;
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                        parent.appendChild(document.createProcessingInstruction(reader.getPITarget(), reader.getPIData()));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            // look ahead to the next token, and discard the text of the element
+            code = reader.next();
+            popName();
+            int pos = reader.getLocation().getCharacterOffset();
+            in.discard(pos - consumed);
+            consumed = pos;
+            in.record();
+            popNamespaces();
+
+            return document;
+        }
+
+        private Element createElement(Document document) {
+            Element element = document.createElementNS(emptyToNull(reader.getNamespaceURI()), makeName(reader.getName()));
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+                        prefix == null || prefix.isEmpty()
+                                ? XMLConstants.XMLNS_ATTRIBUTE : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix,
+                        reader.getNamespaceURI(i));
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                QName name = reader.getAttributeName(i);
+                element.setAttributeNS(emptyToNull(name.getNamespaceURI()), makeName(name), reader.getAttributeValue(i));
+            }
+            return element;
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+
         private String createContextualToken(String token) {
             StringBuilder sb = new StringBuilder();
             if (mode == 'w' && group == 1) {
@@ -454,7 +577,7 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
             return sb.toString();
         }
 
-        private String getNextToken() throws XMLStreamException {
+        private Object getNextToken() throws XMLStreamException {
             int xcode = 0;
             while (xcode != XMLStreamConstants.END_DOCUMENT) {
                 xcode = readNext();
@@ -489,6 +612,12 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
                             // mark the position of the match in the segments list
                             if (isBottom()) {
                                 // final match
+                                if (dom) {
+                                    Document document = getCurrentDocument();
+                                    backtrack = true;
+                                    trackdepth = depth;
+                                    return document;
+                                }
                                 token = getCurrentToken();
                                 backtrack = true;
                                 trackdepth = depth;
@@ -19,6 +19,8 @@ package org.apache.camel.language.xtokenizer;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.w3c.dom.Node;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
@@ -55,6 +57,10 @@ public class XMLTokenizeLanguage extends SingleInputTypedLanguageSupport {
 
         XMLTokenExpressionIterator xml = new XMLTokenExpressionIterator(source, expression, mode);
         xml.setGroup(property(int.class, properties, 3, 1));
+        if (type != null && Node.class.isAssignableFrom(type)) {
+            // build the DOM of the tokens directly instead of parsing the text of the tokens
+            xml.setDom(true);
+        }
         Object obj = properties[4];
         if (obj != null) {
             Namespaces ns;
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xtokenizer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.w3c.dom.Document;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.language.XMLTokenizerExpression;
+import org.apache.camel.support.builder.Namespaces;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.xmlunit.assertj3.XmlAssert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Tests the tokens which are built as DOM documents, when the result type is a DOM node
+ */
+public class XMLTokenizeDomTest extends CamelTestSupport {
+
+    private static final String MIXED
+            = "<?xml version='1.0' encoding='UTF-8'?><c:parent xmlns:c='urn:c'><c:child some_attr='a' anotherAttr='a'>ha"
+              + "</c:child><c:child some_attr='b' anotherAttr='b' /><c:child some_attr='c'></c:child></c:parent>";
+    private static final String NESTED
+            = "<c:parent xmlns:c='urn:c'><c:child name='child1'><grandchild name='grandchild1'/> <grandchild name='g2'/>"
+              + "</c:child><c:child name='child2'><grandchild xmlns='urn:g' name='grandchild1'>x</grandchild></c:child>"
+              + "</c:parent>";
+    private static final String ANCESTORS
+            = "<?xml version='1.0' encoding='UTF-8'?><g:greatgrandparent xmlns:g='urn:g'><grandparent><uncle/><aunt>emma"
+              + "</aunt><c:parent xmlns:c='urn:c' xmlns:d=\"urn:d\"><c:child d:attr='a'><!-- note --><![CDATA[<x>]]>&amp;"
+              + "</c:child><c:child some_attr='b'/></c:parent></grandparent></g:greatgrandparent>";
+
+    @Test
+    public void testSameTokensAsText() throws Exception {
+        for (String input : new String[] { MIXED, NESTED, ANCESTORS }) {
+            MockEndpoint text = getMockEndpoint("mock:text");
+            MockEndpoint dom = getMockEndpoint("mock:dom");
+            text.reset();
+            dom.reset();
+
+            template.sendBody("direct:text", input);
+            template.sendBody("direct:dom", input);
+
+            List<Exchange> expected = text.getReceivedExchanges();
+            List<Exchange> actual = dom.getReceivedExchanges();
+            assertEquals(expected.size(), actual.size(), input);
+            for (int i = 0; i < expected.size(); i++) {
+                assertInstanceOf(Document.class, actual.get(i).getMessage().getBody());
+                XmlAssert.assertThat(actual.get(i).getMessage().getBody(String.class))
+                        .and(expected.get(i).getMessage().getBody(String.class)).areSimilar();
+            }
+        }
+    }
+
+    @Test
+    public void testStreamingParallel() throws Exception {
+        StringBuilder sb = new StringBuilder("<c:parent xmlns:c='urn:c'>");
+        for (int i = 0; i < 1000; i++) {
+            sb.append("<c:child id='").append(i).append("'><name>").append(i).append("</name></c:child>");
+        }
+        sb.append("</c:parent>");
+
+        MockEndpoint mock = getMockEndpoint("mock:parallel");
+        mock.expectedMessageCount(1000);
+        mock.allMessages().body().isInstanceOf(Document.class);
+
+        template.sendBody("direct:parallel", new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)));
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            final Namespaces ns = new Namespaces("C", "urn:c");
+
+            public void configure() {
+                from("direct:text").split().xtokenize("//C:child", ns).to("mock:text");
+
+                XMLTokenizerExpression dom = new XMLTokenizerExpression("//C:child");
+                dom.setNamespaces(ns.getNamespaces());
+                dom.setResultType(Document.class);
+                from("direct:dom").split(dom).to("mock:dom");
+
+                from("direct:parallel").split(dom).streaming().parallelProcessing().to("mock:parallel");
+            }
+        };
+    }
+}
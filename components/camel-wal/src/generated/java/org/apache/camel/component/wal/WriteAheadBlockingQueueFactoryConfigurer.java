@@ -0,0 +1,87 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.component.wal;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.component.wal.WriteAheadBlockingQueueFactory;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class WriteAheadBlockingQueueFactoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.component.wal.WriteAheadBlockingQueueFactory target = (org.apache.camel.component.wal.WriteAheadBlockingQueueFactory) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allowserializedheaders":
+        case "allowSerializedHeaders": target.setAllowSerializedHeaders(property(camelContext, boolean.class, value)); return true;
+        case "deserializationfilter":
+        case "deserializationFilter": target.setDeserializationFilter(property(camelContext, java.lang.String.class, value)); return true;
+        case "directory": target.setDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "maxrecordsize":
+        case "maxRecordSize": target.setMaxRecordSize(property(camelContext, int.class, value)); return true;
+        case "maxspoolsize":
+        case "maxSpoolSize": target.setMaxSpoolSize(property(camelContext, long.class, value)); return true;
+        case "segmentsize":
+        case "segmentSize": target.setSegmentSize(property(camelContext, long.class, value)); return true;
+        case "sync": target.setSync(property(camelContext, boolean.class, value)); return true;
+        case "syncinterval":
+        case "syncInterval": target.setSyncInterval(property(camelContext, long.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allowserializedheaders":
+        case "allowSerializedHeaders": return boolean.class;
+        case "deserializationfilter":
+        case "deserializationFilter": return java.lang.String.class;
+        case "directory": return java.lang.String.class;
+        case "maxrecordsize":
+        case "maxRecordSize": return int.class;
+        case "maxspoolsize":
+        case "maxSpoolSize": return long.class;
+        case "segmentsize":
+        case "segmentSize": return long.class;
+        case "sync": return boolean.class;
+        case "syncinterval":
+        case "syncInterval": return long.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.component.wal.WriteAheadBlockingQueueFactory target = (org.apache.camel.component.wal.WriteAheadBlockingQueueFactory) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allowserializedheaders":
+        case "allowSerializedHeaders": return target.isAllowSerializedHeaders();
+        case "deserializationfilter":
+        case "deserializationFilter": return target.getDeserializationFilter();
+        case "directory": return target.getDirectory();
+        case "maxrecordsize":
+        case "maxRecordSize": return target.getMaxRecordSize();
+        case "maxspoolsize":
+        case "maxSpoolSize": return target.getMaxSpoolSize();
+        case "segmentsize":
+        case "segmentSize": return target.getSegmentSize();
+        case "sync": return target.isSync();
+        case "syncinterval":
+        case "syncInterval": return target.getSyncInterval();
+        default: return null;
+        }
+    }
+}
+
@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.apache.camel.component.wal.exceptions.BufferTooSmallException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of records, using the write-ahead log file format, used by the
+ * {@link WriteAheadAggregationRepository} and the {@link WriteAheadBlockingQueueFactory} queues. The log is flushed to
+ * disk using group commits: writers waiting for their records to become durable share a single call to fsync if another
+ * writer is already flushing the log. The log is compacted by rewriting the current records to a new file, which then
+ * atomically replaces the log file. The new file can be written while records are appended to the log, and only the
+ * records appended in the meantime are copied when the log file is replaced.
+ * <p/>
+ * The value metadata of each record holds a checksum of the value, so that incomplete records written during a crash
+ * can be detected and discarded when the log is replayed.
+ */
+final class RecordLog implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(RecordLog.class);
+
+    private final File logFile;
+    private final int maxRecordSize;
+    private final Object syncLock = new Object();
+
+    private volatile FileChannel fileChannel;
+    private volatile long writtenSequence;
+    private long size;
+    // guarded by syncLock
+    private long durableSequence;
+    private long syncCount;
+
+    /**
+     * Creates a new log
+     *
+     * @param logFile       the log file
+     * @param maxRecordSize the maximum size of a record, which is also the size of the buffer used to replay the log
+     */
+    RecordLog(File logFile, int maxRecordSize) {
+        this.logFile = logFile;
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    /**
+     * Creates a new entry for the log
+     *
+     * @param  type  the record type (saved as the key metadata)
+     * @param  key   the record key
+     * @param  value the record value
+     * @return       the new entry
+     */
+    static LogEntry newEntry(int type, byte[] key, byte[] value) {
+        return new LogEntry(LogEntry.EntryState.NEW, type, key, checksum(value), value);
+    }
+
+    private static int checksum(byte[] value) {
+        CRC32 crc = new CRC32();
+        crc.update(value);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Reads all the records from the log file. Reading stops at the first incomplete or corrupted record, as that is
+     * the result of a partial write at the end of the log when the system crashed.
+     *
+     * @param  consumer    the consumer of the records
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void replay(Consumer<LogEntry> consumer) throws IOException {
+        if (!logFile.exists() || logFile.length() < Header.BYTES) {
+            return;
+        }
+
+        try (LogReader reader = new LogReader(logFile, maxRecordSize)) {
+            Header header = reader.getHeader();
+            if (!Header.FORMAT_NAME.equals(header.getFormatName())) {
+                throw new IOException("The file " + logFile + " is not a write-ahead log file");
+            }
+
+            int count = 0;
+            while (true) {
+                PersistedLogEntry entry;
+                try {
+                    entry = reader.readEntry();
+                } catch (BufferTooSmallException | RuntimeException e) {
+                    LOG.warn("Discarding an incomplete or corrupted record at the end of the log {} after {} records: {}",
+                            logFile, count, e.getMessage());
+                    break;
+                }
+                if (entry == null) {
+                    break;
+                }
+                if (entry.getValueMetadata() != checksum(entry.getValue())) {
+                    LOG.warn("Discarding a record with an invalid checksum at the end of the log {} after {} records",
+                            logFile, count);
+                    break;
+                }
+
+                consumer.accept(entry);
+                count++;
+            }
+            LOG.debug("Replayed {} records from the log {}", count, logFile);
+        }
+    }
+
+    /**
+     * Appends an entry to the log. The entry is written to the file but not flushed to disk, use {@link #sync(long)}
+     * with the returned sequence to wait for the entry to be durable. The caller must ensure appends are not executed
+     * concurrently.
+     *
+     * @param  entry       the entry to append
+     * @return             the sequence of the appended entry
+     * @throws IOException in case of lower-level I/O errors
+     */
+    long append(LogEntry entry) throws IOException {
+        final int recordSize = entry.size();
+        if (recordSize > maxRecordSize) {
+            throw new IOException(
+                    "The record size " + recordSize + " exceeds the maximum record size " + maxRecordSize + " of the log");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(recordSize);
+        IOUtil.serialize(buffer, entry);
+        IOUtil.write(fileChannel, buffer);
+
+        size += recordSize;
+        return ++writtenSequence;
+    }
+
+    /**
+     * Flushes the log to disk, unless the entry with the given sequence has already been flushed by another writer in
+     * the meantime.
+     *
+     * @param  sequence    the sequence of the entry that must be durable
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void sync(long sequence) throws IOException {
+        synchronized (syncLock) {
+            if (durableSequence >= sequence) {
+                return;
+            }
+
+            // everything written up to this point is covered by this flush
+            final long target = writtenSequence;
+            fileChannel.force(false);
+            durableSequence = target;
+            syncCount++;
+        }
+    }
+
+    /**
+     * Flushes all the entries written so far to disk
+     *
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void sync() throws IOException {
+        sync(writtenSequence);
+    }
+
+    /**
+     * Replaces the content of the log with the given entries. The entries are written to a new file which atomically
+     * replaces the current log file. The caller must ensure no entries are appended while rewriting the log.
+     *
+     * @param  entries     the entries of the new log
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void rewrite(Iterable<LogEntry> entries) throws IOException {
+        long compactSize = writeCompactFile(entries);
+        replaceWithCompactFile(compactSize, size);
+    }
+
+    /**
+     * Writes the given entries to a new compact file, and flushes it to disk. This does not change the log, so entries
+     * can be appended to the log at the same time. Use {@link #replaceWithCompactFile(long, long)} to replace the log
+     * with the compact file.
+     *
+     * @param  entries     the entries of the new log
+     * @return             the size of the compact file
+     * @throws IOException in case of lower-level I/O errors
+     */
+    long writeCompactFile(Iterable<LogEntry> entries) throws IOException {
+        long newSize;
+        try (FileChannel channel = FileChannel.open(compactFile().toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            newSize = writeHeader(channel);
+            for (LogEntry entry : entries) {
+                ByteBuffer buffer = ByteBuffer.allocate(entry.size());
+                IOUtil.serialize(buffer, entry);
+                newSize += IOUtil.write(channel, buffer);
+            }
+            channel.force(true);
+        }
+        return newSize;
+    }
+
+    /**
+     * Replaces the log file with the compact file written by {@link #writeCompactFile(Iterable)}. The records appended
+     * to the log since the entries of the compact file were taken are copied to the compact file first. The caller must
+     * ensure no entries are appended while replacing the log.
+     *
+     * @param  compactSize the size of the compact file
+     * @param  position    the size of the log when the entries of the compact file were taken
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void replaceWithCompactFile(long compactSize, long position) throws IOException {
+        final File compactFile = compactFile();
+
+        long newSize = compactSize;
+        if (size > position) {
+            try (FileChannel in = FileChannel.open(logFile.toPath(), StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(compactFile.toPath(), StandardOpenOption.WRITE,
+                         StandardOpenOption.APPEND)) {
+                long pos = position;
+                while (pos < size) {
+                    long transferred = in.transferTo(pos, size - pos, out);
+                    if (transferred <= 0) {
+                        throw new IOException("Cannot copy the records of the log " + logFile + " to the compact file");
+                    }
+                    pos += transferred;
+                }
+                out.force(true);
+            }
+            newSize += size - position;
+        }
+
+        synchronized (syncLock) {
+            if (fileChannel != null) {
+                fileChannel.close();
+            }
+            Files.move(compactFile.toPath(), logFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory();
+
+            fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            durableSequence = writtenSequence;
+            LOG.debug("Rewrote the log {} from {} to {} bytes", logFile, size, newSize);
+            size = newSize;
+        }
+    }
+
+    private File compactFile() {
+        return new File(logFile.getPath() + ".compact");
+    }
+
+    private void syncDirectory() {
+        // the rename is only durable once the directory is flushed, which is not supported on all platforms
+        File dir = logFile.getAbsoluteFile().getParentFile();
+        try (FileChannel channel = FileChannel.open(dir.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            LOG.trace("Unable to flush the directory {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static long writeHeader(FileChannel channel) throws IOException {
+        final Header header = Header.WA_DEFAULT_V1;
+        ByteBuffer headerBuffer = ByteBuffer.allocate(Header.BYTES);
+
+        headerBuffer.put(header.getFormatName().getBytes());
+        headerBuffer.putInt(header.getFileVersion());
+
+        return IOUtil.write(channel, headerBuffer);
+    }
+
+    /**
+     * Gets the size of the log file
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of times the log was flushed to disk
+     */
+    long getSyncCount() {
+        synchronized (syncLock) {
+            return syncCount;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            if (fileChannel != null) {
+                fileChannel.force(false);
+                fileChannel.close();
+                fileChannel = null;
+                // writers waiting for their entries are done as everything was flushed
+                durableSequence = writtenSequence;
+            }
+        }
+    }
+}
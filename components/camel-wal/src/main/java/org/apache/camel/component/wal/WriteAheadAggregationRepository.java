@@ -0,0 +1,647 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StringHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An instance of {@link org.apache.camel.spi.AggregationRepository} which is backed by a write-ahead log file.
+ * <p/>
+ * The current exchanges are kept in memory, and every change is appended to the log before it takes effect, so the
+ * repository can be rebuilt by replaying the log on startup. Writers waiting for the log to be flushed to disk share a
+ * single fsync (group commit), and the log is compacted in the background by rewriting the current exchanges once it
+ * grows beyond the compaction threshold. The compacted log is written without blocking the exchanges being aggregated.
+ */
+@Metadata(label = "bean",
+          description = "Aggregation repository that uses a write-ahead log file to store exchanges.",
+          annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
+@Configurer(metadataOnly = true)
+public class WriteAheadAggregationRepository extends ServiceSupport
+        implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository {
+
+    /**
+     * The default maximum size of a record: 16 MiB
+     */
+    public static final int DEFAULT_MAX_RECORD_SIZE = 16 * 1024 * 1024;
+    /**
+     * The default log size before compacting: 64 MiB
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024 * 1024;
+
+    static final String VERSION_PROPERTY = "CamelOptimisticLockVersion";
+
+    // the record types, saved as the key metadata of the log entries
+    static final int ADD = 1;
+    static final int REMOVE = 2;
+    static final int CONFIRM = 3;
+    static final int COMPLETED = 4;
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteAheadAggregationRepository.class);
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> completed = new ConcurrentHashMap<>();
+    private RecordLog log;
+    private LogSupervisor logSupervisor;
+    private long version;
+    private long liveSize;
+
+    @Metadata(description = "Name of file to use for the write-ahead log", required = true)
+    private String persistentFileName;
+    @Metadata(description = "Whether to wait for the log to be flushed to disk on every change. When disabled the log is flushed periodically.",
+              defaultValue = "true")
+    private boolean sync = true;
+    @Metadata(label = "advanced",
+              description = "The interval in millis between flushing the log to disk when sync is disabled, and between checking whether the log should be compacted",
+              defaultValue = "1000")
+    private long syncInterval = 1000;
+    @Metadata(label = "advanced",
+              description = "The size in bytes the log must exceed before it is compacted. The log is only compacted when it is more than twice the size of the current exchanges.",
+              defaultValue = "67108864")
+    private long compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+    @Metadata(label = "advanced", description = "The maximum size in bytes of a stored exchange", defaultValue = "16777216")
+    private int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
+    @Metadata(label = "advanced",
+              description = "Whether to return the old exchange when adding new exchanges to the repository")
+    private boolean returnOldExchange;
+    @Metadata(description = "Whether or not recovery is enabled", defaultValue = "true")
+    private boolean useRecovery = true;
+    @Metadata(description = "Sets the interval between recovery scans", defaultValue = "5000")
+    private long recoveryInterval = 5000;
+    @Metadata(description = "Sets an optional limit of the number of redelivery attempt of recovered Exchange should be attempted, before its exhausted."
+                            + " When this limit is hit, then the Exchange is moved to the dead letter channel.")
+    private int maximumRedeliveries;
+    @Metadata(description = "Sets an optional dead letter channel which exhausted recovered Exchange should be send to.")
+    private String deadLetterUri;
+    @Metadata(label = "advanced",
+              description = "Whether headers on the Exchange that are Java objects and Serializable should be included and saved to the repository")
+    private boolean allowSerializedHeaders;
+    @Metadata(label = "advanced",
+              description = "Sets a deserialization filter while reading Object from Aggregation Repository. By default the filter will allow"
+                            + " all java packages and subpackages and all org.apache.camel packages and subpackages, while the remaining will be"
+                            + " blacklisted and not deserialized. This parameter should be customized if you're using classes you trust to be deserialized.",
+              defaultValue = "java.**;org.apache.camel.**;!*")
+    private String deserializationFilter = "java.**;org.apache.camel.**;!*";
+
+    /**
+     * A current exchange in the repository
+     */
+    private static final class Entry {
+        private final byte[] data;
+        private final long version;
+
+        private Entry(byte[] data, long version) {
+            this.data = data;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Creates an aggregation repository
+     */
+    public WriteAheadAggregationRepository() {
+    }
+
+    /**
+     * Creates an aggregation repository
+     *
+     * @param persistentFileName the name of the write-ahead log file
+     */
+    public WriteAheadAggregationRepository(String persistentFileName) {
+        StringHelper.notEmpty(persistentFileName, "persistentFileName");
+        this.persistentFileName = persistentFileName;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        // without optimistic locking the version is not checked, as the exchange may carry the version of another repository
+        return doAdd(camelContext, key, exchange, null, false);
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange oldExchange, Exchange newExchange)
+            throws OptimisticLockingException {
+        if (oldExchange == null) {
+            return doAdd(camelContext, key, newExchange, null, true);
+        }
+        Long expected = oldExchange.getProperty(VERSION_PROPERTY, Long.class);
+        // an old exchange without a version was not obtained from this repository so it can never match
+        return doAdd(camelContext, key, newExchange, expected != null ? expected : -1L, true);
+    }
+
+    private Exchange doAdd(CamelContext camelContext, String key, Exchange exchange, Long expected, boolean optimistic) {
+        LOG.debug("Adding key [{}] -> {}", key, exchange);
+
+        final byte[] data = marshallExchange(exchange);
+        final long sequence;
+        Entry current;
+
+        lock.lock();
+        try {
+            current = entries.get(key);
+            if (isStale(current, expected, optimistic)) {
+                LOG.debug("Stale version while adding key [{}]", key);
+                throw new OptimisticLockingException();
+            }
+
+            sequence = append(RecordLog.newEntry(ADD, toBytes(key), data));
+            entries.put(key, new Entry(data, ++version));
+            liveSize += recordSize(key, data);
+            if (current != null) {
+                liveSize -= recordSize(key, current.data);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        sync(sequence);
+
+        // only return old exchange if enabled
+        if (current != null && isReturnOldExchange()) {
+            return unmarshallExchange(camelContext, current.data);
+        }
+        return null;
+    }
+
+    private static boolean isStale(Entry current, Long expected, boolean optimistic) {
+        if (expected == null) {
+            // with optimistic locking an exchange without a version must be the first exchange for the key
+            return optimistic && current != null;
+        }
+        return current == null ? optimistic : current.version != expected;
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        Exchange answer = null;
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            answer = unmarshallExchange(camelContext, entry.data);
+            answer.setProperty(VERSION_PROPERTY, entry.version);
+        }
+
+        LOG.debug("Getting key [{}] -> {}", key, answer);
+        return answer;
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) throws OptimisticLockingException {
+        LOG.debug("Removing key [{}]", key);
+
+        final String exchangeId = exchange.getExchangeId();
+        final byte[] data = marshallExchange(exchange);
+        // the version is only used by this repository, so it should not be carried downstream with the completed exchange
+        final Long expected = exchange.removeProperty(VERSION_PROPERTY) instanceof Long v ? v : null;
+        final long sequence;
+
+        lock.lock();
+        try {
+            Entry current = entries.get(key);
+            if (current != null && expected != null && current.version != expected) {
+                LOG.debug("Stale version while removing key [{}]", key);
+                throw new OptimisticLockingException();
+            }
+
+            // remove the exchange and add it to the completed exchanges in a single record
+            sequence = append(RecordLog.newEntry(REMOVE, toBytes(key + '\0' + exchangeId), data));
+            if (current != null) {
+                entries.remove(key);
+                liveSize -= recordSize(key, current.data);
+            }
+            completed.put(exchangeId, data);
+            liveSize += recordSize(exchangeId, data);
+        } finally {
+            lock.unlock();
+        }
+
+        sync(sequence);
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        confirmWithResult(camelContext, exchangeId);
+    }
+
+    @Override
+    public boolean confirmWithResult(CamelContext camelContext, String exchangeId) {
+        LOG.debug("Confirming exchangeId [{}]", exchangeId);
+
+        final long sequence;
+
+        lock.lock();
+        try {
+            if (!completed.containsKey(exchangeId)) {
+                return false;
+            }
+
+            sequence = append(RecordLog.newEntry(CONFIRM, toBytes(exchangeId), EMPTY));
+            byte[] data = completed.remove(exchangeId);
+            liveSize -= recordSize(exchangeId, data);
+        } finally {
+            lock.unlock();
+        }
+
+        sync(sequence);
+        return true;
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        // interval task could potentially be running while we are shutting down so check for that
+        if (!isRunAllowed()) {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(new LinkedHashSet<>(entries.keySet()));
+    }
+
+    @Override
+    public Set<String> scan(CamelContext camelContext) {
+        if (!isRunAllowed()) {
+            return null;
+        }
+
+        Set<String> answer = new LinkedHashSet<>(completed.keySet());
+        if (answer.isEmpty()) {
+            LOG.trace("Scanned and found no exchange to recover.");
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Scanned and found {} exchange(s) to recover (note some of them may already be in progress).",
+                        answer.size());
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public Exchange recover(CamelContext camelContext, String exchangeId) {
+        Exchange answer = null;
+
+        byte[] data = completed.get(exchangeId);
+        if (data != null) {
+            answer = unmarshallExchange(camelContext, data);
+        }
+
+        LOG.debug("Recovering exchangeId [{}] -> {}", exchangeId, answer);
+        return answer;
+    }
+
+    private long append(LogEntry entry) {
+        try {
+            return log.append(entry);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error appending to the write-ahead log " + persistentFileName, e);
+        }
+    }
+
+    private void sync(long sequence) {
+        if (!sync) {
+            return;
+        }
+
+        try {
+            log.sync(sequence);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error flushing the write-ahead log " + persistentFileName, e);
+        }
+    }
+
+    /**
+     * Compacts the log if it has grown beyond the threshold and mostly holds outdated records. This is called
+     * periodically by the log supervisor, so the exchanges being aggregated do not pay for the compaction. Only taking
+     * the snapshot of the current exchanges and replacing the log file is done while holding the lock, so the
+     * exchanges being aggregated are not blocked while the compacted log is written and flushed to disk.
+     */
+    private void tryCompact() {
+        final RecordLog current;
+        final long position;
+        final Map<String, byte[]> snapshotEntries = new LinkedHashMap<>();
+        final Map<String, byte[]> snapshotCompleted;
+
+        lock.lock();
+        try {
+            current = log;
+            if (current == null) {
+                return;
+            }
+            position = current.size();
+            if (position <= compactionThreshold || position <= liveSize * 2) {
+                return;
+            }
+            entries.forEach((k, v) -> snapshotEntries.put(k, v.data));
+            snapshotCompleted = new LinkedHashMap<>(completed);
+        } finally {
+            lock.unlock();
+        }
+
+        LOG.debug("Compacting the write-ahead log {} of {} bytes", persistentFileName, position);
+        try {
+            long compactSize = current.writeCompactFile(snapshot(snapshotEntries, snapshotCompleted));
+
+            lock.lock();
+            try {
+                // the repository may have been stopped in the meantime
+                if (log == current) {
+                    // copies the records appended since the snapshot was taken
+                    current.replaceWithCompactFile(compactSize, position);
+                }
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            LOG.error("Unable to compact the write-ahead log {}: {}", persistentFileName, e.getMessage(), e);
+        }
+    }
+
+    private void compact() throws IOException {
+        Map<String, byte[]> snapshotEntries = new LinkedHashMap<>();
+        entries.forEach((k, v) -> snapshotEntries.put(k, v.data));
+
+        log.rewrite(snapshot(snapshotEntries, completed));
+    }
+
+    private static List<LogEntry> snapshot(Map<String, byte[]> entries, Map<String, byte[]> completed) {
+        List<LogEntry> snapshot = new ArrayList<>(entries.size() + completed.size());
+        entries.forEach((k, v) -> snapshot.add(RecordLog.newEntry(ADD, toBytes(k), v)));
+        completed.forEach((k, v) -> snapshot.add(RecordLog.newEntry(COMPLETED, toBytes(k), v)));
+        return snapshot;
+    }
+
+    /**
+     * Applies a record from the log to the repository when replaying the log on startup
+     */
+    private void applyRecord(LogEntry entry) {
+        final String key = new String(entry.getKey(), StandardCharsets.UTF_8);
+
+        switch (entry.getKeyMetadata()) {
+            case ADD:
+                entries.put(key, new Entry(entry.getValue(), ++version));
+                break;
+            case REMOVE:
+                int pos = key.lastIndexOf('\0');
+                entries.remove(key.substring(0, pos));
+                completed.put(key.substring(pos + 1), entry.getValue());
+                break;
+            case CONFIRM:
+                completed.remove(key);
+                break;
+            case COMPLETED:
+                completed.put(key, entry.getValue());
+                break;
+            default:
+                LOG.warn("Ignoring an unknown record of type {} in the write-ahead log {}", entry.getKeyMetadata(),
+                        persistentFileName);
+        }
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long recordSize(String key, byte[] data) {
+        // an estimate of the size of the record in the log
+        return LogEntry.size(EMPTY, data) + key.length();
+    }
+
+    private byte[] marshallExchange(Exchange exchange) {
+        return ExchangeCodec.marshallAggregatedExchange(exchange, allowSerializedHeaders);
+    }
+
+    private Exchange unmarshallExchange(CamelContext camelContext, byte[] data) {
+        return ExchangeCodec.unmarshallExchange(camelContext, data, deserializationFilter);
+    }
+
+    public String getPersistentFileName() {
+        return persistentFileName;
+    }
+
+    public void setPersistentFileName(String persistentFileName) {
+        this.persistentFileName = persistentFileName;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(long syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public int getMaxRecordSize() {
+        return maxRecordSize;
+    }
+
+    public void setMaxRecordSize(int maxRecordSize) {
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    public boolean isReturnOldExchange() {
+        return returnOldExchange;
+    }
+
+    public void setReturnOldExchange(boolean returnOldExchange) {
+        this.returnOldExchange = returnOldExchange;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public long getRecoveryInterval() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    /**
+     * Gets the number of times the log was flushed to disk
+     */
+    public long getSyncCount() {
+        return log != null ? log.getSyncCount() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(persistentFileName, "persistentFileName");
+
+        File file = new File(persistentFileName);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        log = new RecordLog(file, maxRecordSize);
+
+        lock.lock();
+        try {
+            entries.clear();
+            completed.clear();
+            log.replay(this::applyRecord);
+
+            // start from a compacted log, which also discards any incomplete record at the end of the log
+            compact();
+            liveSize = log.size();
+        } finally {
+            lock.unlock();
+        }
+
+        logSupervisor = new DefaultLogSupervisor(syncInterval);
+        logSupervisor.start(this::supervise);
+
+        // log number of existing exchanges
+        if (!entries.isEmpty()) {
+            LOG.info("On startup there are {} aggregate exchanges (not completed) in repository: {}",
+                    entries.size(), persistentFileName);
+        } else {
+            LOG.info("On startup there are no existing aggregate exchanges (not completed) in repository: {}",
+                    persistentFileName);
+        }
+        if (!completed.isEmpty()) {
+            LOG.warn("On startup there are {} completed exchanges to be recovered in repository: {}",
+                    completed.size(), persistentFileName);
+        } else {
+            LOG.info("On startup there are no completed exchanges to be recovered in repository: {}",
+                    persistentFileName);
+        }
+    }
+
+    private void supervise() {
+        if (!sync) {
+            trySync();
+        }
+        tryCompact();
+    }
+
+    private void trySync() {
+        try {
+            log.sync();
+        } catch (IOException e) {
+            LOG.error("Unable to flush the write-ahead log {}: {}", persistentFileName, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (logSupervisor != null) {
+            logSupervisor.stop();
+            logSupervisor = null;
+        }
+        if (log != null) {
+            lock.lock();
+            try {
+                log.close();
+                log = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,634 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A durable blocking queue of exchanges, which stores the exchanges in segmented write-ahead log files in a directory.
+ * <p/>
+ * Every exchange added to the queue is appended to the current segment, and when a taken exchange is done, an
+ * acknowledgement is appended. Exchanges that were not acknowledged are replayed when the queue is opened again, giving
+ * at-least-once delivery. The oldest segments are deleted once all their exchanges have been acknowledged, and the
+ * current segment is rolled over once all the exchanges in the queue have been acknowledged, so the acknowledgements do
+ * not keep growing the current segment.
+ * <p/>
+ * Exchanges added while the queue is open are kept in memory, as any other queue. Exchanges replayed from the log are
+ * read from their segment when taken from the queue.
+ */
+final class WriteAheadBlockingQueue extends AbstractQueue<Exchange> implements BlockingQueue<Exchange> {
+
+    // the record types, saved as the key metadata of the log entries
+    static final int ADD = 1;
+    static final int ACK = 2;
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteAheadBlockingQueue.class);
+    private static final String SEGMENT_PREFIX = "spool-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final byte[] EMPTY = new byte[0];
+
+    private final CamelContext camelContext;
+    private final WriteAheadBlockingQueueFactory configuration;
+    private final File directory;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<Record> records = new ArrayDeque<>();
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private Segment current;
+    private long nextId;
+    private long spoolSize;
+
+    /**
+     * A segment of the log
+     */
+    private static final class Segment {
+        private final long index;
+        private final File file;
+        private RecordLog log;
+        private FileChannel reader;
+        private int pending;
+        private long size;
+
+        private Segment(long index, File file) {
+            this.index = index;
+            this.file = file;
+        }
+    }
+
+    /**
+     * An exchange in the queue
+     */
+    private static final class Record {
+        private final long id;
+        private final Segment segment;
+        private final Exchange exchange;
+        private final long valuePosition;
+        private final int valueLength;
+
+        private Record(long id, Segment segment, Exchange exchange, long valuePosition, int valueLength) {
+            this.id = id;
+            this.segment = segment;
+            this.exchange = exchange;
+            this.valuePosition = valuePosition;
+            this.valueLength = valueLength;
+        }
+    }
+
+    WriteAheadBlockingQueue(CamelContext camelContext, WriteAheadBlockingQueueFactory configuration, int capacity) {
+        this.camelContext = camelContext;
+        this.configuration = configuration;
+        this.directory = new File(configuration.getDirectory());
+        this.capacity = capacity;
+    }
+
+    /**
+     * Opens the queue, replaying the exchanges that were not acknowledged from the existing segments
+     *
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void open() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create the directory " + directory);
+        }
+
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            files = new File[0];
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+
+        lock.lock();
+        try {
+            final Map<Long, Record> pending = new LinkedHashMap<>();
+            long lastIndex = -1;
+            for (File file : files) {
+                Segment segment = new Segment(segmentIndex(file), file);
+                segment.size = file.length();
+                segments.add(segment);
+                replay(segment, pending);
+                lastIndex = segment.index;
+            }
+            for (Record record : pending.values()) {
+                record.segment.pending++;
+                records.add(record);
+            }
+
+            current = newSegment(lastIndex + 1);
+            segments.add(current);
+            for (Segment segment : segments) {
+                spoolSize += segment.size;
+            }
+            deleteConsumedSegments();
+        } finally {
+            lock.unlock();
+        }
+
+        if (!records.isEmpty()) {
+            LOG.info("Replayed {} exchanges from the queue in directory: {}", records.size(), directory);
+        }
+    }
+
+    private void replay(Segment segment, Map<Long, Record> pending) throws IOException {
+        final long[] position = { Header.BYTES };
+
+        new RecordLog(segment.file, configuration.getMaxRecordSize()).replay(entry -> {
+            final long recordPosition = position[0];
+            final int recordSize = entry.size();
+            position[0] += recordSize;
+
+            final long id = ByteBuffer.wrap(entry.getKey()).getLong();
+            if (entry.getKeyMetadata() == ADD) {
+                final int valueLength = entry.getValue().length;
+                pending.put(id, new Record(id, segment, null, recordPosition + recordSize - valueLength, valueLength));
+            } else if (entry.getKeyMetadata() == ACK) {
+                pending.remove(id);
+            }
+            nextId = Math.max(nextId, id + 1);
+        });
+    }
+
+    private static long segmentIndex(File file) {
+        String name = file.getName();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private Segment newSegment(long index) throws IOException {
+        Segment segment
+                = new Segment(index, new File(directory, String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX)));
+        segment.log = new RecordLog(segment.file, configuration.getMaxRecordSize());
+        segment.log.rewrite(Collections.emptyList());
+        segment.size = segment.log.size();
+        return segment;
+    }
+
+    /**
+     * Closes the queue. The exchanges not yet acknowledged are replayed when the queue is opened again.
+     */
+    void close() {
+        lock.lock();
+        try {
+            if (current != null) {
+                IOHelper.close(current.log);
+                current = null;
+            }
+            for (Segment segment : segments) {
+                IOHelper.close(segment.reader);
+            }
+            segments.clear();
+            records.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the current segment to disk
+     */
+    void sync() throws IOException {
+        RecordLog log;
+        lock.lock();
+        try {
+            log = current != null ? current.log : null;
+        } finally {
+            lock.unlock();
+        }
+        if (log != null) {
+            log.sync();
+        }
+    }
+
+    /**
+     * Gets the size in bytes of the segments
+     */
+    long getSpoolSize() {
+        lock.lock();
+        try {
+            return spoolSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of segments
+     */
+    int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // must be called while holding the lock
+    private boolean isFull() {
+        return records.size() >= capacity || spoolSize >= configuration.getMaxSpoolSize();
+    }
+
+    private boolean doOffer(Exchange exchange, boolean wait, long nanos) throws InterruptedException {
+        final byte[] data = ExchangeCodec.marshallExchange(exchange, configuration.isAllowSerializedHeaders());
+        final RecordLog log;
+        final long sequence;
+
+        lock.lockInterruptibly();
+        try {
+            checkOpen();
+            while (isFull()) {
+                if (!wait) {
+                    return false;
+                }
+                if (nanos < 0) {
+                    notFull.await();
+                } else if (nanos == 0) {
+                    return false;
+                } else {
+                    nanos = notFull.awaitNanos(nanos);
+                }
+                checkOpen();
+            }
+
+            rollIfNeeded();
+            log = current.log;
+            final byte[] key = ByteBuffer.allocate(Long.BYTES).putLong(nextId).array();
+            sequence = append(RecordLog.newEntry(ADD, key, data));
+
+            // the value is at the end of the record
+            current.pending++;
+            records.add(new Record(nextId++, current, exchange, log.size() - data.length, data.length));
+            notEmpty.signal();
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error appending to the queue in directory " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+
+        if (configuration.isSync()) {
+            try {
+                log.sync(sequence);
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Error flushing the queue in directory " + directory, e);
+            }
+        }
+        return true;
+    }
+
+    // must be called while holding the lock
+    private void rollIfNeeded() throws IOException {
+        if (current.log.size() >= configuration.getSegmentSize()) {
+            roll();
+        }
+    }
+
+    // must be called while holding the lock
+    private void roll() throws IOException {
+        current.log.close();
+        current.log = null;
+        current = newSegment(current.index + 1);
+        segments.add(current);
+        spoolSize += current.size;
+    }
+
+    // must be called while holding the lock
+    private long append(LogEntry entry) throws IOException {
+        final long sequence = current.log.append(entry);
+        spoolSize += current.log.size() - current.size;
+        current.size = current.log.size();
+        return sequence;
+    }
+
+    private void checkOpen() {
+        if (current == null) {
+            throw new IllegalStateException("The queue in directory " + directory + " is closed");
+        }
+    }
+
+    private Exchange deliver(Record record) {
+        final Exchange exchange = record.exchange != null ? record.exchange : read(record);
+
+        // acknowledge the exchange when done, so it is not replayed
+        exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                acknowledge(record);
+            }
+
+            @Override
+            public String toString() {
+                return "onDone acknowledge exchange in queue " + directory;
+            }
+        });
+        return exchange;
+    }
+
+    private Exchange read(Record record) {
+        try {
+            FileChannel reader;
+            lock.lock();
+            try {
+                reader = record.segment.reader;
+                if (reader == null) {
+                    reader = FileChannel.open(record.segment.file.toPath(), StandardOpenOption.READ);
+                    record.segment.reader = reader;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(record.valueLength);
+            while (buffer.hasRemaining()) {
+                if (reader.read(buffer, record.valuePosition + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of the segment " + record.segment.file);
+                }
+            }
+            return ExchangeCodec.unmarshallExchange(camelContext, buffer.array(), configuration.getDeserializationFilter());
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error reading from the queue in directory " + directory, e);
+        }
+    }
+
+    private void acknowledge(Record record) {
+        lock.lock();
+        try {
+            if (current == null) {
+                // closed so the exchange is replayed
+                return;
+            }
+
+            rollIfNeeded();
+            append(RecordLog.newEntry(ACK, ByteBuffer.allocate(Long.BYTES).putLong(record.id).array(), EMPTY));
+            record.segment.pending--;
+            deleteConsumedSegments();
+
+            if (segments.size() == 1 && current.pending == 0 && current.size >= configuration.getSegmentSize() / 2) {
+                // every exchange has been acknowledged, so start over with an empty segment, as otherwise the
+                // acknowledgements keep growing the current segment until the queue is full
+                roll();
+                deleteConsumedSegments();
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to acknowledge an exchange in the queue in directory {}: {}", directory, e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // must be called while holding the lock
+    private void deleteConsumedSegments() {
+        // delete the oldest segments in order, as the acknowledgements for a segment are in the same or newer segments
+        while (segments.size() > 1) {
+            Segment oldest = segments.peekFirst();
+            if (oldest.pending > 0 || oldest == current) {
+                break;
+            }
+
+            segments.removeFirst();
+            IOHelper.close(oldest.reader);
+            if (!oldest.file.delete()) {
+                LOG.warn("Unable to delete the consumed segment {}", oldest.file);
+            }
+            spoolSize -= oldest.size;
+            notFull.signalAll();
+        }
+    }
+
+    private Record pollRecord() {
+        Record record = records.poll();
+        if (record != null) {
+            notFull.signal();
+        }
+        return record;
+    }
+
+    @Override
+    public boolean offer(Exchange exchange) {
+        try {
+            return doOffer(exchange, false, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean offer(Exchange exchange, long timeout, TimeUnit unit) throws InterruptedException {
+        return doOffer(exchange, true, Math.max(0, unit.toNanos(timeout)));
+    }
+
+    @Override
+    public void put(Exchange exchange) throws InterruptedException {
+        doOffer(exchange, true, -1);
+    }
+
+    @Override
+    public Exchange poll() {
+        Record record;
+        lock.lock();
+        try {
+            record = pollRecord();
+        } finally {
+            lock.unlock();
+        }
+        return record != null ? deliver(record) : null;
+    }
+
+    @Override
+    public Exchange poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        Record record;
+        lock.lockInterruptibly();
+        try {
+            while (records.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            record = pollRecord();
+        } finally {
+            lock.unlock();
+        }
+        return deliver(record);
+    }
+
+    @Override
+    public Exchange take() throws InterruptedException {
+        Record record;
+        lock.lockInterruptibly();
+        try {
+            while (records.isEmpty()) {
+                notEmpty.await();
+            }
+            record = pollRecord();
+        } finally {
+            lock.unlock();
+        }
+        return deliver(record);
+    }
+
+    @Override
+    public Exchange peek() {
+        Record record;
+        lock.lock();
+        try {
+            record = records.peek();
+        } finally {
+            lock.unlock();
+        }
+        if (record == null) {
+            return null;
+        }
+        return record.exchange != null ? record.exchange : read(record);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Exchange> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Exchange> c, int maxElements) {
+        List<Record> drained = new ArrayList<>();
+        lock.lock();
+        try {
+            while (drained.size() < maxElements && !records.isEmpty()) {
+                drained.add(pollRecord());
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Record record : drained) {
+            c.add(deliver(record));
+        }
+        return drained.size();
+    }
+
+    /**
+     * Removes the exchange from the queue, and acknowledges it so it is not replayed.
+     * <p/>
+     * Only exchanges added to the queue while it is open can be removed. Exchanges replayed from the log are read from
+     * their segment when taken, so there is no exchange instance to match, and they cannot be removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        Record removed = null;
+        lock.lock();
+        try {
+            Iterator<Record> it = records.iterator();
+            while (it.hasNext()) {
+                Record record = it.next();
+                if (record.exchange == o) {
+                    it.remove();
+                    notFull.signal();
+                    removed = record;
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (removed != null) {
+            acknowledge(removed);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            Record record;
+            while ((record = pollRecord()) != null) {
+                acknowledge(record);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return records.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - records.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterator<Exchange> iterator() {
+        List<Record> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(records);
+        } finally {
+            lock.unlock();
+        }
+
+        List<Exchange> answer = new ArrayList<>(snapshot.size());
+        for (Record record : snapshot) {
+            answer.add(record.exchange != null ? record.exchange : read(record));
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "WriteAheadBlockingQueue[" + directory + "]";
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.seda.BlockingQueueFactory;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StringHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link BlockingQueueFactory} for durable SEDA queues, which store the exchanges in segmented write-ahead log files,
+ * so the exchanges not yet processed are not lost on a crash and are replayed on restart.
+ * <p/>
+ * Each factory stores a single queue in its directory, and should be used with the <tt>queueFactory</tt> option of a
+ * single SEDA endpoint. The factory should be added as a service to the {@link CamelContext} so the queue is closed
+ * when Camel is stopped.
+ */
+@Metadata(label = "bean",
+          description = "Factory for durable SEDA queues which store the exchanges in segmented write-ahead log files.",
+          annotations = { "interfaceName=org.apache.camel.component.seda.BlockingQueueFactory" })
+@Configurer(metadataOnly = true)
+public class WriteAheadBlockingQueueFactory extends ServiceSupport
+        implements BlockingQueueFactory<Exchange>, CamelContextAware {
+
+    /**
+     * The default segment size: 64 MiB
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    /**
+     * The default maximum size of the segments: 1 GiB
+     */
+    public static final long DEFAULT_MAX_SPOOL_SIZE = 1024 * 1024 * 1024;
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteAheadBlockingQueueFactory.class);
+
+    private CamelContext camelContext;
+    private WriteAheadBlockingQueue queue;
+    private LogSupervisor logSupervisor;
+
+    @Metadata(description = "The directory to store the queue in", required = true)
+    private String directory;
+    @Metadata(description = "Whether to wait for the log to be flushed to disk when adding an exchange. When disabled the log is flushed periodically.",
+              defaultValue = "true")
+    private boolean sync = true;
+    @Metadata(label = "advanced", description = "The interval in millis between flushing the log to disk when sync is disabled",
+              defaultValue = "1000")
+    private long syncInterval = 1000;
+    @Metadata(label = "advanced", description = "The size in bytes of a segment file before rolling over to a new segment",
+              defaultValue = "67108864")
+    private long segmentSize = DEFAULT_SEGMENT_SIZE;
+    @Metadata(description = "The maximum size in bytes of all the segment files. The queue is full when this size is reached.",
+              defaultValue = "1073741824")
+    private long maxSpoolSize = DEFAULT_MAX_SPOOL_SIZE;
+    @Metadata(label = "advanced", description = "The maximum size in bytes of a stored exchange",
+              defaultValue = "16777216")
+    private int maxRecordSize = WriteAheadAggregationRepository.DEFAULT_MAX_RECORD_SIZE;
+    @Metadata(label = "advanced",
+              description = "Whether headers and properties on the Exchange that are Java objects and Serializable should be included and saved to the queue")
+    private boolean allowSerializedHeaders;
+    @Metadata(label = "advanced",
+              description = "Sets a deserialization filter while reading Object from the queue. By default the filter will allow"
+                            + " all java packages and subpackages and all org.apache.camel packages and subpackages, while the remaining will be"
+                            + " blacklisted and not deserialized. This parameter should be customized if you're using classes you trust to be deserialized.",
+              defaultValue = "java.**;org.apache.camel.**;!*")
+    private String deserializationFilter = "java.**;org.apache.camel.**;!*";
+
+    /**
+     * Creates a queue factory
+     */
+    public WriteAheadBlockingQueueFactory() {
+    }
+
+    /**
+     * Creates a queue factory
+     *
+     * @param directory the directory to store the queue in
+     */
+    public WriteAheadBlockingQueueFactory(String directory) {
+        StringHelper.notEmpty(directory, "directory");
+        this.directory = directory;
+    }
+
+    @Override
+    public BlockingQueue<Exchange> create() {
+        return create(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized BlockingQueue<Exchange> create(int capacity) {
+        if (queue == null) {
+            ObjectHelper.notNull(camelContext, "camelContext");
+            ObjectHelper.notNull(directory, "directory");
+            if (segmentSize <= 0 || maxSpoolSize <= 0) {
+                throw new IllegalArgumentException(
+                        "The segmentSize and maxSpoolSize must be positive, was: " + segmentSize + " and " + maxSpoolSize);
+            }
+            if (segmentSize >= maxSpoolSize) {
+                // the current segment is never deleted, so the queue would be full forever
+                throw new IllegalArgumentException(
+                        "The segmentSize: " + segmentSize + " must be smaller than the maxSpoolSize: " + maxSpoolSize);
+            }
+
+            WriteAheadBlockingQueue answer = new WriteAheadBlockingQueue(camelContext, this, capacity);
+            try {
+                answer.open();
+            } catch (Exception e) {
+                throw new RuntimeCamelException("Error opening the queue in directory " + directory, e);
+            }
+            queue = answer;
+
+            if (!sync) {
+                logSupervisor = new DefaultLogSupervisor(syncInterval);
+                logSupervisor.start(this::trySync);
+            }
+        }
+        return queue;
+    }
+
+    private void trySync() {
+        try {
+            WriteAheadBlockingQueue current = queue;
+            if (current != null) {
+                current.sync();
+            }
+        } catch (Exception e) {
+            LOG.error("Unable to flush the queue in directory {}: {}", directory, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(long syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public long getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(long segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public long getMaxSpoolSize() {
+        return maxSpoolSize;
+    }
+
+    public void setMaxSpoolSize(long maxSpoolSize) {
+        this.maxSpoolSize = maxSpoolSize;
+    }
+
+    public int getMaxRecordSize() {
+        return maxRecordSize;
+    }
+
+    public void setMaxRecordSize(int maxRecordSize) {
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    /**
+     * Gets the size in bytes of the segment files of the queue
+     */
+    public long getSpoolSize() {
+        WriteAheadBlockingQueue current = queue;
+        return current != null ? current.getSpoolSize() : 0;
+    }
+
+    /**
+     * Gets the number of segment files of the queue
+     */
+    public int getSegmentCount() {
+        WriteAheadBlockingQueue current = queue;
+        return current != null ? current.getSegmentCount() : 0;
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        if (logSupervisor != null) {
+            logSupervisor.stop();
+            logSupervisor = null;
+        }
+        if (queue != null) {
+            queue.close();
+            queue = null;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository.OptimisticLockingException;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteAheadAggregationRepositoryTest extends CamelTestSupport {
+
+    private static final String LOG_FILE = "target/data/wal/aggregation.log";
+
+    private WriteAheadAggregationRepository repo;
+
+    @Override
+    public void doPreSetup() {
+        deleteDirectory("target/data/wal");
+    }
+
+    @Override
+    public void doPostTearDown() {
+        if (repo != null) {
+            repo.stop();
+        }
+    }
+
+    private WriteAheadAggregationRepository startRepo() {
+        if (repo != null) {
+            repo.stop();
+        }
+        repo = new WriteAheadAggregationRepository(LOG_FILE);
+        repo.setReturnOldExchange(true);
+        repo.start();
+        return repo;
+    }
+
+    private Exchange newExchange(String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        return exchange;
+    }
+
+    @Test
+    public void testOperations() {
+        startRepo();
+
+        // Can't get something we have not put in...
+        assertNull(repo.get(context, "missing"));
+
+        // Store it..
+        assertNull(repo.add(context, "foo", newExchange("counter:1")));
+
+        // Get it back..
+        Exchange actual = repo.get(context, "foo");
+        assertEquals("counter:1", actual.getIn().getBody());
+
+        // Change it..
+        Exchange exchange2 = newExchange("counter:2");
+        actual = repo.add(context, "foo", exchange2);
+        // the old one
+        assertEquals("counter:1", actual.getIn().getBody());
+
+        // Get it back..
+        actual = repo.get(context, "foo");
+        assertEquals("counter:2", actual.getIn().getBody());
+        assertEquals(Set.of("foo"), repo.getKeys());
+
+        // now remove it
+        repo.remove(context, "foo", actual);
+        assertNull(repo.get(context, "foo"));
+        assertTrue(repo.getKeys().isEmpty());
+
+        // which is now completed until confirmed
+        assertEquals(Set.of(actual.getExchangeId()), repo.scan(context));
+        assertEquals("counter:2", repo.recover(context, actual.getExchangeId()).getIn().getBody());
+        assertTrue(repo.confirmWithResult(context, actual.getExchangeId()));
+        assertTrue(repo.scan(context).isEmpty());
+    }
+
+    @Test
+    public void testRestart() {
+        startRepo();
+
+        repo.add(context, "foo", newExchange("A"));
+        repo.add(context, "bar", newExchange("B"));
+        Exchange bar = repo.get(context, "bar");
+        repo.remove(context, "bar", bar);
+
+        // reload the repository from the log
+        startRepo();
+
+        assertEquals("A", repo.get(context, "foo").getIn().getBody());
+        assertNull(repo.get(context, "bar"));
+        assertEquals(Set.of(bar.getExchangeId()), repo.scan(context));
+
+        repo.confirm(context, bar.getExchangeId());
+
+        startRepo();
+        assertEquals(Set.of("foo"), repo.getKeys());
+        assertTrue(repo.scan(context).isEmpty());
+    }
+
+    @Test
+    public void testOptimisticLocking() {
+        startRepo();
+
+        repo.add(context, "foo", null, newExchange("A"));
+        // there is already an exchange for this key
+        assertThrows(OptimisticLockingException.class, () -> repo.add(context, "foo", null, newExchange("B")));
+
+        Exchange old = repo.get(context, "foo");
+        Exchange stale = repo.get(context, "foo");
+        repo.add(context, "foo", old, newExchange("AB"));
+        // the exchange was updated in the meantime
+        assertThrows(OptimisticLockingException.class, () -> repo.add(context, "foo", stale, newExchange("AC")));
+        assertThrows(OptimisticLockingException.class, () -> repo.remove(context, "foo", stale));
+
+        assertEquals("AB", repo.get(context, "foo").getIn().getBody());
+    }
+
+    @Test
+    public void testNoOptimisticLockingIgnoresVersion() {
+        startRepo();
+
+        repo.add(context, "foo", newExchange("A"));
+        Exchange old = repo.get(context, "foo");
+        repo.add(context, "foo", newExchange("AB"));
+
+        // the exchange may carry the version from another repository, which must not be checked
+        repo.add(context, "foo", old);
+        assertEquals("A", repo.get(context, "foo").getIn().getBody());
+
+        // and the version is not carried downstream with the completed exchange
+        Exchange completed = repo.get(context, "foo");
+        repo.remove(context, "foo", completed);
+        assertNull(completed.getProperty(WriteAheadAggregationRepository.VERSION_PROPERTY));
+    }
+
+    @Test
+    public void testIncompleteRecordIsDiscarded() throws IOException {
+        startRepo();
+        repo.add(context, "foo", newExchange("A"));
+        repo.stop();
+
+        // simulate a crash while writing a record
+        try (RandomAccessFile file = new RandomAccessFile(LOG_FILE, "rw")) {
+            file.seek(file.length());
+            file.writeInt(1);
+            file.writeInt(WriteAheadAggregationRepository.ADD);
+            file.writeInt(100);
+            file.write(new byte[] { 'b', 'a' });
+        }
+
+        startRepo();
+        assertEquals(Set.of("foo"), repo.getKeys());
+
+        // and the log can still be written to
+        repo.add(context, "bar", newExchange("B"));
+        startRepo();
+        assertEquals("B", repo.get(context, "bar").getIn().getBody());
+    }
+
+    @Test
+    public void testCompaction() {
+        repo = new WriteAheadAggregationRepository(LOG_FILE);
+        repo.setCompactionThreshold(16 * 1024);
+        repo.setSyncInterval(50);
+        repo.start();
+
+        for (int i = 0; i < 500; i++) {
+            Exchange old = repo.get(context, "foo");
+            String body = old != null ? old.getIn().getBody(String.class) + "x" : "x";
+            repo.add(context, "foo", newExchange(body));
+        }
+
+        // the log is compacted in the background and only keeps around the latest exchange
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertTrue(new File(LOG_FILE).length() < 16 * 1024,
+                        "The log should have been compacted but is " + new File(LOG_FILE).length() + " bytes"));
+
+        startRepo();
+        Exchange actual = repo.get(context, "foo");
+        assertNotNull(actual);
+        assertEquals(500, actual.getIn().getBody(String.class).length());
+    }
+
+    @Test
+    public void testAppendWhileCompacting() throws IOException {
+        File file = new File(LOG_FILE);
+        file.getParentFile().mkdirs();
+
+        try (RecordLog log = new RecordLog(file, 1024)) {
+            log.rewrite(List.of());
+            log.append(newEntry("a"));
+            log.append(newEntry("a"));
+
+            long position = log.size();
+            long compactSize = log.writeCompactFile(List.of(newEntry("a")));
+            // appended while the compact file is being written
+            log.append(newEntry("b"));
+            log.replaceWithCompactFile(compactSize, position);
+            log.append(newEntry("c"));
+        }
+
+        List<String> keys = new ArrayList<>();
+        try (RecordLog log = new RecordLog(file, 1024)) {
+            log.replay(e -> keys.add(new String(e.getKey(), StandardCharsets.UTF_8)));
+        }
+        assertEquals(List.of("a", "b", "c"), keys);
+    }
+
+    private static LogEntry newEntry(String key) {
+        return RecordLog.newEntry(WriteAheadAggregationRepository.ADD, key.getBytes(StandardCharsets.UTF_8),
+                key.toUpperCase().getBytes(StandardCharsets.UTF_8));
+    }
+}
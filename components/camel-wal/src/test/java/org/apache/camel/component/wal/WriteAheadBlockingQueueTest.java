@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.UnitOfWorkHelper;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteAheadBlockingQueueTest extends CamelTestSupport {
+
+    private static final String DIRECTORY = "target/data/wal-queue";
+
+    private WriteAheadBlockingQueueFactory factory;
+
+    @Override
+    public void doPreSetup() {
+        deleteDirectory(DIRECTORY);
+    }
+
+    @Override
+    public void doPostTearDown() {
+        if (factory != null) {
+            factory.stop();
+        }
+    }
+
+    private BlockingQueue<Exchange> openQueue() {
+        if (factory != null) {
+            factory.stop();
+        }
+        factory = new WriteAheadBlockingQueueFactory(DIRECTORY);
+        factory.setCamelContext(context);
+        factory.setSegmentSize(4096);
+        return factory.create();
+    }
+
+    private Exchange newExchange(String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        return exchange;
+    }
+
+    private static void done(Exchange exchange) {
+        UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+    }
+
+    @Test
+    public void testReplay() {
+        BlockingQueue<Exchange> queue = openQueue();
+        assertTrue(queue.offer(newExchange("A")));
+        assertTrue(queue.offer(newExchange("B")));
+        assertTrue(queue.offer(newExchange("C")));
+
+        // A is done, and B is taken but not done
+        done(queue.poll());
+        assertEquals("B", queue.poll().getMessage().getBody());
+
+        // B and C are replayed
+        queue = openQueue();
+        assertEquals(2, queue.size());
+        Exchange exchange = queue.poll();
+        assertEquals("B", exchange.getMessage().getBody());
+        done(exchange);
+
+        queue = openQueue();
+        assertEquals(1, queue.size());
+        assertEquals("C", queue.peek().getMessage().getBody());
+        done(queue.poll());
+        assertNull(queue.poll());
+
+        queue = openQueue();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConsumedSegmentsAreDeleted() {
+        BlockingQueue<Exchange> queue = openQueue();
+        for (int i = 0; i < 100; i++) {
+            queue.offer(newExchange("Message " + i));
+        }
+        assertTrue(factory.getSegmentCount() > 1);
+
+        for (int i = 0; i < 100; i++) {
+            Exchange exchange = queue.poll();
+            assertEquals("Message " + i, exchange.getMessage().getBody());
+            done(exchange);
+        }
+        assertEquals(1, factory.getSegmentCount());
+    }
+
+    @Test
+    public void testMaxSpoolSize() {
+        factory = new WriteAheadBlockingQueueFactory(DIRECTORY);
+        factory.setCamelContext(context);
+        factory.setSegmentSize(4096);
+        factory.setMaxSpoolSize(16 * 1024);
+        BlockingQueue<Exchange> queue = factory.create();
+
+        int count = 0;
+        while (queue.offer(newExchange("Message " + count))) {
+            count++;
+        }
+        assertTrue(count > 0);
+        assertFalse(queue.offer(newExchange("Too much")));
+
+        // consuming frees up space
+        for (int i = 0; i < count; i++) {
+            done(queue.poll());
+        }
+        assertTrue(queue.offer(newExchange("Message " + count)));
+    }
+
+    @Test
+    public void testAcknowledgedSegmentIsRolledOver() {
+        BlockingQueue<Exchange> queue = openQueue();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(queue.offer(newExchange("Message " + i)));
+            done(queue.poll());
+        }
+
+        // the acknowledgements do not keep growing the current segment
+        assertEquals(1, factory.getSegmentCount());
+        assertTrue(factory.getSpoolSize() < 4096, "The spool should be rolled over but is " + factory.getSpoolSize());
+    }
+
+    @Test
+    public void testSegmentSizeMustBeSmallerThanMaxSpoolSize() {
+        factory = new WriteAheadBlockingQueueFactory(DIRECTORY);
+        factory.setCamelContext(context);
+        factory.setSegmentSize(16 * 1024);
+        factory.setMaxSpoolSize(16 * 1024);
+        assertThrows(IllegalArgumentException.class, () -> factory.create());
+    }
+
+    @Test
+    public void testClear() {
+        BlockingQueue<Exchange> queue = openQueue();
+        queue.offer(newExchange("A"));
+        queue.offer(newExchange("B"));
+        queue.clear();
+
+        queue = openQueue();
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteAheadSedaQueueTest extends CamelTestSupport {
+
+    private WriteAheadBlockingQueueFactory factory;
+
+    @Override
+    public void doPreSetup() {
+        deleteDirectory("target/data/wal-seda");
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        factory = new WriteAheadBlockingQueueFactory("target/data/wal-seda");
+        context.getRegistry().bind("spool", factory);
+        context.addService(factory);
+        return context;
+    }
+
+    @Test
+    public void testSeda() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:foo?queueFactory=#spool", "Message " + i);
+        }
+
+        mock.assertIsSatisfied();
+
+        // all the exchanges are done so nothing is replayed
+        context.stop();
+        WriteAheadBlockingQueueFactory replay = new WriteAheadBlockingQueueFactory("target/data/wal-seda");
+        replay.setCamelContext(context);
+        assertTrue(replay.create().isEmpty());
+        replay.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?queueFactory=#spool").to("mock:result");
+            }
+        };
+    }
+}
@@ -56,6 +56,14 @@ public class XPathAnnotationExpressionFactory extends DefaultAnnotationExpressio
             builder.setSource(ExpressionBuilder.singleInputExpression(source));
         }
 
+        // share the parsed documents and streaming mode with the xpath language
+        if (camelContext.resolveLanguage("xpath") instanceof XPathLanguage language) {
+            if (language.isCacheDocument()) {
+                builder.setDocumentCache(language.getDocumentCache());
+            }
+            builder.setStreaming(language.isStreaming());
+        }
+
         return builder;
     }
 
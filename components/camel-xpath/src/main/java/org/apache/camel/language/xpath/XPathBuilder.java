@@ -31,6 +31,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
 import javax.xml.xpath.XPath;
@@ -131,6 +133,10 @@ public class XPathBuilder extends ServiceSupport
     private volatile XPathFunction propertiesFunction;
     private volatile XPathFunction simpleFunction;
     private volatile Expression source;
+    private volatile XPathDocumentCache documentCache;
+    private volatile boolean streaming;
+    private volatile XPathStreamingEvaluator streamingEvaluator;
+    private volatile boolean streamingParsed;
 
     /**
      * @param text The XPath expression
@@ -516,6 +522,35 @@ public class XPathBuilder extends ServiceSupport
         return this;
     }
 
+    /**
+     * Whether to cache the parsed DOM on the exchange, so other xpath expressions evaluated on the same message body
+     * reuse the document instead of parsing the message body again.
+     *
+     * @param  documentCache the cache, or <tt>null</tt> to not cache
+     * @return               the current builder.
+     */
+    public XPathBuilder documentCache(XPathDocumentCache documentCache) {
+        setDocumentCache(documentCache);
+        return this;
+    }
+
+    /**
+     * Whether to evaluate the xpath expression by streaming the message body using StAX instead of building a DOM.
+     * <p/>
+     * This is only possible for a simple subset of XPath: an absolute path of child elements, which can end with an
+     * attribute or <tt>text()</tt>, and can be compared to a string literal, such as <tt>/order/customer/@id</tt> or
+     * <tt>/order/status = 'open'</tt>, and when the result type is boolean, string or number. Other expressions are
+     * evaluated as usual.
+     * <p/>
+     * Streaming is disabled by default
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder streaming(boolean streaming) {
+        setStreaming(streaming);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -571,6 +606,22 @@ public class XPathBuilder extends ServiceSupport
         this.preCompile = preCompile;
     }
 
+    public XPathDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
+    public void setDocumentCache(XPathDocumentCache documentCache) {
+        this.documentCache = documentCache;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * Gets the namespace context, can be <tt>null</tt> if no custom context has been assigned.
      * <p/>
@@ -891,6 +942,16 @@ public class XPathBuilder extends ServiceSupport
      * Evaluates the expression as the given result type
      */
     protected Object evaluateAs(Exchange exchange, QName resultQName) {
+        if (streaming && XPathStreamingEvaluator.isSupported(resultQName)) {
+            XPathStreamingEvaluator evaluator = getStreamingEvaluator();
+            if (evaluator != null) {
+                Object answer = doInEvaluateStreaming(evaluator, exchange, resultQName);
+                if (answer != null) {
+                    return answer;
+                }
+            }
+        }
+
         // pool a pre compiled expression from pool
         XPathExpression xpathExpression = pool.poll();
         if (xpathExpression == null) {
@@ -1002,13 +1063,26 @@ public class XPathBuilder extends ServiceSupport
         this.exchange.set(exchange);
 
         Object payload = source != null ? source.evaluate(exchange, Object.class) : exchange.getMessage().getBody();
-        Object document;
+        Object document = null;
         InputStream is = null;
-        if (isInputStreamNeededForObject(payload)) {
-            is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, payload);
-            document = getDocument(exchange, is);
-        } else {
-            document = getDocument(exchange, payload);
+        boolean cache = documentCache != null && payload != null && !(payload instanceof Node)
+                && Document.class.equals(documentType);
+        if (cache) {
+            document = documentCache.get(exchange, payload);
+        } else if (documentCache != null) {
+            // the payload cannot be cached, so do not keep a document parsed from a previous payload
+            documentCache.remove(exchange);
+        }
+        if (document == null) {
+            if (isInputStreamNeededForObject(payload)) {
+                is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, payload);
+                document = getDocument(exchange, is);
+            } else {
+                document = getDocument(exchange, payload);
+            }
+            if (cache && document instanceof Document) {
+                documentCache.put(exchange, payload, (Document) document);
+            }
         }
         try {
             if (resultQName != null) {
@@ -1070,6 +1144,64 @@ public class XPathBuilder extends ServiceSupport
         return answer;
     }
 
+    /**
+     * Evaluates the expression by streaming the payload using StAX.
+     *
+     * @return the result, or <tt>null</tt> if the payload cannot be streamed and the expression should be evaluated as
+     *         regular xpath
+     */
+    private Object doInEvaluateStreaming(XPathStreamingEvaluator evaluator, Exchange exchange, QName resultQName) {
+        Object payload = source != null ? source.evaluate(exchange, Object.class) : exchange.getMessage().getBody();
+        if (payload == null || payload instanceof Node || payload instanceof DOMSource) {
+            // already a DOM, so there is nothing to gain from streaming
+            return null;
+        }
+
+        LOG.trace("Evaluating exchange: {} as: {} using streaming", exchange, resultQName);
+
+        InputStream is = null;
+        XMLStreamReader reader = null;
+        try {
+            if (isInputStreamNeededForObject(payload)) {
+                is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, payload);
+                payload = is;
+            }
+            reader = exchange.getContext().getTypeConverter().tryConvertTo(XMLStreamReader.class, exchange, payload);
+            if (reader == null) {
+                return null;
+            }
+            Object answer = evaluator.evaluate(reader, resultQName);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Done evaluating exchange: {} as: {} with result: {}", exchange, resultQName, answer);
+            }
+            return answer;
+        } catch (XMLStreamException e) {
+            throw new RuntimeExpressionException("Error streaming message body for xpath: " + getText(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+            IOHelper.close(is);
+            // call the reset if the in message body is StreamCache
+            MessageHelper.resetStreamCache(exchange.getIn());
+        }
+    }
+
+    private XPathStreamingEvaluator getStreamingEvaluator() {
+        if (!streamingParsed) {
+            streamingEvaluator = XPathStreamingEvaluator.parse(text, namespaces);
+            streamingParsed = true;
+            if (streamingEvaluator == null) {
+                LOG.debug("XPath expression: {} cannot be evaluated using streaming", text);
+            }
+        }
+        return streamingEvaluator;
+    }
+
     /**
      * Creates a new xpath expression as there we no available in the pool.
      * <p/>
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xpath;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.w3c.dom.Document;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.SafeCopyProperty;
+
+/**
+ * Caches the parsed DOM {@link Document} on the {@link Exchange}, so multiple XPath expressions evaluated on the same
+ * payload (such as the predicates of a content based router) only parse the payload once.
+ * <p/>
+ * The document is cached together with the payload it was parsed from, and is only reused as long as the XPath
+ * expression is evaluated on the very same payload instance. Setting a new message body therefore invalidates the
+ * cached document, which is removed from the exchange by the next XPath expression that is evaluated, so the document
+ * and the old payload are not kept in memory for the rest of the lifetime of the exchange.
+ * <p/>
+ * A DOM is not thread-safe, so the cached document is not shared with copies of the exchange (such as when using the
+ * Multicast or Splitter EIP in parallel processing mode).
+ */
+public class XPathDocumentCache {
+
+    private static final String DOCUMENT_PROPERTY = "CamelXPathDocument";
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Gets the cached document parsed from the given payload
+     *
+     * @param  exchange the exchange
+     * @param  payload  the payload the XPath expression is evaluated on
+     * @return          the cached document, or <tt>null</tt> if no document is cached for the payload
+     */
+    public Document get(Exchange exchange, Object payload) {
+        CachedDocument cached
+                = exchange.getExchangeExtension().getSafeCopyProperty(DOCUMENT_PROPERTY, CachedDocument.class);
+        if (cached != null && cached.payload == payload) {
+            hits.increment();
+            return cached.document;
+        }
+        if (cached != null) {
+            // the payload has changed so the cached document is stale
+            remove(exchange);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the document parsed from the given payload, replacing any document cached before.
+     */
+    public void put(Exchange exchange, Object payload, Document document) {
+        exchange.getExchangeExtension().setSafeCopyProperty(DOCUMENT_PROPERTY, new CachedDocument(payload, document));
+    }
+
+    /**
+     * Removes the cached document (if any) from the exchange
+     */
+    public void remove(Exchange exchange) {
+        exchange.getExchangeExtension().setSafeCopyProperty(DOCUMENT_PROPERTY, null);
+    }
+
+    /**
+     * Number of times a cached document was reused
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times the payload had to be parsed
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    private static final class CachedDocument implements SafeCopyProperty {
+
+        private static final CachedDocument EMPTY = new CachedDocument(null, null);
+
+        private final Object payload;
+        private final Document document;
+
+        private CachedDocument(Object payload, Document document) {
+            this.payload = payload;
+            this.document = document;
+        }
+
+        @Override
+        public SafeCopyProperty safeCopy() {
+            // the copy may be processed concurrently, so it must parse its own document
+            return EMPTY;
+        }
+    }
+}
@@ -43,6 +43,9 @@ public class XPathLanguage extends SingleInputTypedLanguageSupport implements Pr
     private Boolean threadSafety;
     private Boolean logNamespaces;
     private Boolean preCompile;
+    private boolean cacheDocument;
+    private boolean streaming;
+    private final XPathDocumentCache documentCache = new XPathDocumentCache();
 
     @Override
     public Predicate createPredicate(Expression source, String expression, Object[] properties) {
@@ -127,8 +130,45 @@ public class XPathLanguage extends SingleInputTypedLanguageSupport implements Pr
         this.preCompile = preCompile;
     }
 
+    public boolean isCacheDocument() {
+        return cacheDocument;
+    }
+
+    /**
+     * Whether to cache the parsed DOM on the exchange, so multiple XPath expressions evaluated on the same message body
+     * only parse it once. The document is kept on the exchange until the message body is changed, so this uses more
+     * memory per exchange. Is disabled by default.
+     */
+    public void setCacheDocument(boolean cacheDocument) {
+        this.cacheDocument = cacheDocument;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to evaluate simple XPath expressions (such as <tt>/order/customer/@id</tt> or <tt>/order/status =
+     * 'open'</tt>) with a boolean, string or number result by streaming the message body using StAX, instead of
+     * building a DOM. Other expressions are evaluated as usual. Is disabled by default.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Gets the document cache, which keeps statistics of how often a parsed document was reused.
+     */
+    public XPathDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
     protected void configureBuilder(XPathBuilder builder, Object[] properties, Expression source) {
         builder.setSource(source);
+        if (cacheDocument) {
+            builder.setDocumentCache(documentCache);
+        }
+        builder.setStreaming(streaming);
 
         Class<?> clazz = property(Class.class, properties, 2, documentType);
         if (clazz != null) {
@@ -216,6 +256,13 @@ public class XPathLanguage extends SingleInputTypedLanguageSupport implements Pr
             case "precompile":
                 setPreCompile(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
                 return true;
+            case "cachedocument":
+            case "cacheDocument":
+                setCacheDocument(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
+                return true;
+            case "streaming":
+                setStreaming(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
+                return true;
             default:
                 return false;
         }
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xpath;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.xpath.XPathConstants;
+
+/**
+ * Evaluates a simple subset of XPath directly on a StAX {@link XMLStreamReader}, so routing decisions on large XML
+ * documents can be made without building a DOM.
+ * <p/>
+ * The supported subset is an absolute path of child elements (names, prefixed names or <tt>*</tt>), which can end with
+ * an attribute (<tt>@name</tt>) or <tt>text()</tt>, and can be compared to a string literal. For example
+ * <tt>/order/customer/@id</tt>, <tt>/order/status = 'open'</tt> or <tt>/order/items/item</tt>. The XML is only read
+ * until the result is known.
+ */
+final class XPathStreamingEvaluator {
+
+    private static final Pattern COMPARISON = Pattern.compile("^(.+?)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")$");
+    private static final Pattern NAME = Pattern.compile("^(?:([A-Za-z_][\\w.\\-]*):)?([A-Za-z_][\\w.\\-]*|\\*)$");
+    private static final String TEXT = "text()";
+
+    private final Name[] steps;
+    private final Name attribute;
+    private final boolean text;
+    private final String literal;
+
+    private XPathStreamingEvaluator(Name[] steps, Name attribute, boolean text, String literal) {
+        this.steps = steps;
+        this.attribute = attribute;
+        this.text = text;
+        this.literal = literal;
+    }
+
+    /**
+     * Parses the xpath expression
+     *
+     * @param  expression the xpath expression
+     * @param  namespaces the namespaces to resolve prefixes
+     * @return            the evaluator, or <tt>null</tt> if the expression is not in the supported subset of XPath
+     */
+    static XPathStreamingEvaluator parse(String expression, Map<String, String> namespaces) {
+        if (expression == null) {
+            return null;
+        }
+        String path = expression.trim();
+        String literal = null;
+        Matcher matcher = COMPARISON.matcher(path);
+        if (matcher.matches()) {
+            path = matcher.group(1);
+            literal = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+        }
+        if (!path.startsWith("/")) {
+            return null;
+        }
+
+        String[] segments = path.substring(1).split("/", -1);
+        int count = segments.length;
+        Name attribute = null;
+        boolean text = false;
+        String last = segments[count - 1];
+        if (last.startsWith("@")) {
+            attribute = Name.parse(last.substring(1), namespaces);
+            if (attribute == null) {
+                return null;
+            }
+            count--;
+        } else if (TEXT.equals(last)) {
+            text = true;
+            count--;
+        }
+        if (count == 0) {
+            return null;
+        }
+
+        Name[] steps = new Name[count];
+        for (int i = 0; i < count; i++) {
+            steps[i] = Name.parse(segments[i], namespaces);
+            if (steps[i] == null) {
+                return null;
+            }
+        }
+        return new XPathStreamingEvaluator(steps, attribute, text, literal);
+    }
+
+    /**
+     * Whether the result type can be evaluated by streaming
+     */
+    static boolean isSupported(QName resultQName) {
+        return resultQName == null || XPathConstants.BOOLEAN.equals(resultQName)
+                || XPathConstants.STRING.equals(resultQName) || XPathConstants.NUMBER.equals(resultQName);
+    }
+
+    /**
+     * Evaluates the expression by reading from the given reader
+     *
+     * @param  reader      the reader, which is not closed
+     * @param  resultQName the result type
+     * @return             the result as {@link Boolean}, {@link String} or {@link Double} depending on the result type
+     */
+    Object evaluate(XMLStreamReader reader, QName resultQName) throws XMLStreamException {
+        String value = find(reader);
+        if (XPathConstants.BOOLEAN.equals(resultQName)) {
+            return value != null;
+        }
+        if (literal != null) {
+            // a comparison is always a boolean which is then converted to the result type
+            boolean result = value != null;
+            return XPathConstants.NUMBER.equals(resultQName) ? Double.valueOf(result ? 1 : 0) : String.valueOf(result);
+        }
+        if (XPathConstants.NUMBER.equals(resultQName)) {
+            return toNumber(value);
+        }
+        return value != null ? value : "";
+    }
+
+    /**
+     * Finds the string value of the first matching node (that is equal to the literal if comparing)
+     *
+     * @return the value, or <tt>null</tt> if there is no such node
+     */
+    private String find(XMLStreamReader reader) throws XMLStreamException {
+        // depth of the current element, and how many steps its ancestors-or-self have matched
+        int depth = 0;
+        int matched = 0;
+        StringBuilder buffer = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            boolean textEvent = isText(event);
+
+            if (text && buffer != null && !textEvent) {
+                // a text node ends at the next non text event
+                String value = buffer.toString();
+                if (accept(value)) {
+                    return value;
+                }
+                buffer = null;
+            }
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (matched == depth - 1 && depth <= steps.length && steps[depth - 1].matches(reader.getNamespaceURI(),
+                        reader.getLocalName())) {
+                    matched = depth;
+                    if (depth == steps.length) {
+                        if (attribute != null) {
+                            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                                if (attribute.matches(reader.getAttributeNamespace(i), reader.getAttributeLocalName(i))) {
+                                    String value = reader.getAttributeValue(i);
+                                    if (accept(value)) {
+                                        return value;
+                                    }
+                                }
+                            }
+                        } else if (!text) {
+                            // the value of an element is all its descendant text
+                            buffer = new StringBuilder();
+                        }
+                    }
+                }
+            } else if (textEvent) {
+                if (text && matched == steps.length && depth == steps.length) {
+                    if (buffer == null) {
+                        buffer = new StringBuilder();
+                    }
+                    buffer.append(reader.getText());
+                } else if (!text && buffer != null) {
+                    buffer.append(reader.getText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (matched == depth) {
+                    if (!text && buffer != null && depth == steps.length) {
+                        String value = buffer.toString();
+                        if (accept(value)) {
+                            return value;
+                        }
+                        buffer = null;
+                    }
+                    matched--;
+                }
+                depth--;
+            }
+        }
+        return null;
+    }
+
+    private boolean accept(String value) {
+        return literal == null || literal.equals(value);
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE;
+    }
+
+    private static Double toNumber(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * A name test of an element or attribute
+     */
+    private static final class Name {
+
+        private final String namespaceUri;
+        private final String localName;
+
+        private Name(String namespaceUri, String localName) {
+            this.namespaceUri = namespaceUri;
+            this.localName = localName;
+        }
+
+        static Name parse(String name, Map<String, String> namespaces) {
+            Matcher matcher = NAME.matcher(name);
+            if (!matcher.matches()) {
+                return null;
+            }
+            String prefix = matcher.group(1);
+            String localName = matcher.group(2);
+            if (prefix == null) {
+                // unprefixed names have no namespace in XPath 1.0
+                return new Name("", localName);
+            }
+            String uri = namespaces.get(prefix);
+            if (uri == null) {
+                // let the xpath engine report the unknown prefix
+                return null;
+            }
+            return new Name(uri, localName);
+        }
+
+        boolean matches(String namespaceUri, String localName) {
+            if (namespaceUri == null) {
+                namespaceUri = "";
+            }
+            if ("*".equals(this.localName)) {
+                // a prefixed wildcard still requires the namespace to match
+                return this.namespaceUri.isEmpty() || this.namespaceUri.equals(namespaceUri);
+            }
+            return this.localName.equals(localName) && this.namespaceUri.equals(namespaceUri);
+        }
+    }
+}
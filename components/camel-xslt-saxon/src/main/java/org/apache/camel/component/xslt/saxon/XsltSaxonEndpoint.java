@@ -16,8 +16,6 @@
  */
 package org.apache.camel.component.xslt.saxon;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
@@ -25,10 +23,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.xml.transform.Source;
-import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXSource;
-import javax.xml.transform.stream.StreamSource;
 
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -40,10 +36,8 @@ import net.sf.saxon.TransformerFactoryImpl;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Category;
 import org.apache.camel.Component;
-import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
-import org.apache.camel.component.xslt.XsltBuilder;
 import org.apache.camel.component.xslt.XsltEndpoint;
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.Injector;
@@ -259,42 +253,16 @@ public class XsltSaxonEndpoint extends XsltEndpoint {
     }
 
     @Override
-    protected XsltBuilder createBuilderForCustomStylesheet(String template, Exchange exchange) throws Exception {
-        InputStream is = getCamelContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, template);
-        XsltBuilder builder = createXsltBuilder();
-        Source source = new StreamSource(is);
+    protected Source prepareTemplateSource(Source source) {
         if (this.saxonReaderProperties != null) {
             //for Saxon we need to create XMLReader for the coming source
             //so that the features configuration can take effect
-            source = createReaderForSource(source);
-        }
-        builder.setTransformerSource(source);
-        return builder;
-    }
-
-    /**
-     * Loads the resource.
-     *
-     * @param  resourceUri          the resource to load
-     * @throws TransformerException is thrown if error loading resource
-     * @throws IOException          is thrown if error loading resource
-     */
-    @Override
-    protected void loadResource(String resourceUri, XsltBuilder xslt) throws TransformerException, IOException {
-        LOG.trace("{} loading schema resource: {}", this, resourceUri);
-        Source source = xslt.getUriResolver().resolve(resourceUri, null);
-        if (this.saxonReaderProperties != null) {
-            //for Saxon we need to create XMLReader for the coming source
-            //so that the features configuration can take effect
-            source = createReaderForSource(source);
-        }
-        if (source == null) {
-            throw new IOException("Cannot load schema resource " + resourceUri);
-        } else {
-            xslt.setTransformerSource(source);
+            Source answer = createReaderForSource(source);
+            if (answer != null) {
+                source = answer;
+            }
         }
-        // now loaded so clear flag
-        setCacheCleared(false);
+        return source;
     }
 
     private Source createReaderForSource(Source source) {
@@ -48,6 +48,8 @@ public class XsltComponent extends DefaultComponent {
     private TransformerFactoryConfigurationStrategy transformerFactoryConfigurationStrategy;
     @Metadata(label = "advanced")
     private String transformerFactoryClass;
+    private int templatesCacheSize = 100;
+    private volatile XsltTemplatesCache templatesCache;
 
     public XsltComponent() {
     }
@@ -125,6 +127,44 @@ public class XsltComponent extends DefaultComponent {
         this.transformerFactoryClass = transformerFactoryClass;
     }
 
+    public int getTemplatesCacheSize() {
+        return templatesCacheSize;
+    }
+
+    /**
+     * The maximum number of compiled stylesheets which are cached by the component, so the endpoints which use the same
+     * stylesheet (such as dynamic endpoints which are created again) do not compile it again. Use 0 to disable the
+     * cache.
+     */
+    public void setTemplatesCacheSize(int templatesCacheSize) {
+        this.templatesCacheSize = templatesCacheSize;
+    }
+
+    /**
+     * The cache of compiled stylesheets, or <tt>null</tt> if the cache is disabled
+     */
+    public XsltTemplatesCache getTemplatesCache() {
+        return templatesCache;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+
+        if (templatesCacheSize > 0) {
+            templatesCache = new XsltTemplatesCache(templatesCacheSize);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (templatesCache != null) {
+            templatesCache.clear();
+        }
+    }
+
     @Override
     protected Endpoint createEndpoint(String uri, final String remaining, Map<String, Object> parameters) throws Exception {
         XsltEndpoint endpoint = createXsltEndpoint(uri);
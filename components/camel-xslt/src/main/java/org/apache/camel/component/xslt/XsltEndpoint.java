@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.xslt;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -23,6 +24,7 @@ import java.util.Map;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.URIResolver;
@@ -118,6 +120,18 @@ public class XsltEndpoint extends ProcessorEndpoint {
         return contentCache;
     }
 
+    @ManagedAttribute(description = "Number of times a compiled stylesheet was found in the cache of the component")
+    public long getTemplatesCacheHits() {
+        XsltTemplatesCache cache = getTemplatesCache();
+        return cache != null ? cache.getHits() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a stylesheet was compiled as it was not in the cache of the component")
+    public long getTemplatesCacheMisses() {
+        XsltTemplatesCache cache = getTemplatesCache();
+        return cache != null ? cache.getMisses() : 0;
+    }
+
     public XsltEndpoint findOrCreateEndpoint(String uri, String newResourceUri) {
         String newUri = uri.replace(resourceUri, newResourceUri);
         LOG.trace("Getting endpoint with URI: {}", newUri);
@@ -155,7 +169,7 @@ public class XsltEndpoint extends ProcessorEndpoint {
     protected XsltBuilder createBuilderForCustomStylesheet(String template, Exchange exchange) throws Exception {
         InputStream is = getCamelContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, template);
         XsltBuilder builder = createXsltBuilder();
-        builder.setTransformerSource(new StreamSource(is));
+        setTransformerSource(builder, XsltConstants.XSLT_STYLESHEET, new StreamSource(is), false);
         return builder;
     }
 
@@ -391,12 +405,60 @@ public class XsltEndpoint extends ProcessorEndpoint {
         if (source == null) {
             throw new IOException("Cannot load schema resource " + resourceUri);
         } else {
-            xslt.setTransformerSource(source);
+            // the stylesheet must be compiled again if it has been cleared, or is not cached
+            setTransformerSource(xslt, resourceUri, source, cacheCleared || !contentCache);
         }
         // now loaded so clear flag
         cacheCleared = false;
     }
 
+    /**
+     * Sets the stylesheet of the builder, using the compiled stylesheet from the cache of the component if the same
+     * stylesheet has already been compiled for this endpoint uri. Stylesheets which include or import other
+     * stylesheets are not cached.
+     *
+     * @param  xslt                 the builder
+     * @param  resourceUri          the uri of the stylesheet
+     * @param  source               the stylesheet
+     * @param  refresh              whether to compile the stylesheet (and update the cache) even if it is cached
+     * @throws TransformerException is thrown if error compiling the stylesheet
+     * @throws IOException          is thrown if error reading the stylesheet
+     */
+    protected void setTransformerSource(XsltBuilder xslt, String resourceUri, Source source, boolean refresh)
+            throws TransformerException, IOException {
+        XsltTemplatesCache cache = getTemplatesCache();
+        byte[] content = cache != null ? XsltTemplatesCache.readContent(source) : null;
+        if (content == null) {
+            xslt.setTransformerSource(prepareTemplateSource(source));
+            return;
+        }
+
+        String key = XsltTemplatesCache.createKey(getEndpointUri(), resourceUri, content);
+        Templates templates = refresh ? null : cache.get(key);
+        if (templates != null) {
+            LOG.trace("{} using cached stylesheet: {}", this, resourceUri);
+            xslt.setTemplate(templates);
+        } else {
+            xslt.setTransformerSource(
+                    prepareTemplateSource(new StreamSource(new ByteArrayInputStream(content), source.getSystemId())));
+            // only the stylesheets without dependencies are put in the cache, so a hit never has dependencies
+            if (!XsltTemplatesCache.hasDependencies(content)) {
+                cache.put(key, xslt.getTemplate());
+            }
+        }
+    }
+
+    /**
+     * Allows to prepare the source of the stylesheet before compiling it.
+     */
+    protected Source prepareTemplateSource(Source source) {
+        return source;
+    }
+
+    private XsltTemplatesCache getTemplatesCache() {
+        return getComponent() instanceof XsltComponent xc ? xc.getTemplatesCache() : null;
+    }
+
     @Override
     protected void doInit() throws Exception {
         super.doInit();
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A cache of compiled stylesheets ({@link Templates}) shared by the endpoints of a XSLT component.
+ * <p/>
+ * The stylesheets are cached by the endpoint uri (which holds the configuration of the endpoint), the resource uri and
+ * the hash of the content of the stylesheet, so an endpoint which is created again (such as a dynamic endpoint which
+ * has been evicted from the endpoint cache) or a stylesheet which is sent again in a header is not compiled again.
+ * {@link Templates} are thread-safe, so they can be used by several endpoints at the same time.
+ * <p/>
+ * Only stylesheets without dependencies are cached, as the content of included or imported stylesheets (or of
+ * external entities) is not part of the key, and a change to them would otherwise not be detected.
+ */
+public class XsltTemplatesCache {
+
+    private static final String XSL_NAMESPACE = "http://www.w3.org/1999/XSL/Transform";
+
+    private final Map<String, Templates> templates;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public XsltTemplatesCache(int maximumCacheSize) {
+        this.templates = LRUCacheFactory.newLRUCache(maximumCacheSize);
+    }
+
+    /**
+     * Reads the content of the stylesheet, if the source is a stream of bytes which can be cached.
+     *
+     * @return the content, or <tt>null</tt> if the source cannot be cached
+     */
+    public static byte[] readContent(Source source) throws IOException {
+        if (source instanceof StreamSource ss && ss.getInputStream() != null && ss.getReader() == null) {
+            InputStream is = ss.getInputStream();
+            try {
+                return is.readAllBytes();
+            } finally {
+                IOHelper.close(is);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the stylesheet depends on other resources (such as <tt>xsl:include</tt>, <tt>xsl:import</tt> or a DTD
+     * which can declare external entities), which means the compiled stylesheet cannot be cached by its own content.
+     *
+     * @return <tt>true</tt> if the stylesheet has dependencies, or cannot be parsed
+     */
+    public static boolean hasDependencies(byte[] content) {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader reader = null;
+        try {
+            reader = factory.createXMLStreamReader(new ByteArrayInputStream(content));
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.DTD) {
+                    return true;
+                }
+                if (event == XMLStreamConstants.START_ELEMENT && XSL_NAMESPACE.equals(reader.getNamespaceURI())) {
+                    String name = reader.getLocalName();
+                    if ("include".equals(name) || "import".equals(name) || "use-package".equals(name)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (XMLStreamException e) {
+            // let the compiler report the problem
+            return true;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the key of a stylesheet
+     *
+     * @param endpointUri the uri of the endpoint which uses the stylesheet
+     * @param resourceUri the uri of the stylesheet
+     * @param content     the content of the stylesheet
+     */
+    public static String createKey(String endpointUri, String resourceUri, byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return endpointUri + "|" + resourceUri + "|" + HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always supported by the JDK
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the compiled stylesheet
+     *
+     * @return the stylesheet, or <tt>null</tt> if not cached
+     */
+    public Templates get(String key) {
+        Templates answer = templates.get(key);
+        if (answer != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return answer;
+    }
+
+    public void put(String key, Templates template) {
+        templates.put(key, template);
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * Number of times a compiled stylesheet was found in the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times a stylesheet had to be compiled
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Resets the hit and miss counters
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+}
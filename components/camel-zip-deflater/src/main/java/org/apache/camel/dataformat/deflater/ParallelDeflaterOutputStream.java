@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+/**
+ * An {@link OutputStream} which compresses the data in blocks in parallel, and writes a gzip or zlib (deflate) stream.
+ * <p/>
+ * The data is split in blocks of a fixed size, which are compressed in parallel with the given executor service. Each
+ * block is compressed with the last 32 KB of the previous block as dictionary, and ends with a sync flush, so the
+ * compressed blocks are written one after the other as a single valid deflate stream, like <tt>pigz</tt> does. The
+ * checksum is computed on the calling thread while the blocks are compressed.
+ * <p/>
+ * Only a bounded number of blocks are compressed at the same time, so the memory used does not depend on the size of
+ * the data. This stream is not thread-safe.
+ */
+public class ParallelDeflaterOutputStream extends FilterOutputStream {
+
+    /**
+     * The default size of the blocks (128 KB)
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private final int level;
+    private final boolean gzip;
+    private final ExecutorService executorService;
+    private final int maxPending;
+    private final Checksum checksum;
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    private byte[] block;
+    private byte[] previous;
+    private int count;
+    private long total;
+    private boolean closed;
+
+    /**
+     * Creates the stream
+     *
+     * @param out             the underlying output stream
+     * @param level           the compression level
+     * @param gzip            whether to write a gzip stream, or a zlib stream
+     * @param blockSize       the size of the blocks which are compressed in parallel
+     * @param executorService the executor service to compress the blocks
+     */
+    public ParallelDeflaterOutputStream(OutputStream out, int level, boolean gzip, int blockSize,
+                                        ExecutorService executorService) throws IOException {
+        super(out);
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive, was: " + blockSize);
+        }
+        this.level = level;
+        this.gzip = gzip;
+        this.executorService = executorService;
+        // keep the executor busy while the compressed blocks are written, without reading all the data in memory
+        this.maxPending = Runtime.getRuntime().availableProcessors() * 2;
+        this.checksum = gzip ? new CRC32() : new Adler32();
+        this.block = new byte[blockSize];
+        writeHeader();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        while (len > 0) {
+            int n = Math.min(len, block.length - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == block.length) {
+                submit(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // the blocks are compressed and written when full, so only the underlying stream can be flushed
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            // the last block finishes the deflate stream (even when empty)
+            submit(true);
+            while (!pending.isEmpty()) {
+                writeNext();
+            }
+            writeTrailer();
+            out.flush();
+        } finally {
+            for (Future<byte[]> future : pending) {
+                future.cancel(true);
+            }
+            pending.clear();
+            out.close();
+        }
+    }
+
+    private void submit(boolean last) throws IOException {
+        final byte[] data = block;
+        final int length = count;
+        final byte[] dictionary = previous;
+        checksum.update(data, 0, length);
+        total += length;
+
+        pending.add(executorService.submit(() -> compress(data, length, dictionary, last)));
+        previous = data;
+        block = last ? null : new byte[data.length];
+        count = 0;
+
+        // write the compressed blocks in order, when too many blocks are pending
+        while (pending.size() >= maxPending) {
+            writeNext();
+        }
+    }
+
+    private void writeNext() throws IOException {
+        Future<byte[]> future = pending.poll();
+        try {
+            out.write(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error compressing", e.getCause());
+        }
+    }
+
+    private byte[] compress(byte[] data, int length, byte[] dictionary, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null) {
+                int n = Math.min(dictionary.length, DICTIONARY_SIZE);
+                deflater.setDictionary(dictionary, dictionary.length - n, n);
+            }
+            deflater.setInput(data, 0, length);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(length / 2, 64));
+            byte[] buf = new byte[Math.max(length / 4, 1024)];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buf);
+                    bos.write(buf, 0, n);
+                }
+            } else {
+                // sync flush so the block ends on a byte boundary, and the next block can be appended
+                int n;
+                do {
+                    n = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH);
+                    bos.write(buf, 0, n);
+                } while (n == buf.length);
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        if (gzip) {
+            // magic, deflate method, no flags, no modification time, no extra flags and unknown OS
+            out.write(new byte[] { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff });
+        } else {
+            // deflate method with 32 KB window, and the compression level, with the check bits as in RFC 1950
+            int cmf = 0x78;
+            int flevel;
+            if (level == 0 || level == 1) {
+                flevel = 0;
+            } else if (level >= 2 && level <= 5) {
+                flevel = 1;
+            } else if (level == 6 || level == Deflater.DEFAULT_COMPRESSION) {
+                flevel = 2;
+            } else {
+                flevel = 3;
+            }
+            int flg = flevel << 6;
+            flg += 31 - (cmf * 256 + flg) % 31;
+            out.write(cmf);
+            out.write(flg);
+        }
+    }
+
+    private void writeTrailer() throws IOException {
+        long value = checksum.getValue();
+        byte[] trailer;
+        if (gzip) {
+            // crc32 and the size modulo 2^32 in little endian
+            trailer = new byte[8];
+            writeIntLE(trailer, 0, value);
+            writeIntLE(trailer, 4, total);
+        } else {
+            // adler32 in big endian
+            trailer = new byte[] {
+                    (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value };
+        }
+        out.write(trailer);
+    }
+
+    private static void writeIntLE(byte[] b, int off, long value) {
+        b[off] = (byte) value;
+        b[off + 1] = (byte) (value >> 8);
+        b[off + 2] = (byte) (value >> 16);
+        b[off + 3] = (byte) (value >> 24);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.deflater;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Unit test of the parallel compression of the gzip and zip deflater data formats.
+ */
+public class ParallelDeflaterDataFormatTest extends CamelTestSupport {
+
+    private static byte[] createData(int size) {
+        // words from a small vocabulary so the data can be compressed, with back references across the blocks
+        String[] words = { "Hamlet", "to", "be", "or", "not", "that", "is", "the", "question", "\n" };
+        Random random = new Random(42);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(size);
+        while (bos.size() < size) {
+            byte[] word = words[random.nextInt(words.length)].getBytes(StandardCharsets.UTF_8);
+            bos.write(word, 0, word.length);
+            bos.write(' ');
+        }
+        return bos.toByteArray();
+    }
+
+    @Test
+    public void testGzip() throws Exception {
+        for (int size : new int[] { 0, 1, 1000, 100000, 1000000 }) {
+            byte[] data = createData(size);
+            byte[] compressed = template.requestBody("direct:gzip", data, byte[].class);
+
+            assertArrayEquals(data, new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+            assertArrayEquals(data, template.requestBody("direct:gunzip", compressed, byte[].class));
+        }
+    }
+
+    @Test
+    public void testZipDeflater() throws Exception {
+        for (int size : new int[] { 0, 1, 1000, 100000, 1000000 }) {
+            byte[] data = createData(size);
+            byte[] compressed = template.requestBody("direct:zip", data, byte[].class);
+
+            assertArrayEquals(data, new InflaterInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+            assertArrayEquals(data, template.requestBody("direct:unzip", compressed, byte[].class));
+        }
+    }
+
+    @Test
+    public void testCompressionLevels() throws Exception {
+        byte[] data = createData(50000);
+        ExecutorService executorService = context.getExecutorServiceManager().newDefaultThreadPool(this, "compress");
+        for (int level = -1; level <= 9; level++) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ParallelDeflaterOutputStream out = new ParallelDeflaterOutputStream(
+                    bos, level, false, 4096,
+                    context.getExecutorServiceManager().newDefaultThreadPool(this, "compress"))) {
+                out.write(data);
+            }
+
+            // the zlib header is checked when inflating
+            try (InputStream is = new InflaterInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+                assertArrayEquals(data, is.readAllBytes());
+            }
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+                gzip.setParallelCompression(true);
+                gzip.setParallelBlockSize(16 * 1024);
+
+                ZipDeflaterDataFormat zip = new ZipDeflaterDataFormat();
+                zip.setParallelCompression(true);
+                zip.setParallelBlockSize(64 * 1024);
+
+                from("direct:gzip").marshal(gzip);
+                from("direct:gunzip").unmarshal(gzip);
+                from("direct:zip").marshal(zip);
+                from("direct:unzip").unmarshal(zip);
+            }
+        };
+    }
+}
@@ -42,6 +42,23 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     void setLoggingLevel(LoggingLevel loggingLevel);
 
+    /**
+     * Gets the maximum number of routes to start in parallel. The default is 1 which starts the routes one by one.
+     */
+    default int getStartupParallelism() {
+        return 1;
+    }
+
+    /**
+     * Sets the maximum number of routes to start in parallel. The default is 1 which starts the routes one by one.
+     * <p/>
+     * Only routes which have no explicit startup order configured are started in parallel, as routes with a startup
+     * order are always started one by one in the configured order.
+     */
+    default void setStartupParallelism(int startupParallelism) {
+        // noop
+    }
+
     /**
      * Whether this route controller is a regular or supervising controller.
      */
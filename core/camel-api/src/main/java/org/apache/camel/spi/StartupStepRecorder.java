@@ -105,6 +105,21 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Begins a new step as a child of the given parent step. This is used when steps are running in parallel on other
+     * threads than the thread that began the parent step.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} to end the step.
+     *
+     * @param parent      the parent step
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
@@ -17,8 +17,6 @@
 
 package org.apache.camel.impl.engine;
 
-import java.util.List;
-
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.CamelInternalProcessorAdvice;
 
@@ -27,19 +25,6 @@ final class AdviceIterator {
 
     }
 
-    static void runAfterTasks(List<? extends CamelInternalProcessorAdvice> advices, Object[] states, Exchange exchange) {
-        int stateIndex = states.length - 1;
-
-        for (int i = advices.size() - 1; i >= 0; i--) {
-            CamelInternalProcessorAdvice task = advices.get(i);
-            Object state = null;
-            if (task.hasState()) {
-                state = states[stateIndex--];
-            }
-            runAfterTask(task, state, exchange);
-        }
-    }
-
     static void runAfterTask(CamelInternalProcessorAdvice task, Object state, Exchange exchange) {
         try {
             task.after(exchange, state);
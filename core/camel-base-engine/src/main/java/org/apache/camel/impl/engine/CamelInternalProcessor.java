@@ -112,12 +112,14 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelInternalProcessor.class);
 
-    private static final Object[] EMPTY_STATES = new Object[0];
-
     final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
     private final ShutdownStrategy shutdownStrategy;
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
+    // the advices (and whether they keep state) are copied to arrays when added so the routing
+    // hot path does not need to iterate the list and call hasState on every advice per exchange
+    private CamelInternalProcessorAdvice<?>[] adviceArray = new CamelInternalProcessorAdvice<?>[0];
+    private boolean[] adviceHasState = new boolean[0];
     private byte statefulAdvices;
     private PooledObjectFactory<CamelInternalTask> taskFactory;
 
@@ -164,6 +166,14 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         if (advice.hasState()) {
             statefulAdvices++;
         }
+
+        CamelInternalProcessorAdvice<?>[] array = advices.toArray(new CamelInternalProcessorAdvice<?>[0]);
+        boolean[] hasState = new boolean[array.length];
+        for (int i = 0; i < array.length; i++) {
+            hasState[i] = array[i].hasState();
+        }
+        this.adviceArray = array;
+        this.adviceHasState = hasState;
     }
 
     @Override
@@ -211,10 +221,14 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
 
     /**
      * Callback task to process the advices after processing.
+     * <p/>
+     * The common case is that only a single advice keeps state (unit of work), which is then kept in a field instead of
+     * an array. The array is only used when more than one advice keeps state.
      */
     private final class AsyncAfterTask implements CamelInternalTask {
 
         private final Object[] states;
+        private Object state;
         private Exchange exchange;
         private AsyncCallback originalCallback;
 
@@ -229,13 +243,20 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         }
 
         @Override
-        public Object[] getStates() {
-            return states;
+        public void setState(int index, Object state) {
+            if (states != null) {
+                states[index] = state;
+            } else {
+                this.state = state;
+            }
         }
 
         @Override
         public void reset() {
-            Arrays.fill(this.states, null);
+            if (states != null) {
+                Arrays.fill(this.states, null);
+            }
+            this.state = null;
             this.exchange = null;
             this.originalCallback = null;
         }
@@ -243,7 +264,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         @Override
         public void done(boolean doneSync) {
             try {
-                AdviceIterator.runAfterTasks(advices, states, exchange);
+                runAfterTasks();
             } finally {
                 // ----------------------------------------------------------
                 // CAMEL END USER - DEBUG ME HERE +++ START +++
@@ -262,6 +283,20 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                 }
             }
         }
+
+        private void runAfterTasks() {
+            // run the advices in reverse order
+            final CamelInternalProcessorAdvice<?>[] tasks = adviceArray;
+            final boolean[] hasState = adviceHasState;
+            int stateIndex = statefulAdvices - 1;
+            for (int i = tasks.length - 1; i >= 0; i--) {
+                Object s = null;
+                if (hasState[i]) {
+                    s = states != null ? states[stateIndex--] : state;
+                }
+                AdviceIterator.runAfterTask(tasks[i], s, exchange);
+            }
+        }
     }
 
     @Override
@@ -290,26 +325,22 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             return processShutdown(exchange, originalCallback);
         }
 
-        Object[] states;
-
         // create internal callback which will execute the advices in reverse order when done
         CamelInternalTask afterTask = taskFactory != null ? taskFactory.acquire() : null;
         if (afterTask == null) {
-            states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
-            afterTask = new AsyncAfterTask(states);
-        } else {
-            states = afterTask.getStates();
+            // optimise to only use object array for states when more than one advice keep state
+            afterTask = new AsyncAfterTask(statefulAdvices > 1 ? new Object[statefulAdvices] : null);
         }
         afterTask.prepare(exchange, originalCallback);
 
-        // optimise to use object array for states, and only for the number of advices that keep state
-        // optimise for loop using index access to avoid creating iterator object
-        for (int i = 0, j = 0; i < advices.size(); i++) {
-            CamelInternalProcessorAdvice<?> task = advices.get(i);
+        // optimise for loop using array index access to avoid list and iterator overhead
+        final CamelInternalProcessorAdvice<?>[] tasks = adviceArray;
+        final boolean[] hasState = adviceHasState;
+        for (int i = 0, j = 0; i < tasks.length; i++) {
             try {
-                Object state = task.before(exchange);
-                if (task.hasState()) {
-                    states[j++] = state;
+                Object state = tasks[i].before(exchange);
+                if (hasState[i]) {
+                    afterTask.setState(j++, state);
                 }
             } catch (Exception e) {
                 return handleException(exchange, originalCallback, e, afterTask);
@@ -33,9 +33,12 @@ interface CamelInternalTask extends AsyncCallback {
     void prepare(Exchange exchange, AsyncCallback callback);
 
     /**
-     * Gets the states
+     * Sets the state of the stateful advice
+     *
+     * @param index the index among the advices that keep state
+     * @param state the state returned from the advice before processing
      */
-    Object[] getStates();
+    void setState(int index, Object state);
 
     /**
      * Resets the task after its done and can be reused for another exchange.
@@ -42,6 +42,7 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
     private CamelContext camelContext;
 
     private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
+    private int startupParallelism = 1;
 
     public DefaultRouteController() {
         this(null);
@@ -75,6 +76,16 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         this.loggingLevel = loggingLevel;
     }
 
+    @Override
+    public int getStartupParallelism() {
+        return startupParallelism;
+    }
+
+    @Override
+    public void setStartupParallelism(int startupParallelism) {
+        this.startupParallelism = startupParallelism;
+    }
+
     @Override
     public boolean isSupervising() {
         return this instanceof SupervisingRouteController;
@@ -185,6 +196,7 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
             // change current route controller to be supervising
             SupervisingRouteController src = new DefaultSupervisingRouteController();
             src.setCamelContext(camelContext);
+            src.setStartupParallelism(startupParallelism);
             camelContext.setRouteController(src);
             return src;
         }
@@ -231,6 +231,12 @@ public class DefaultSupervisingRouteController extends DefaultRouteController im
 
     @Override
     protected void doStart() throws Exception {
+        if (getStartupParallelism() > 1) {
+            LOG.warn("Starting routes in parallel (startupParallelism={}) is not supported by the supervising route controller."
+                     + " The routes are started one by one.",
+                    getStartupParallelism());
+        }
+
         this.backOff = new BackOff(
                 Duration.ofMillis(backOffDelay),
                 backOffMaxDelay > 0 ? Duration.ofMillis(backOffMaxDelay) : null,
@@ -48,6 +48,16 @@ class InternalRouteController implements RouteController {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public int getStartupParallelism() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setStartupParallelism(int startupParallelism) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean isSupervising() {
         return false;
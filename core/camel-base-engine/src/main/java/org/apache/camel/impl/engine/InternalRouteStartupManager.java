@@ -23,6 +23,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -32,6 +35,7 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -40,6 +44,7 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -60,6 +65,7 @@ final class InternalRouteStartupManager {
     private final ThreadLocal<Route> setupRoute = new ThreadLocal<>();
     private final CamelLogger routeLogger = new CamelLogger(LOG);
     private int defaultRouteStartupOrder = 1000;
+    private ExecutorService startupExecutor;
 
     /**
      * If Camel is currently starting up a route then this returns the route.
@@ -194,6 +200,9 @@ final class InternalRouteStartupManager {
                 inputs.put(order.getStartupOrder(), order);
             }
 
+            // use a thread pool if the routes can be started in parallel
+            startupExecutor = createStartupExecutor(camelContext, inputs);
+
             // warm up routes before we start them
             doWarmUpRoutes(camelContext, inputs, startConsumer);
 
@@ -238,10 +247,55 @@ final class InternalRouteStartupManager {
             // inputs no longer needed
             inputs.clear();
         } finally {
+            if (startupExecutor != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(startupExecutor);
+                startupExecutor = null;
+            }
             lock.unlock();
         }
     }
 
+    private ExecutorService createStartupExecutor(
+            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs) {
+        int parallelism = camelContext.getRouteController().getStartupParallelism();
+        if (parallelism <= 1 || camelContext.getRouteController().isSupervising()) {
+            // the supervising route controller starts the routes one by one
+            return null;
+        }
+        int max = 0;
+        for (List<DefaultRouteStartupOrder> group : groupRoutes(inputs)) {
+            max = Math.max(max, group.size());
+        }
+        if (max <= 1) {
+            return null;
+        }
+        int size = Math.min(parallelism, max);
+        LOG.debug("Starting routes in parallel using {} threads", size);
+        return camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", size);
+    }
+
+    /**
+     * Groups the routes which can be started in parallel, which are routes next to each other in the startup order that
+     * does not have an explicit startup order configured. Routes with an explicit startup order are in a group of their
+     * own, so they are started one by one.
+     */
+    private static List<List<DefaultRouteStartupOrder>> groupRoutes(Map<Integer, DefaultRouteStartupOrder> inputs) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        List<DefaultRouteStartupOrder> group = null;
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            boolean parallel = order.getRoute().getStartupOrder() == null;
+            if (group == null || !parallel) {
+                group = new ArrayList<>();
+                answer.add(group);
+            }
+            group.add(order);
+            if (!parallel) {
+                group = null;
+            }
+        }
+        return answer;
+    }
+
     /**
      * @see #safelyStartRouteServices(AbstractCamelContext, boolean, boolean, boolean, boolean, Collection)
      */
@@ -306,6 +360,8 @@ final class InternalRouteStartupManager {
             throws FailedToStartRouteException {
         // now prepare the routes by starting its services before we start the
         // input
+        // the routes are always warmed up one by one (also when starting routes in parallel)
+        // as the lifecycle strategies are invoked while warming up, and they are not all thread-safe
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
             // defer starting inputs till later as we want to prepare the routes
             // by starting
@@ -316,19 +372,35 @@ final class InternalRouteStartupManager {
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
             RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
-                    routeService.getId(),
-                    "Warump Route");
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
-                camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
-            }
+            doWarmUpRoute(camelContext, routeService, autoStartup);
+        }
+    }
+
+    private void doWarmUpRoute(AbstractCamelContext camelContext, RouteService routeService, boolean autoStartup)
+            throws FailedToStartRouteException {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(Route.class, routeService.getId(), "Warump Route");
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+            recorder.endStep(step);
+        }
+    }
+
+    /**
+     * Waits for the task to complete, and throws the failure of the task (if any)
+     */
+    private static void await(Future<?> future) throws Exception {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : new RuntimeCamelException(cause);
         }
     }
 
@@ -354,124 +426,272 @@ final class InternalRouteStartupManager {
             throws Exception {
         List<Endpoint> routeInputs = new ArrayList<>();
 
+        if (startupExecutor != null && !resumeOnly) {
+            for (List<DefaultRouteStartupOrder> group : groupRoutes(inputs)) {
+                if (group.size() == 1) {
+                    doStartOrResumeRouteConsumer(camelContext, group.get(0), false, addingRoute, routeInputs);
+                } else {
+                    doStartRouteConsumersInParallel(camelContext, group, addingRoute, routeInputs);
+                }
+            }
+            return;
+        }
+
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
-            RouteService routeService = entry.getValue().getRouteService();
+            doStartOrResumeRouteConsumer(camelContext, entry.getValue(), resumeOnly, addingRoute, routeInputs);
+        }
+    }
 
-            // if we are starting camel, then skip routes which are configured
-            // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                routeLogger.log(
-                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
-                        getRouteLoggerLogLevel(camelContext));
-                continue;
-            }
+    private void doStartOrResumeRouteConsumer(
+            AbstractCamelContext camelContext,
+            DefaultRouteStartupOrder startupOrder, boolean resumeOnly, boolean addingRoute, List<Endpoint> routeInputs)
+            throws Exception {
+        int order = startupOrder.getStartupOrder();
+        Route route = startupOrder.getRoute();
+        RouteService routeService = startupOrder.getRouteService();
+
+        // if we are starting camel, then skip routes which are configured
+        // to not be auto started
+        boolean autoStartup = routeService.isAutoStartup();
+        if (addingRoute && !autoStartup) {
+            routeLogger.log(
+                    "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                    getRouteLoggerLogLevel(camelContext));
+            return;
+        }
 
-            StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
-                    route.getRouteId(),
-                    "Start Route");
+        StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
+                route.getRouteId(),
+                "Start Route");
 
-            // do some preparation before starting the consumer on the route
-            Consumer consumer = routeService.getInput();
-            if (consumer != null) {
-                Endpoint endpoint = consumer.getEndpoint();
+        // do some preparation before starting the consumer on the route
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            Endpoint endpoint = consumer.getEndpoint();
+            doCheckMultipleConsumers(camelContext, route, endpoint, routeInputs);
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+            // start the consumer on the route
+            LOG.debug("Route: {} >>> {}", route.getId(), route);
+            if (resumeOnly) {
+                LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
+            } else {
+                LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+            }
 
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : camelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
+            if (resumeOnly && route.supportsSuspension()) {
+                // if we are resuming and the route can be resumed
+                ServiceHelper.resumeService(consumer);
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                        getRouteLoggerLogLevel(camelContext));
+            } else {
+                // when starting we should invoke the lifecycle strategies
+                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
                 }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                try {
+                    camelContext.startService(consumer);
+                    route.getProperties().remove("route.start.exception");
+                } catch (Exception e) {
+                    route.getProperties().put("route.start.exception", e);
+                    throw e;
                 }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
-                }
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                        getRouteLoggerLogLevel(camelContext));
+            }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        camelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
+            routeInputs.add(endpoint);
+            doAddRouteStartupOrder(camelContext, startupOrder);
+        }
 
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
-                }
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
+            }
+        }
 
+        camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+    }
+
+    private void doStartRouteConsumersInParallel(
+            AbstractCamelContext camelContext,
+            List<DefaultRouteStartupOrder> group, boolean addingRoute, List<Endpoint> routeInputs)
+            throws Exception {
+        // check for clashes and prepare all the routes before starting any of them
+        List<DefaultRouteStartupOrder> toStart = new ArrayList<>(group.size());
+        for (DefaultRouteStartupOrder startupOrder : group) {
+            Route route = startupOrder.getRoute();
+            RouteService routeService = startupOrder.getRouteService();
+            if (addingRoute && !routeService.isAutoStartup()) {
+                routeLogger.log(
+                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                        getRouteLoggerLogLevel(camelContext));
+                continue;
+            }
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                Endpoint endpoint = consumer.getEndpoint();
+                doCheckMultipleConsumers(camelContext, route, endpoint, routeInputs);
+                // when starting we should invoke the lifecycle strategies
+                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+                }
                 routeInputs.add(endpoint);
+            }
+            toStart.add(startupOrder);
+        }
+
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep parent = recorder.beginStep(Route.class, "routes", "Start Routes");
+        try {
+            // only the consumers are started in parallel
+            List<Future<?>> futures = new ArrayList<>(toStart.size());
+            for (DefaultRouteStartupOrder startupOrder : toStart) {
+                futures.add(startupExecutor.submit(() -> {
+                    doStartRouteConsumer(camelContext, startupOrder, parent);
+                    return null;
+                }));
+            }
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
+            // the route services are started on this thread in the startup order, as the route policies,
+            // route started events and lifecycle strategies expect the routes to be started one by one
+            Exception failure = null;
+            for (int i = 0; i < toStart.size(); i++) {
+                DefaultRouteStartupOrder startupOrder = toStart.get(i);
+                try {
+                    await(futures.get(i));
+                    if (failure == null) {
+                        doStartRouteService(camelContext, startupOrder);
+                    }
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
                     }
                 }
-                if (!found) {
-                    camelContext.getCamelContextExtension().getRouteStartupOrder().add(entry.getValue());
+                // register the routes in the startup order (also when some failed to start)
+                // so they are stopped in reverse order when Camel is stopped
+                if (startupOrder.getRouteService().getInput() != null) {
+                    doAddRouteStartupOrder(camelContext, startupOrder);
                 }
             }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            recorder.endStep(parent);
+        }
+    }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
+    private void doStartRouteConsumer(
+            AbstractCamelContext camelContext, DefaultRouteStartupOrder startupOrder, StartupStep parent)
+            throws Exception {
+        Route route = startupOrder.getRoute();
+        RouteService routeService = startupOrder.getRouteService();
+
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(parent, Route.class, route.getRouteId(), "Start Route");
+        try {
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                LOG.debug("Route: {} >>> {}", route.getId(), route);
+                LOG.debug("Starting consumer (order: {}) on route: {}", startupOrder.getStartupOrder(), route.getId());
                 try {
-                    routeService.start();
+                    camelContext.startService(consumer);
                     route.getProperties().remove("route.start.exception");
                 } catch (Exception e) {
                     route.getProperties().put("route.start.exception", e);
                     throw e;
                 }
             }
+        } finally {
+            recorder.endStep(step);
+        }
+    }
+
+    private void doStartRouteService(AbstractCamelContext camelContext, DefaultRouteStartupOrder startupOrder)
+            throws Exception {
+        Route route = startupOrder.getRoute();
+        RouteService routeService = startupOrder.getRouteService();
+
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = consumer.getEndpoint().getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                    getRouteLoggerLogLevel(camelContext));
+        }
+
+        // and start the route service (no need to start children as
+        // they are already warmed up)
+        try {
+            routeService.start();
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+    }
+
+    private void doCheckMultipleConsumers(
+            AbstractCamelContext camelContext, Route route, Endpoint endpoint, List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : camelContext.getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
 
-            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+    private void doAddRouteStartupOrder(AbstractCamelContext camelContext, DefaultRouteStartupOrder startupOrder) {
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        boolean found = false;
+        for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
+            if (other.getRoute().getId().equals(startupOrder.getRoute().getId())) {
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            camelContext.getCamelContextExtension().getRouteStartupOrder().add(startupOrder);
         }
     }
 
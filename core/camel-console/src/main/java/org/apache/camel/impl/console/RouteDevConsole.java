@@ -143,6 +143,9 @@ public class RouteDevConsole extends AbstractDevConsole {
             }
             sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
             sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
+            sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(mrb.getP50ProcessingTime(), true)));
+            sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(mrb.getP90ProcessingTime(), true)));
+            sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(mrb.getP99ProcessingTime(), true)));
             sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
             if (mrb.getExchangesTotal() > 0) {
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
@@ -223,6 +226,9 @@ public class RouteDevConsole extends AbstractDevConsole {
             }
             sb.append(String.format("\n        Mean Time: %s", TimeUtils.printDuration(mp.getMeanProcessingTime(), true)));
             sb.append(String.format("\n        Max Time: %s", TimeUtils.printDuration(mp.getMaxProcessingTime(), true)));
+            sb.append(String.format("\n        P50 Time: %s", TimeUtils.printDuration(mp.getP50ProcessingTime(), true)));
+            sb.append(String.format("\n        P90 Time: %s", TimeUtils.printDuration(mp.getP90ProcessingTime(), true)));
+            sb.append(String.format("\n        P99 Time: %s", TimeUtils.printDuration(mp.getP99ProcessingTime(), true)));
             sb.append(String.format("\n        Min Time: %s", TimeUtils.printDuration(mp.getMinProcessingTime(), true)));
             if (mp.getExchangesTotal() > 0) {
                 sb.append(String.format("\n        Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
@@ -309,6 +315,9 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("exchangesInflight", mrb.getExchangesInflight());
             stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
             stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
+            stats.put("p50ProcessingTime", mrb.getP50ProcessingTime());
+            stats.put("p90ProcessingTime", mrb.getP90ProcessingTime());
+            stats.put("p99ProcessingTime", mrb.getP99ProcessingTime());
             stats.put("minProcessingTime", mrb.getMinProcessingTime());
             if (mrb.getExchangesTotal() > 0) {
                 stats.put("lastProcessingTime", mrb.getLastProcessingTime());
@@ -400,6 +409,9 @@ public class RouteDevConsole extends AbstractDevConsole {
         stats.put("exchangesInflight", mp.getExchangesInflight());
         stats.put("meanProcessingTime", mp.getMeanProcessingTime());
         stats.put("maxProcessingTime", mp.getMaxProcessingTime());
+        stats.put("p50ProcessingTime", mp.getP50ProcessingTime());
+        stats.put("p90ProcessingTime", mp.getP90ProcessingTime());
+        stats.put("p99ProcessingTime", mp.getP99ProcessingTime());
         stats.put("minProcessingTime", mp.getMinProcessingTime());
         if (mp.getExchangesTotal() > 0) {
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
@@ -85,6 +85,9 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Inflight: %s", mrb.getExchangesInflight()));
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
+                    sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(mrb.getP50ProcessingTime(), true)));
+                    sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(mrb.getP90ProcessingTime(), true)));
+                    sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(mrb.getP99ProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
@@ -141,6 +144,9 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Inflight: %s", mpb.getExchangesInflight()));
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mpb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mpb.getMaxProcessingTime(), true)));
+                    sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(mpb.getP50ProcessingTime(), true)));
+                    sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(mpb.getP90ProcessingTime(), true)));
+                    sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(mpb.getP99ProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mpb.getMinProcessingTime(), true)));
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mpb.getLastProcessingTime(), true)));
@@ -254,6 +260,9 @@ public class TopDevConsole extends AbstractDevConsole {
         stats.put("exchangesInflight", mpb.getExchangesInflight());
         stats.put("meanProcessingTime", mpb.getMeanProcessingTime());
         stats.put("maxProcessingTime", mpb.getMaxProcessingTime());
+        stats.put("p50ProcessingTime", mpb.getP50ProcessingTime());
+        stats.put("p90ProcessingTime", mpb.getP90ProcessingTime());
+        stats.put("p99ProcessingTime", mpb.getP99ProcessingTime());
         stats.put("minProcessingTime", mpb.getMinProcessingTime());
         stats.put("lastProcessingTime", mpb.getLastProcessingTime());
         stats.put("deltaProcessingTime", mpb.getDeltaProcessingTime());
@@ -268,6 +277,9 @@ public class TopDevConsole extends AbstractDevConsole {
         stats.put("exchangesInflight", mrb.getExchangesInflight());
         stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
         stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
+        stats.put("p50ProcessingTime", mrb.getP50ProcessingTime());
+        stats.put("p90ProcessingTime", mrb.getP90ProcessingTime());
+        stats.put("p99ProcessingTime", mrb.getP99ProcessingTime());
         stats.put("minProcessingTime", mrb.getMinProcessingTime());
         stats.put("lastProcessingTime", mrb.getLastProcessingTime());
         stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
@@ -89,6 +89,16 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        if (operator == BinaryOperatorType.EQ || operator == BinaryOperatorType.NOT_EQ
+                || operator == BinaryOperatorType.GT || operator == BinaryOperatorType.GTE
+                || operator == BinaryOperatorType.LT || operator == BinaryOperatorType.LTE) {
+            // optimize comparing with a constant such as ${header.foo} == 'bar' or ${header.size} > 100
+            Expression answer = createConstantComparison(leftExp);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
         if (operator == BinaryOperatorType.EQ) {
             return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
@@ -267,11 +277,10 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createExpression(
             final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
-        return new Expression() {
+        return new PredicateExpression() {
             @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
             }
 
             @Override
@@ -281,6 +290,170 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    private Expression createConstantComparison(final Expression leftExp) {
+        Object constant = null;
+        if (right instanceof NumericExpression numeric
+                && (numeric.getNumber() instanceof Integer || numeric.getNumber() instanceof Long)) {
+            constant = numeric.getNumber();
+        } else if (right instanceof LiteralExpression literal) {
+            constant = literal.getText();
+        } else if (right instanceof SingleQuoteStart quote) {
+            constant = getLiteralText(quote.getBlock());
+        } else if (right instanceof DoubleQuoteStart quote) {
+            constant = getLiteralText(quote.getBlock());
+        }
+        if (constant == null) {
+            return null;
+        }
+
+        try {
+            return new ConstantComparison(leftExp, constant);
+        } catch (NumberFormatException e) {
+            // the constant is a too big number, so let the type coercion deal with it when evaluating
+            return null;
+        }
+    }
+
+    private static String getLiteralText(CompositeNodes block) {
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            if (child instanceof LiteralExpression literal) {
+                sb.append(literal.getText());
+            } else {
+                // not a constant as the quoted text contains functions
+                return null;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Compares the left hand side with a constant on the right hand side, such as <tt>${header.foo} == 'bar'</tt> or
+     * <tt>${header.size} > 100</tt>.
+     * <p/>
+     * The constant is parsed once when the expression is created, so comparing with strings and integer numbers does
+     * not box values or use the type converter. The result is the same as the type coercion of {@link ObjectHelper},
+     * which is used for the other types.
+     */
+    private final class ConstantComparison extends PredicateExpression {
+
+        private final Expression leftExp;
+        private final Object constant;
+        // whether the constant is a string with an integer or floating number
+        private final boolean number;
+        private final boolean floating;
+        private final long longValue;
+        private final double doubleValue;
+        // the constant as integer if it is a string with a number which fits in an integer
+        private final Integer intValue;
+
+        private ConstantComparison(Expression leftExp, Object constant) {
+            this.leftExp = leftExp;
+            this.constant = constant;
+            if (constant instanceof String str) {
+                number = ObjectHelper.isNumber(str);
+                floating = !number && ObjectHelper.isFloatingNumber(str);
+                longValue = number ? Long.parseLong(str) : 0;
+                doubleValue = number || floating ? Double.parseDouble(str) : 0;
+                intValue = number && longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE
+                        ? Integer.valueOf((int) longValue) : null;
+            } else {
+                number = false;
+                floating = false;
+                longValue = 0;
+                doubleValue = 0;
+                intValue = null;
+            }
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object value = leftExp.evaluate(exchange, Object.class);
+            if (value == null) {
+                // the constant is never null
+                return operator == BinaryOperatorType.NOT_EQ;
+            }
+
+            if (operator == BinaryOperatorType.EQ) {
+                return isEqualTo(exchange, value);
+            } else if (operator == BinaryOperatorType.NOT_EQ) {
+                return !isEqualTo(exchange, value);
+            } else if (operator == BinaryOperatorType.GT) {
+                return compareTo(exchange, value) > 0;
+            } else if (operator == BinaryOperatorType.GTE) {
+                return compareTo(exchange, value) >= 0;
+            } else if (operator == BinaryOperatorType.LT) {
+                return compareTo(exchange, value) < 0;
+            } else {
+                return compareTo(exchange, value) <= 0;
+            }
+        }
+
+        private boolean isEqualTo(Exchange exchange, Object value) {
+            if (constant instanceof String str) {
+                if (value instanceof String text) {
+                    if (number && ObjectHelper.isNumber(text)) {
+                        return Long.parseLong(text) == longValue;
+                    }
+                    return text.equals(str);
+                } else if (value instanceof Integer num && intValue != null) {
+                    return num.intValue() == intValue;
+                } else if (value instanceof Long num && number) {
+                    return num == longValue;
+                }
+            } else if (constant instanceof Integer con) {
+                if (value instanceof Integer num) {
+                    return num.intValue() == con;
+                } else if (value instanceof String text && ObjectHelper.isNumber(text)) {
+                    return Integer.parseInt(text) == con;
+                }
+            } else if (constant instanceof Long con) {
+                if (value instanceof Long num) {
+                    return num.longValue() == con;
+                } else if (value instanceof String text && ObjectHelper.isNumber(text)) {
+                    return Long.parseLong(text) == con;
+                }
+            }
+            return ObjectHelper.typeCoerceEquals(exchange.getContext().getTypeConverter(), value, constant);
+        }
+
+        private int compareTo(Exchange exchange, Object value) {
+            if (constant instanceof String str) {
+                if (value instanceof String text) {
+                    boolean leftNumber = ObjectHelper.isNumber(text);
+                    if (leftNumber && number) {
+                        return Long.compare(Long.parseLong(text), longValue);
+                    } else if ((leftNumber || ObjectHelper.isFloatingNumber(text)) && (number || floating)) {
+                        return Double.compare(Double.parseDouble(text), doubleValue);
+                    }
+                    return text.compareTo(str);
+                } else if (value instanceof Integer num && intValue != null) {
+                    return Integer.compare(num, intValue);
+                } else if (value instanceof Long num && number) {
+                    return Long.compare(num, longValue);
+                }
+            } else if (constant instanceof Integer con) {
+                if (value instanceof Integer num) {
+                    return Integer.compare(num, con);
+                } else if (value instanceof String text && ObjectHelper.isNumber(text)) {
+                    return Integer.compare(Integer.parseInt(text), con);
+                }
+            } else if (constant instanceof Long con) {
+                if (value instanceof Long num) {
+                    return Long.compare(num, con);
+                } else if (value instanceof String text && ObjectHelper.isNumber(text)) {
+                    return Long.compare(Long.parseLong(text), con);
+                }
+            }
+            return ObjectHelper.typeCoerceCompare(exchange.getContext().getTypeConverter(), value, constant);
+        }
+
+        @Override
+        public String toString() {
+            return left + " " + token.getText() + " " + right;
+        }
+    }
+
     @Override
     public String createCode(CamelContext camelContext, String expression) throws SimpleParserException {
         return BaseSimpleParser.CODE_START + doCreateCode(camelContext, expression) + BaseSimpleParser.CODE_END;
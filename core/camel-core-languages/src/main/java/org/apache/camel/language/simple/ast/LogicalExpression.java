@@ -87,14 +87,14 @@ public class LogicalExpression extends BaseSimpleNode {
     }
 
     private Expression createAndExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.and(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
+        // the predicates are stateless so create them once
+        final Predicate predicate = PredicateBuilder.and(
+                ExpressionToPredicateAdapter.toPredicate(leftExp), ExpressionToPredicateAdapter.toPredicate(rightExp));
 
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
+        return new PredicateExpression() {
+            @Override
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
             }
 
             @Override
@@ -105,14 +105,14 @@ public class LogicalExpression extends BaseSimpleNode {
     }
 
     private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.or(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
+        // the predicates are stateless so create them once
+        final Predicate predicate = PredicateBuilder.or(
+                ExpressionToPredicateAdapter.toPredicate(leftExp), ExpressionToPredicateAdapter.toPredicate(rightExp));
 
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
+        return new PredicateExpression() {
+            @Override
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
             }
 
             @Override
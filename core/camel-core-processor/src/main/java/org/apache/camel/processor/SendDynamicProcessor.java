@@ -17,6 +17,7 @@
 package org.apache.camel.processor;
 
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
@@ -35,11 +36,14 @@ import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.ProducerCache;
+import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.SendDynamicAware;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.cache.DefaultProducerCache;
 import org.apache.camel.support.cache.EmptyProducerCache;
 import org.apache.camel.support.service.ServiceHelper;
@@ -72,6 +76,10 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
     protected int cacheSize;
     protected boolean allowOptimisedComponents = true;
     protected boolean autoStartupComponents = true;
+    // cache of the computed uris which has been normalized, to avoid normalizing the same uris again
+    private Map<String, NormalizedEndpointUri> normalizedUriCache;
+    private final LongAdder normalizedUriCacheHits = new LongAdder();
+    private final LongAdder normalizedUriCacheMisses = new LongAdder();
 
     public SendDynamicProcessor(String uri, Expression expression) {
         this.uri = uri;
@@ -148,7 +156,7 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
                 }
             }
             Object targetRecipient = staticUri != null ? staticUri : recipient;
-            targetRecipient = prepareRecipient(exchange, targetRecipient);
+            targetRecipient = prepareRecipientCached(exchange, targetRecipient);
             if (targetRecipient == null) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Send dynamic evaluated as null so cannot send to any endpoint");
@@ -305,6 +313,26 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
         return null;
     }
 
+    private Object prepareRecipientCached(Exchange exchange, Object recipient) throws NoTypeConversionAvailableException {
+        Map<String, NormalizedEndpointUri> cache = normalizedUriCache;
+        if (cache == null || !(recipient instanceof String)) {
+            return prepareRecipient(exchange, recipient);
+        }
+        String key = (String) recipient;
+        NormalizedEndpointUri answer = cache.get(key);
+        if (answer != null) {
+            normalizedUriCacheHits.increment();
+            return answer;
+        }
+        normalizedUriCacheMisses.increment();
+        Object prepared = prepareRecipient(exchange, recipient);
+        // property placeholders are resolved as part of normalizing so only cache when there are no placeholders
+        if (prepared instanceof NormalizedEndpointUri nu && !key.contains(PropertiesComponent.PREFIX_TOKEN)) {
+            cache.put(key, nu);
+        }
+        return prepared;
+    }
+
     protected static Endpoint getExistingEndpoint(Exchange exchange, Object recipient) {
         return ProcessorHelper.getExistingEndpoint(exchange, recipient);
     }
@@ -380,6 +408,11 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
             camelContext.getComponent(scheme);
         }
 
+        if (normalizedUriCache == null && cacheSize >= 0) {
+            int size = cacheSize > 0 ? cacheSize : CamelContextHelper.getMaximumEndpointCacheSize(camelContext);
+            normalizedUriCache = LRUCacheFactory.newLRUCache(size);
+        }
+
         if (producerCache == null) {
             if (cacheSize < 0) {
                 producerCache = new EmptyProducerCache(this, camelContext);
@@ -396,12 +429,45 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
     @Override
     protected void doStop() throws Exception {
         ServiceHelper.stopService(producerCache, dynamicAware);
+        if (normalizedUriCache != null) {
+            normalizedUriCache.clear();
+        }
     }
 
     public EndpointUtilizationStatistics getEndpointUtilizationStatistics() {
         return producerCache.getEndpointUtilizationStatistics();
     }
 
+    /**
+     * Number of times a computed uri was found in the cache of normalized uris
+     */
+    public long getNormalizedUriCacheHits() {
+        return normalizedUriCacheHits.sum();
+    }
+
+    /**
+     * Number of times a computed uri was not found in the cache of normalized uris
+     */
+    public long getNormalizedUriCacheMisses() {
+        return normalizedUriCacheMisses.sum();
+    }
+
+    /**
+     * Current number of normalized uris in the cache
+     */
+    public int getNormalizedUriCacheSize() {
+        Map<String, NormalizedEndpointUri> cache = normalizedUriCache;
+        return cache != null ? cache.size() : 0;
+    }
+
+    /**
+     * Resets the statistics of the cache of normalized uris
+     */
+    public void resetNormalizedUriCacheStatistics() {
+        normalizedUriCacheHits.reset();
+        normalizedUriCacheMisses.reset();
+    }
+
     @Override
     public CamelContext getCamelContext() {
         return camelContext;
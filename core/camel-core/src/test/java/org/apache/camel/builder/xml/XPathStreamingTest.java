@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.language.xpath.XPathBuilder.xpath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XPathStreamingTest extends ContextTestSupport {
+
+    private static final String ORDER = "<order xmlns:c='http://acme.com/customer' id='123'>"
+                                        + "<c:customer id='c1'><c:name>Donald</c:name></c:customer>"
+                                        + "<status>open</status>"
+                                        + "<items><item sku='a'>1<note>first</note></item><item sku='b'>2</item></items>"
+                                        + "<amount>12.5</amount>"
+                                        + "</order>";
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testStreamingPredicates() {
+        assertPredicate("/order", true);
+        assertPredicate("/order/status", true);
+        assertPredicate("/order/missing", false);
+        assertPredicate("/status", false);
+        assertPredicate("/order/status = 'open'", true);
+        assertPredicate("/order/status = \"closed\"", false);
+        assertPredicate("/order/@id = '123'", true);
+        assertPredicate("/order/items/item/@sku = 'b'", true);
+        assertPredicate("/order/items/item/@sku = 'c'", false);
+        assertPredicate("/order/items/item = '1first'", true);
+        assertPredicate("/order/items/item/text() = '1'", true);
+        assertPredicate("/order/items/item/text() = '1first'", false);
+        assertPredicate("/order/*/item", true);
+        assertPredicate("/order/customer", false);
+        assertPredicate("/order/c:customer/c:name = 'Donald'", true);
+        assertPredicate("/order/c:*/@id = 'c1'", true);
+    }
+
+    @Test
+    public void testStreamingExpressions() {
+        assertStringResult("/order/@id", "123");
+        assertStringResult("/order/status", "open");
+        assertStringResult("/order/items/item", "1first");
+        assertStringResult("/order/items/item/@sku", "a");
+        assertStringResult("/order/items/item/text()", "1");
+        assertStringResult("/order/missing", "");
+        assertStringResult("/order/c:customer/@id", "c1");
+        assertStringResult("/order/status = 'open'", "true");
+
+        assertEquals(12.5d, numberResult("/order/amount", true));
+        assertEquals(Double.NaN, numberResult("/order/status", true));
+    }
+
+    @Test
+    public void testStreamingInputStream() {
+        XPathBuilder builder = xpath("/order/items/item/@sku = 'b'").namespace("c", "http://acme.com/customer").streaming(true);
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ByteArrayInputStream(ORDER.getBytes(StandardCharsets.UTF_8)));
+        assertTrue(builder.matches(exchange));
+    }
+
+    @Test
+    public void testStreamingStopsWhenMatched() {
+        // the rest of the document is not read, so the broken end of the document does not matter
+        String xml = "<order><status>open</status><broken>";
+        assertTrue(createBuilder("/order/status = 'open'", true).matches(context, xml));
+    }
+
+    @Test
+    public void testNotStreamable() {
+        // not in the supported subset of xpath, so they are evaluated as usual
+        assertPredicate("//item[@sku = 'b']", true);
+        assertPredicate("count(/order/items/item) = 2", true);
+        assertStringResult("/order/items/item[2]", "2");
+        assertStringResult("order/status", "open");
+    }
+
+    private void assertPredicate(String expression, boolean expected) {
+        assertEquals(expected, createBuilder(expression, false).matches(context, ORDER), "Regular xpath: " + expression);
+        assertEquals(expected, createBuilder(expression, true).matches(context, ORDER), "Streaming xpath: " + expression);
+    }
+
+    private void assertStringResult(String expression, String expected) {
+        assertEquals(expected, createBuilder(expression, false).evaluate(context, ORDER), "Regular xpath: " + expression);
+        assertEquals(expected, createBuilder(expression, true).evaluate(context, ORDER), "Streaming xpath: " + expression);
+    }
+
+    private Object numberResult(String expression, boolean streaming) {
+        Object regular = createBuilder(expression, false).numberResult().evaluate(context, ORDER, Object.class);
+        Object answer = createBuilder(expression, streaming).numberResult().evaluate(context, ORDER, Object.class);
+        assertEquals(regular, answer, "Streaming xpath: " + expression);
+        assertFalse(answer instanceof String);
+        return answer;
+    }
+
+    private XPathBuilder createBuilder(String expression, boolean streaming) {
+        return xpath(expression).namespace("c", "http://acme.com/customer").streaming(streaming);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+public class FileConsumeDirectoryScanParallelismTest extends ContextTestSupport {
+
+    @Test
+    public void testParallelScan() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        // pre sort should keep the same order as a sequential scan
+        mock.expectedBodiesReceived("a2", "a3", "a", "b2", "b3", "c");
+
+        template.sendBodyAndHeader(fileUri("scan"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("scan"), "c", Exchange.FILE_NAME, "c.txt");
+        template.sendBodyAndHeader(fileUri("scan/b"), "b2", Exchange.FILE_NAME, "b2.txt");
+        template.sendBodyAndHeader(fileUri("scan/b/c"), "b3", Exchange.FILE_NAME, "b3.txt");
+        template.sendBodyAndHeader(fileUri("scan/a"), "a2", Exchange.FILE_NAME, "a2.txt");
+        template.sendBodyAndHeader(fileUri("scan/a/b"), "a3", Exchange.FILE_NAME, "a3.txt");
+        template.sendBodyAndHeader(fileUri("scan/.hidden"), "hidden", Exchange.FILE_NAME, "hidden.txt");
+
+        context.getRouteController().startRoute("scan");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testParallelScanMaxDepth() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a", "a2", "b2");
+
+        template.sendBodyAndHeader(fileUri("depth"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("depth/a"), "a2", Exchange.FILE_NAME, "a2.txt");
+        template.sendBodyAndHeader(fileUri("depth/a/b"), "a3", Exchange.FILE_NAME, "a3.txt");
+        template.sendBodyAndHeader(fileUri("depth/b"), "b2", Exchange.FILE_NAME, "b2.txt");
+        template.sendBodyAndHeader(fileUri("depth/b/c"), "b3", Exchange.FILE_NAME, "b3.txt");
+
+        context.getRouteController().startRoute("depth");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("scan?initialDelay=0&delay=10&recursive=true&preSort=true&directoryScanParallelism=4"))
+                        .routeId("scan").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("depth?initialDelay=0&delay=10&recursive=true&maxDepth=2&directoryScanParallelism=4"))
+                        .routeId("depth").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+public class FileConsumeWatchChangesTest extends ContextTestSupport {
+
+    @Test
+    public void testWatchChanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        // the scheduled poll is far in the future, so the file must be picked up by the watch service
+        template.sendBodyAndHeader(fileUri("out"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        testFile("out/hello.txt").toFile().renameTo(testFile("inbox/hello.txt").toFile());
+
+        mock.assertIsSatisfied(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testWatchChangesRecursive() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Bye World");
+
+        template.sendBodyAndHeader(fileUri("out"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        testFile("inbox/sub").toFile().mkdirs();
+        testFile("out/bye.txt").toFile().renameTo(testFile("inbox/sub/bye.txt").toFile());
+
+        mock.assertIsSatisfied(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("inbox?initialDelay=0&delay=60000&recursive=true&watchChanges=true"))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.FileInputStream;
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+public class FileProducerFileInputStreamTest extends ContextTestSupport {
+
+    @Test
+    public void testFileInputStream() throws Exception {
+        Files.writeString(testFile("source.txt"), "Hello World");
+
+        try (FileInputStream fis = new FileInputStream(testFile("source.txt").toFile())) {
+            template.sendBodyAndHeader(fileUri(), fis, Exchange.FILE_NAME, "target.txt");
+        }
+
+        assertFileExists(testFile("target.txt"), "Hello World");
+    }
+
+    @Test
+    public void testFileInputStreamAlreadyRead() throws Exception {
+        Files.writeString(testFile("source.txt"), "Hello World");
+
+        try (FileInputStream fis = new FileInputStream(testFile("source.txt").toFile())) {
+            // skip the first word so only the remainder of the stream is written
+            fis.skip(6);
+            template.sendBodyAndHeader(fileUri(), fis, Exchange.FILE_NAME, "target.txt");
+        }
+
+        assertFileExists(testFile("target.txt"), "World");
+    }
+
+    @Test
+    public void testFileInputStreamAppend() throws Exception {
+        Files.writeString(testFile("source.txt"), "World");
+        template.sendBodyAndHeader(fileUri(), "Hello ", Exchange.FILE_NAME, "target.txt");
+
+        try (FileInputStream fis = new FileInputStream(testFile("source.txt").toFile())) {
+            template.sendBodyAndHeader(fileUri("?fileExist=Append&appendChars=!"), fis, Exchange.FILE_NAME, "target.txt");
+        }
+
+        assertFileExists(testFile("target.txt"), "Hello World!");
+    }
+
+    @Test
+    public void testFileToSameFile() throws Exception {
+        Files.writeString(testFile("source.txt"), "Hello World");
+
+        template.sendBodyAndHeader(fileUri(), testFile("source.txt").toFile(), Exchange.FILE_NAME, "source.txt");
+
+        assertFileExists(testFile("source.txt"), "Hello World");
+    }
+}
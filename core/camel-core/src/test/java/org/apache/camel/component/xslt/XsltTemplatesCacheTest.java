@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XsltTemplatesCacheTest extends ContextTestSupport {
+
+    private static final String URI = "xslt:org/apache/camel/component/xslt/transform.xsl";
+
+    @Test
+    public void testRecreatedEndpointUsesCachedStylesheet() throws Exception {
+        XsltEndpoint endpoint = context.getEndpoint(URI, XsltEndpoint.class);
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        long misses = cache.getMisses();
+
+        // remove the endpoint, like a dynamic endpoint which is evicted from the endpoint cache
+        context.removeEndpoint(endpoint);
+        XsltEndpoint other = context.getEndpoint(URI, XsltEndpoint.class);
+
+        assertNotSame(endpoint, other);
+        assertSame(endpoint.getXslt().getTemplate(), other.getXslt().getTemplate());
+        assertEquals(misses, cache.getMisses());
+        assertTrue(other.getTemplatesCacheHits() > 0);
+
+        String xml = template.requestBody("direct:start", "<mail><subject>Hey</subject><body>Hello world!</body></mail>",
+                String.class);
+        assertTrue(xml.contains("<cheese>"));
+    }
+
+    @Test
+    public void testStylesheetWithIncludeIsNotCached() throws Exception {
+        String uri = "xslt:org/apache/camel/component/xslt/staff_include.xsl";
+        XsltEndpoint endpoint = context.getEndpoint(uri, XsltEndpoint.class);
+
+        // the included stylesheet may have changed when the endpoint is created again
+        context.removeEndpoint(endpoint);
+        XsltEndpoint other = context.getEndpoint(uri, XsltEndpoint.class);
+
+        assertNotSame(endpoint.getXslt().getTemplate(), other.getXslt().getTemplate());
+    }
+
+    @Test
+    public void testClearedStylesheetIsCompiledAgain() throws Exception {
+        XsltEndpoint endpoint = context.getEndpoint(URI, XsltEndpoint.class);
+        Object compiled = endpoint.getXslt().getTemplate();
+
+        endpoint.clearCachedStylesheet();
+        template.sendBody("direct:start", "<mail><subject>Hey</subject><body>Hello world!</body></mail>");
+
+        assertNotSame(compiled, endpoint.getXslt().getTemplate());
+    }
+
+    @Test
+    public void testStylesheetFromHeaderIsCompiledOnce() throws Exception {
+        String sheet = IOHelper.loadText(XsltTemplatesCacheTest.class
+                .getResourceAsStream("/org/apache/camel/component/xslt/transform_to_foo.xsl"));
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        long misses = cache.getMisses();
+        long hits = cache.getHits();
+
+        for (int i = 0; i < 3; i++) {
+            String xml = template.requestBodyAndHeader("direct:header",
+                    "<mail><subject>Hey</subject><body>Hello world!</body></mail>", XsltConstants.XSLT_STYLESHEET, sheet,
+                    String.class);
+            assertTrue(xml.contains("foo"));
+        }
+
+        assertEquals(misses + 1, cache.getMisses());
+        assertEquals(hits + 2, cache.getHits());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to(URI);
+
+                from("direct:header").to("xslt:dummy.xsl?contentCache=false&allowTemplateFromHeader=true");
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CamelInternalProcessorAdviceStateTest extends ContextTestSupport {
+
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    public void testNoStatefulAdvice() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(context, e -> events.add("process"));
+        internal.addAdvice(new MyAdvice("a", false));
+        internal.addAdvice(new MyAdvice("b", false));
+
+        process(internal);
+        assertEquals(List.of("before-a", "before-b", "process", "after-b:null", "after-a:null"), events);
+    }
+
+    @Test
+    public void testSingleStatefulAdvice() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(context, e -> events.add("process"));
+        internal.addAdvice(new MyAdvice("a", false));
+        internal.addAdvice(new MyAdvice("b", true));
+        internal.addAdvice(new MyAdvice("c", false));
+
+        process(internal);
+        assertEquals(List.of("before-a", "before-b", "before-c", "process", "after-c:null", "after-b:state-b", "after-a:null"),
+                events);
+    }
+
+    @Test
+    public void testMultipleStatefulAdvices() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(context, e -> events.add("process"));
+        internal.addAdvice(new MyAdvice("a", true));
+        internal.addAdvice(new MyAdvice("b", false));
+        internal.addAdvice(new MyAdvice("c", true));
+
+        process(internal);
+        assertEquals(
+                List.of("before-a", "before-b", "before-c", "process", "after-c:state-c", "after-b:null", "after-a:state-a"),
+                events);
+    }
+
+    private void process(CamelInternalProcessor internal) throws Exception {
+        ServiceHelper.startService(internal);
+        internal.process(new DefaultExchange(context));
+        ServiceHelper.stopAndShutdownService(internal);
+    }
+
+    private class MyAdvice implements CamelInternalProcessorAdvice<String> {
+
+        private final String name;
+        private final boolean state;
+
+        MyAdvice(String name, boolean state) {
+            this.name = name;
+            this.state = state;
+        }
+
+        @Override
+        public String before(Exchange exchange) {
+            events.add("before-" + name);
+            return state ? "state-" + name : null;
+        }
+
+        @Override
+        public void after(Exchange exchange, String data) {
+            events.add("after-" + name + ":" + data);
+        }
+
+        @Override
+        public boolean hasState() {
+            return state;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.support.EventNotifierSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventNotifierAsyncExchangeEventsTest extends ContextTestSupport {
+
+    private final List<CamelEvent> events = new CopyOnWriteArrayList<>();
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MyNotifier notifier;
+    private HoldNotifier holdNotifier;
+    private ErrorNotifier errorNotifier;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        notifier = new MyNotifier();
+        notifier.setAsyncExchangeEvents(true);
+        context.getManagementStrategy().addEventNotifier(notifier);
+        holdNotifier = new HoldNotifier();
+        holdNotifier.setAsyncExchangeEvents(true);
+        holdNotifier.setAsyncQueueSize(16);
+        context.getManagementStrategy().addEventNotifier(holdNotifier);
+        errorNotifier = new ErrorNotifier();
+        errorNotifier.setAsyncExchangeEvents(true);
+        context.getManagementStrategy().addEventNotifier(errorNotifier);
+        return context;
+    }
+
+    @Test
+    public void testAsyncExchangeEvents() throws Exception {
+        release.countDown();
+        String caller = Thread.currentThread().getName();
+        assertTrue(events.stream().anyMatch(e -> e instanceof CamelEvent.CamelContextStartedEvent),
+                "Lifecycle events should be delivered synchronously");
+
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(5,
+                events.stream().filter(e -> e instanceof CamelEvent.ExchangeCompletedEvent).count()));
+        for (String name : threads) {
+            assertNotEquals(caller, name);
+            assertTrue(name.contains("EventNotifier"), name);
+        }
+        assertEquals(0, notifier.getAsyncDroppedEvents());
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        assertTrue(holdNotifier.getAsyncDroppedEvents() > 0, "Should drop events when the queue is full");
+        release.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> holdNotifier.getAsyncPendingEvents() == 0);
+        // the events that was not dropped are delivered in batches
+        assertTrue(batches.stream().anyMatch(b -> b > 1), "Should deliver in batches: " + batches);
+    }
+
+    @Test
+    public void testErrorFromNotifier() throws Exception {
+        release.countDown();
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        // the dispatcher keeps delivering the events after an error
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(5, errorNotifier.completed.size()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+    private class MyNotifier extends EventNotifierSupport {
+
+        @Override
+        public void notify(CamelEvent event) {
+            if (event instanceof CamelEvent.ExchangeEvent) {
+                threads.add(Thread.currentThread().getName());
+            }
+            events.add(event);
+        }
+    }
+
+    private class HoldNotifier extends EventNotifierSupport {
+
+        @Override
+        protected void notifyBatch(List<CamelEvent> batch) throws Exception {
+            release.await(10, TimeUnit.SECONDS);
+            batches.add(batch.size());
+        }
+
+        @Override
+        public void notify(CamelEvent event) {
+            // noop
+        }
+    }
+
+    private static class ErrorNotifier extends EventNotifierSupport {
+
+        private final List<CamelEvent> completed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void notify(CamelEvent event) {
+            if (event instanceof CamelEvent.ExchangeCreatedEvent) {
+                throw new StackOverflowError("Forced");
+            }
+            if (event instanceof CamelEvent.ExchangeCompletedEvent) {
+                completed.add(event);
+            }
+        }
+    }
+
+}
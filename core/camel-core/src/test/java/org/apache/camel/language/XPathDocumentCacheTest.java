@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language;
+
+import org.w3c.dom.Document;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.language.xpath.XPathDocumentCache;
+import org.apache.camel.language.xpath.XPathLanguage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class XPathDocumentCacheTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        ((XPathLanguage) context.resolveLanguage("xpath")).setCacheDocument(true);
+        return context;
+    }
+
+    @Test
+    public void testParseBodyOnce() throws Exception {
+        getMockEndpoint("mock:invoice").expectedBodiesReceived("<invoice><total>10</total></invoice>");
+        getMockEndpoint("mock:order").expectedBodiesReceived("<order><total>20</total></order>");
+        getMockEndpoint("mock:other").expectedMessageCount(0);
+
+        XPathDocumentCache cache = ((XPathLanguage) context.resolveLanguage("xpath")).getDocumentCache();
+        cache.resetStatistics();
+
+        template.sendBody("direct:start", "<invoice><total>10</total></invoice>");
+        template.sendBody("direct:start", "<order><total>20</total></order>");
+
+        assertMockEndpointsSatisfied();
+
+        // each message is parsed once for the choice and the header, and once more after the transform
+        assertEquals(4, cache.getMisses());
+        assertEquals(3, cache.getHits());
+    }
+
+    @Test
+    public void testRemoveStaleDocument() {
+        Exchange out = template.request("direct:stale", e -> e.getMessage().setBody("<order><total>20</total></order>"));
+
+        assertEquals("20", out.getMessage().getHeader("total"));
+        // the body is no longer the payload the cached document was parsed from
+        assertNull(out.getExchangeExtension().getSafeCopyProperty("CamelXPathDocument", Object.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .choice()
+                            .when(xpath("/invoice")).to("mock:invoice")
+                            .when(xpath("/order")).to("mock:order")
+                            .otherwise().to("mock:other")
+                        .end()
+                        .setHeader("total", xpath("/*/total", String.class))
+                        .transform(constant("<done/>"))
+                        .setHeader("done", xpath("/done", Boolean.class));
+
+                from("direct:stale")
+                        .setHeader("total", xpath("/order/total", String.class))
+                        .convertBodyTo(Document.class)
+                        .setHeader("order", xpath("/order", Boolean.class));
+            }
+        };
+    }
+}
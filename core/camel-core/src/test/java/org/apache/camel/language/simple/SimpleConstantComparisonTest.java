@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.Objects;
+
+import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.Predicate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests comparing with a constant, which is optimized, gives the same result as comparing with the same value from a
+ * header.
+ */
+public class SimpleConstantComparisonTest extends LanguageTestSupport {
+
+    private static final String[] OPERATORS = { "==", "!=", ">", ">=", "<", "<=" };
+
+    private static final String[] CONSTANTS
+            = { "'abc'", "\"abc\"", "''", "'123'", "'-7'", "'12.5'", "'true'", "'5000000000'", "123", "5000000000" };
+
+    private static final Object[] CONSTANT_VALUES
+            = { "abc", "abc", "", "123", "-7", "12.5", "true", "5000000000", 123, 5000000000L };
+
+    private static final Object[] VALUES = {
+            null, "abc", "abd", "", "123", "122", "124", "-7", "-8", "12.5", "12.4", "true", "5000000000", 123, 124, 122L,
+            123L, 5000000000L, 12.5d, 12.4d, Boolean.TRUE };
+
+    @Test
+    public void testSameResultAsHeader() {
+        for (int i = 0; i < CONSTANTS.length; i++) {
+            for (String operator : OPERATORS) {
+                Predicate optimized = context.resolveLanguage("simple")
+                        .createPredicate("${header.foo} " + operator + " " + CONSTANTS[i]);
+                Predicate header = context.resolveLanguage("simple")
+                        .createPredicate("${header.foo} " + operator + " ${header.constant}");
+
+                for (Object value : VALUES) {
+                    exchange.getIn().setHeader("foo", value);
+                    exchange.getIn().setHeader("constant", CONSTANT_VALUES[i]);
+
+                    String text = value + " (" + (value != null ? value.getClass().getSimpleName() : null) + ") "
+                                  + operator + " " + CONSTANTS[i];
+                    assertEquals(matches(header), matches(optimized), text);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConstantComparison() {
+        exchange.getIn().setHeader("foo", "abc");
+        exchange.getIn().setHeader("size", "150");
+        exchange.getIn().setHeader("price", 12.5d);
+
+        assertPredicate("${header.foo} == 'abc'", true);
+        assertPredicate("${header.foo} != \"abc\"", false);
+        assertPredicate("${header.size} > 100", true);
+        assertPredicate("${header.size} <= '99'", false);
+        assertPredicate("${header.size} == '150'", true);
+        assertPredicate("${header.price} >= '12.5'", true);
+        assertPredicate("${header.price} < 12", false);
+        assertPredicate("${header.foo} == 'abc' && ${header.size} > 100", true);
+        assertPredicate("${header.foo} == 'def' || ${header.size} < 100", false);
+        assertPredicate("${header.foo} == 'a${header.size}'", false);
+    }
+
+    private String matches(Predicate predicate) {
+        try {
+            return String.valueOf(predicate.matches(exchange));
+        } catch (Exception e) {
+            return e.getClass().getName() + ": " + Objects.requireNonNullElse(e.getMessage(), "");
+        }
+    }
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.Route;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.RoutePolicySupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(3);
+    private final List<Boolean> concurrent = new CopyOnWriteArrayList<>();
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+    private final List<String> policyThreads = new CopyOnWriteArrayList<>();
+    private final List<String> startedRoutes = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().getStartupStepRecorder().setEnabled(true);
+        context.getRouteController().setStartupParallelism(4);
+        context.addComponent("slow", new SlowComponent());
+        context.addRoutePolicyFactory((camelContext, routeId, route) -> new RoutePolicySupport() {
+            @Override
+            public void onStart(Route route) {
+                policyThreads.add(Thread.currentThread().getName());
+                startedRoutes.add(route.getRouteId());
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallel() throws Exception {
+        // all the slow consumers must have been starting at the same time
+        assertEquals(3, concurrent.size());
+        assertFalse(concurrent.contains(false), "Routes should be started in parallel");
+        for (String name : threads) {
+            assertTrue(name.contains("RouteStartup"), name);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        template.sendBody("direct:start", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        // the route with startup order is started first, and all routes are registered in the startup order
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(5, order.size());
+        assertEquals("direct://first", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("slow://a", order.get(1).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("slow://b", order.get(2).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("slow://c", order.get(3).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(4).getRoute().getEndpoint().getEndpointUri());
+
+        assertTrue(context.getRouteController().getRouteStatus("a").isStarted());
+        assertTrue(context.getRouteController().getRouteStatus("b").isStarted());
+        assertTrue(context.getRouteController().getRouteStatus("c").isStarted());
+
+        // the routes are marked as started one by one in the startup order on the calling thread
+        assertEquals(5, startedRoutes.size());
+        assertEquals(List.of("a", "b", "c"), startedRoutes.subList(1, 4));
+        for (String name : policyThreads) {
+            assertFalse(name.contains("RouteStartup"), name);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:first").startupOrder(1).to("mock:first");
+
+                from("slow:a").routeId("a").to("mock:a");
+                from("slow:b").routeId("b").to("mock:b");
+                from("slow:c").routeId("c").to("mock:c");
+
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+    private class SlowComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) {
+            return new DefaultEndpoint(uri, this) {
+                @Override
+                public Producer createProducer() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Consumer createConsumer(Processor processor) {
+                    return new DefaultConsumer(this, processor) {
+                        @Override
+                        protected void doStart() throws Exception {
+                            super.doStart();
+                            threads.add(Thread.currentThread().getName());
+                            // simulate slow startup, which only completes when all consumers are starting
+                            latch.countDown();
+                            concurrent.add(latch.await(5, TimeUnit.SECONDS));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+}
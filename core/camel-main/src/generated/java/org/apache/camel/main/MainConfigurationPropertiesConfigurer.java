@@ -95,6 +95,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("Profile", java.lang.String.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
+        map.put("RouteStartupParallelism", int.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
         map.put("RoutesBuilders", java.util.List.class);
         map.put("RoutesCollectorEnabled", boolean.class);
@@ -292,6 +293,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routeStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "routesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -542,6 +544,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return java.lang.String.class;
+        case "routeStartupParallelism": return int.class;
         case "routesbuilderclasses":
         case "routesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
@@ -788,6 +791,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routeStartupParallelism": return target.getRouteStartupParallelism();
         case "routesbuilderclasses":
         case "routesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
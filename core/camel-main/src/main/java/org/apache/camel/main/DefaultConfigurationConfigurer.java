@@ -356,6 +356,9 @@ public final class DefaultConfigurationConfigurer {
                     config.getRouteFilterIncludePattern(),
                     config.getRouteFilterExcludePattern());
         }
+        if (config.getRouteStartupParallelism() > 1) {
+            camelContext.getRouteController().setStartupParallelism(config.getRouteStartupParallelism());
+        }
 
         // check startup conditions before we can continue
         StartupConditionStrategy scs = ecc.getContextPlugin(StartupConditionStrategy.class);
@@ -111,6 +111,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String threadNamePattern;
     private String routeFilterIncludePattern;
     private String routeFilterExcludePattern;
+    private int routeStartupParallelism = 1;
     private boolean beanIntrospectionExtendedStatistics;
     private LoggingLevel beanIntrospectionLoggingLevel;
     private boolean contextReloadEnabled;
@@ -1160,6 +1161,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeFilterExcludePattern = exclude;
     }
 
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * The maximum number of routes to start in parallel on startup. The default is 1 which starts the routes one by
+     * one.
+     *
+     * Only routes which have no explicit startup order configured are started in parallel. This is not supported by the
+     * supervising route controller, which starts the routes one by one.
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     public boolean isBeanIntrospectionExtendedStatistics() {
         return beanIntrospectionExtendedStatistics;
     }
@@ -2362,6 +2378,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * The maximum number of routes to start in parallel on startup. The default is 1 which starts the routes one by
+     * one.
+     *
+     * Only routes which have no explicit startup order configured are started in parallel. This is not supported by the
+     * supervising route controller, which starts the routes one by one.
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * Sets whether bean introspection uses extended statistics. The default is false.
      */
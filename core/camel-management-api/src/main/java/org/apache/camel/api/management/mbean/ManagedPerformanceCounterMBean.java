@@ -59,6 +59,18 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "50th percentile (median) Processing Time [milliseconds] (requires Extended statistics level)")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "90th percentile Processing Time [milliseconds] (requires Extended statistics level)")
+    long getP90ProcessingTime();
+
+    @ManagedAttribute(description = "99th percentile Processing Time [milliseconds] (requires Extended statistics level)")
+    long getP99ProcessingTime();
+
+    @ManagedOperation(description = "Processing Time [milliseconds] at the given percentile (0-100) (requires Extended statistics level)")
+    long processingTimePercentile(double percentile);
+
     @ManagedAttribute(description = "Time in millis being idle (no messages incoming or inflight)")
     long getIdleSince();
 
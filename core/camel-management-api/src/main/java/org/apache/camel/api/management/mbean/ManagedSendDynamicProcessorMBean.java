@@ -48,6 +48,15 @@ public interface ManagedSendDynamicProcessorMBean extends ManagedProcessorMBean,
     @ManagedAttribute(description = "Whether an optimised component (SendDynamicAware) is in use")
     Boolean isOptimised();
 
+    @ManagedAttribute(description = "Number of times a computed uri was found in the cache of normalized uris")
+    Long getNormalizedUriCacheHits();
+
+    @ManagedAttribute(description = "Number of times a computed uri was not found in the cache of normalized uris")
+    Long getNormalizedUriCacheMisses();
+
+    @ManagedAttribute(description = "Current number of normalized uris in the cache")
+    Integer getNormalizedUriCacheSize();
+
     @Override
     @ManagedOperation(description = "Statistics of the endpoints which has been sent to")
     TabularData extendedInformation();
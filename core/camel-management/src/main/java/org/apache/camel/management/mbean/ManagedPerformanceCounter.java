@@ -44,6 +44,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -72,6 +73,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        // the histogram uses a fair amount of memory per counter, so it is only in use with extended statistics
+        if (strategy.getManagementAgent() != null && strategy.getManagementAgent().getStatisticsLevel().isExtended()) {
+            this.processingTimeHistogram = new StatisticHistogram();
+        }
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -95,6 +100,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.reset();
+        }
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -166,6 +174,34 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() {
+        return processingTimePercentile(50);
+    }
+
+    @Override
+    public long getP90ProcessingTime() {
+        return processingTimePercentile(90);
+    }
+
+    @Override
+    public long getP99ProcessingTime() {
+        return processingTimePercentile(99);
+    }
+
+    @Override
+    public long processingTimePercentile(double percentile) {
+        if (processingTimeHistogram == null) {
+            return 0;
+        }
+        long answer = processingTimeHistogram.getPercentile(percentile);
+        // the histogram has limited precision so do not report above the max
+        if (maxProcessingTime.isUpdated()) {
+            answer = Math.min(answer, maxProcessingTime.getValue());
+        }
+        return answer;
+    }
+
     @Override
     public long getIdleSince() {
         // must not have any inflight
@@ -269,6 +305,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.updateValue(time);
+        }
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -330,6 +369,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        sb.append(String.format(" p50ProcessingTime=\"%s\"", getP50ProcessingTime()));
+        sb.append(String.format(" p90ProcessingTime=\"%s\"", getP90ProcessingTime()));
+        sb.append(String.format(" p99ProcessingTime=\"%s\"", getP99ProcessingTime()));
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
 
         if (fullStats) {
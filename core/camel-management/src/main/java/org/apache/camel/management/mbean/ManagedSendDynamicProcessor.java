@@ -64,6 +64,7 @@ public class ManagedSendDynamicProcessor extends ManagedProcessor implements Man
         if (processor.getEndpointUtilizationStatistics() != null) {
             processor.getEndpointUtilizationStatistics().clear();
         }
+        processor.resetNormalizedUriCacheStatistics();
     }
 
     @Override
@@ -120,6 +121,21 @@ public class ManagedSendDynamicProcessor extends ManagedProcessor implements Man
         return processor.getDynamicAware() != null;
     }
 
+    @Override
+    public Long getNormalizedUriCacheHits() {
+        return processor.getNormalizedUriCacheHits();
+    }
+
+    @Override
+    public Long getNormalizedUriCacheMisses() {
+        return processor.getNormalizedUriCacheMisses();
+    }
+
+    @Override
+    public Integer getNormalizedUriCacheSize() {
+        return processor.getNormalizedUriCacheSize();
+    }
+
     @Override
     public TabularData extendedInformation() {
         try {
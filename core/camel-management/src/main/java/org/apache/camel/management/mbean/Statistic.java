@@ -32,6 +32,8 @@ package org.apache.camel.management.mbean;
  * values applied to this statistic.</li>
  * <li>MINIMUM - A statistic with this update mode is a value that represents the minimum value amongst the update
  * values applied to this statistic.</li>
+ * <li>HISTOGRAM - A statistic with this update mode records the distribution of the update values, so percentiles can
+ * be computed.</li>
  * <ul>
  * The MAXIMUM and MINIMUM modes are not 100% thread-safe as there can be a lost-update problem. This is on purpose
  * because the performance overhead to ensure atomic updates costs to much on CPU and memory footprint. The other modes
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed memory histogram of processing times, used for computing percentiles.
+ * <p/>
+ * Values are recorded into log-linear buckets (32 linear buckets for small values, and then 16 buckets per power of
+ * two) which gives a relative error of at most 1/16 of the value. Values above one hour are recorded in the last
+ * bucket. To reduce contention when many threads complete exchanges concurrently, the buckets are striped by thread and
+ * only summed up when a percentile is requested. A stripe is allocated the first time a value is recorded into it, and
+ * after that recording a value does not allocate any objects.
+ */
+public class StatisticHistogram extends Statistic {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    // values up to 2^22 millis (about 70 minutes) are tracked with full precision
+    private static final int MAX_BIT = 21;
+    private static final int BUCKET_COUNT = index((1L << (MAX_BIT + 1)) - 1) + 1;
+    private static final int MAX_STRIPES = 4;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int mask;
+
+    public StatisticHistogram() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int size = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, cpus)));
+        this.stripes = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void updateValue(long newValue) {
+        int idx = index(Math.max(0, newValue));
+        if (idx >= BUCKET_COUNT) {
+            idx = BUCKET_COUNT - 1;
+        }
+        int stripe = (int) Thread.currentThread().getId() & mask;
+        AtomicLongArray counts = stripes.get(stripe);
+        if (counts == null) {
+            // allocate the stripe on first use
+            stripes.compareAndSet(stripe, null, new AtomicLongArray(BUCKET_COUNT));
+            counts = stripes.get(stripe);
+        }
+        counts.incrementAndGet(idx);
+    }
+
+    /**
+     * The number of recorded values
+     */
+    @Override
+    public long getValue() {
+        long total = 0;
+        for (int s = 0; s < stripes.length(); s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe != null) {
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    total += stripe.get(i);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the value at the given percentile.
+     *
+     * @param  percentile the percentile (0 to 100)
+     * @return            the highest value that is equivalent (within the precision of the histogram) to the value at
+     *                    the given percentile, or 0 if no values have been recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int s = 0; s < stripes.length(); s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe != null) {
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    long c = stripe.get(i);
+                    counts[i] += c;
+                    total += c;
+                }
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+        double p = Math.min(100d, Math.max(0d, percentile));
+        long rank = Math.max(1, (long) Math.ceil(p / 100d * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return highestEquivalentValue(BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public void reset() {
+        for (int s = 0; s < stripes.length(); s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe != null) {
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    stripe.set(i, 0);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(getValue());
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - (SUB_BUCKET_BITS - 1);
+        int sub = (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+        return SUB_BUCKET_COUNT + (msb - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT + sub;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int n = index - SUB_BUCKET_COUNT;
+        int msb = SUB_BUCKET_BITS + n / SUB_BUCKET_HALF_COUNT;
+        int shift = msb - (SUB_BUCKET_BITS - 1);
+        long lowest = (long) (SUB_BUCKET_HALF_COUNT + n % SUB_BUCKET_HALF_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ManagementStatisticsLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteProcessingTimePercentileTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().getManagementAgent().setStatisticsLevel(ManagementStatisticsLevel.Extended);
+        return context;
+    }
+
+    @Test
+    public void testProcessingTimePercentiles() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, context.getRoutes().get(0).getRouteId());
+
+        Long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        assertEquals(0, p99.longValue());
+
+        for (int i = 0; i < 19; i++) {
+            template.sendBody("direct:start", 0);
+        }
+        template.sendBody("direct:start", 500);
+
+        Long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+        Long p90 = (Long) mbeanServer.getAttribute(on, "P90ProcessingTime");
+        p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        Long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+
+        assertTrue(p50 < 400, "Should be fast: was " + p50);
+        assertTrue(p90 < 400, "Should be fast: was " + p90);
+        assertTrue(p99 > 450, "Should take around 0.5 sec: was " + p99);
+        assertTrue(p99 <= max, "Should not be above max: " + p99 + " > " + max);
+
+        Long p100 = (Long) mbeanServer.invoke(on, "processingTimePercentile", new Object[] { 100d },
+                new String[] { "double" });
+        assertEquals(max, p100);
+
+        String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        assertTrue(xml.contains("p99ProcessingTime=\"" + p99 + "\""), xml);
+
+        // reset starts a new interval
+        mbeanServer.invoke(on, "reset", null, null);
+        p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        assertEquals(0, p99.longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").delay(body()).to("mock:result");
+            }
+        };
+    }
+
+}
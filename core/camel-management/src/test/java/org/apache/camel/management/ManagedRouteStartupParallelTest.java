@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_CONSUMER;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_THREAD_POOL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests all the MBeans are registered when many routes are started in parallel.
+ */
+public class ManagedRouteStartupParallelTest extends ManagementTestSupport {
+
+    private static final int ROUTES = 50;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setStartupParallelism(8);
+        return context;
+    }
+
+    @Test
+    public void testAllMBeansRegistered() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> routes = mbeanServer.queryNames(getCamelObjectName(TYPE_ROUTE, "*"), null);
+        Set<ObjectName> consumers = mbeanServer.queryNames(getCamelObjectName(TYPE_CONSUMER, "*"), null);
+        for (int i = 0; i < ROUTES; i++) {
+            assertTrue(mbeanServer.isRegistered(getCamelObjectName(TYPE_ROUTE, "route" + i)), "route" + i);
+            assertTrue(mbeanServer.isRegistered(getCamelObjectName(TYPE_THREAD_POOL, "threads" + i + "(threads)")),
+                    "threads" + i);
+        }
+        assertEquals(ROUTES, routes.size());
+        assertEquals(ROUTES, consumers.size());
+
+        // the thread pools of the threads EIPs (created when warming up the routes)
+        // and of the seda consumers (created when starting the consumers in parallel)
+        Set<ObjectName> pools = mbeanServer.queryNames(getCamelObjectName(TYPE_THREAD_POOL, "*"), null);
+        long threads = pools.stream().filter(on -> on.getKeyProperty("name").startsWith("\"threads")).count();
+        long seda = pools.stream().filter(on -> on.getKeyProperty("name").startsWith("\"SedaConsumer")).count();
+        assertEquals(ROUTES, threads);
+        assertEquals(ROUTES, seda);
+
+        getMockEndpoint("mock:result").expectedMessageCount(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("seda:in" + i, "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("seda:in" + i + "?concurrentConsumers=2").routeId("route" + i)
+                            .threads(1).id("threads" + i)
+                            .to("mock:result");
+                }
+            }
+        };
+    }
+}
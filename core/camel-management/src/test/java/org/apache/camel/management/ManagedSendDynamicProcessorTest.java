@@ -88,6 +88,18 @@ public class ManagedSendDynamicProcessorTest extends ManagementTestSupport {
         TabularData data = (TabularData) mbeanServer.invoke(on, "extendedInformation", null, null);
         assertNotNull(data);
         assertEquals(2, data.size());
+
+        // the second message to foo reuse the normalized uri
+        Long hits = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheHits");
+        assertEquals(1, hits.longValue());
+        Long misses = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheMisses");
+        assertEquals(2, misses.longValue());
+        Integer size = (Integer) mbeanServer.getAttribute(on, "NormalizedUriCacheSize");
+        assertEquals(2, size.intValue());
+
+        mbeanServer.invoke(on, "reset", null, null);
+        hits = (Long) mbeanServer.getAttribute(on, "NormalizedUriCacheHits");
+        assertEquals(0, hits.longValue());
     }
 
     @Override
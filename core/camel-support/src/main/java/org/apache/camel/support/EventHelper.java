@@ -1570,6 +1570,14 @@ public final class EventHelper {
             return false;
         }
 
+        if (event instanceof CamelEvent.ExchangeEvent && notifier instanceof EventNotifierSupport ens) {
+            EventNotifierDispatcher dispatcher = ens.dispatcher;
+            if (dispatcher != null && dispatcher.isAccepting()) {
+                // deliver from the dispatcher thread instead
+                return dispatcher.publish(event);
+            }
+        }
+
         try {
             notifier.notify(event);
         } catch (Throwable e) {
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches exchange events to an {@link EventNotifierSupport} from a dedicated thread.
+ * <p/>
+ * The routing threads publish the events to a bounded lock-free ring (multiple producers, single consumer), and the
+ * dispatcher thread drains the ring in batches and delivers them to the notifier. When the ring is full then the event
+ * is either dropped (and counted) or the routing thread waits until there is room. If the dispatcher thread has ended
+ * (such as due to an {@link Error} from the notifier) then no more events are accepted, and the events are delivered on
+ * the routing thread instead.
+ */
+final class EventNotifierDispatcher extends ServiceSupport implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventNotifierDispatcher.class);
+    private static final long IDLE_PARK_NANOS = 100_000_000L;
+    private static final long FULL_PARK_NANOS = 10_000L;
+    private static final long STOP_TIMEOUT_MILLIS = 10_000L;
+
+    private final CamelContext camelContext;
+    private final EventNotifierSupport notifier;
+    private final AtomicReferenceArray<CamelEvent> ring;
+    private final int mask;
+    private final int capacity;
+    private final int batchSize;
+    private final boolean blockWhenFull;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean waiting;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    EventNotifierDispatcher(CamelContext camelContext, EventNotifierSupport notifier, int queueSize, int batchSize,
+                            boolean blockWhenFull) {
+        this.camelContext = camelContext;
+        this.notifier = notifier;
+        // round up to power of two so we can use a mask to find the slot
+        int size = queueSize <= 1 ? 1 : Integer.highestOneBit(queueSize - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.capacity = size;
+        this.batchSize = Math.max(1, batchSize);
+        this.blockWhenFull = blockWhenFull;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        running = true;
+        String name = "EventNotifier[" + notifier.getClass().getSimpleName() + "]";
+        Thread t;
+        if (camelContext != null) {
+            t = camelContext.getExecutorServiceManager().newThread(name, this);
+        } else {
+            t = new Thread(this, name);
+            t.setDaemon(true);
+        }
+        thread = t;
+        t.start();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        running = false;
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+            // the dispatcher delivers the remaining events before it ends, but do not let a stuck notifier hang the shutdown
+            t.join(STOP_TIMEOUT_MILLIS);
+            if (t.isAlive()) {
+                LOG.warn("Event notifier {} did not deliver the remaining {} events within {} millis. Interrupting the thread.",
+                        notifier, size(), STOP_TIMEOUT_MILLIS);
+                t.interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Whether the dispatcher accepts events to deliver, which is false once it is stopped or its thread has ended
+     */
+    boolean isAccepting() {
+        return running;
+    }
+
+    /**
+     * Publishes the event to be delivered by the dispatcher thread
+     *
+     * @return true if the event was published, false if it was dropped
+     */
+    boolean publish(CamelEvent event) {
+        while (true) {
+            long t = tail.get();
+            if (t - head.get() >= capacity) {
+                // stop waiting if the dispatcher is stopped or its thread has ended, as the ring is never drained then
+                if (!blockWhenFull || !running) {
+                    dropped.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+                continue;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                // volatile write so the dispatcher either sees the event or we see that it is waiting
+                ring.set((int) t & mask, event);
+                if (waiting) {
+                    LockSupport.unpark(thread);
+                }
+                return true;
+            }
+        }
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    @Override
+    public void run() {
+        try {
+            doRun();
+        } finally {
+            if (running) {
+                // the thread ended unexpectedly, so do not accept more events that would never be delivered
+                running = false;
+                LOG.warn("Event notifier {} dispatcher thread ended. Exchange events are delivered on the routing threads.",
+                        notifier);
+            }
+        }
+    }
+
+    private void doRun() {
+        List<CamelEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            drain(batch);
+            if (batch.isEmpty()) {
+                if (!running && tail.get() == head.get()) {
+                    break;
+                }
+                waiting = true;
+                // check again after flagging we are waiting so a publisher will unpark us
+                if (ring.get((int) head.get() & mask) == null) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                waiting = false;
+                if (Thread.currentThread().isInterrupted()) {
+                    // interrupted when stopping took too long
+                    break;
+                }
+                continue;
+            }
+            try {
+                notifier.notifyBatch(batch);
+            } catch (Throwable e) {
+                LOG.warn("Error notifying {} events. This exception will be ignored.", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void drain(List<CamelEvent> batch) {
+        long h = head.get();
+        while (batch.size() < batchSize) {
+            int idx = (int) h & mask;
+            CamelEvent event = ring.get(idx);
+            if (event == null) {
+                // empty, or the publisher has claimed the slot but not yet written the event
+                break;
+            }
+            ring.lazySet(idx, null);
+            h++;
+            head.lazySet(h);
+            batch.add(event);
+        }
+    }
+
+}
@@ -16,11 +16,16 @@
  */
 package org.apache.camel.support;
 
+import java.util.List;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Base class to extend for custom {@link EventNotifier} implementations.
@@ -28,11 +33,26 @@ import org.apache.camel.spi.EventNotifier;
  * This event notifier will also receive notifications about {@link Exchange} events. If there is <b>no</b> need to
  * receive such events then extend {@link SimpleEventNotifierSupport} instead.
  *
+ * The exchange events are by default delivered synchronously on the routing thread. By enabling
+ * {@link #setAsyncExchangeEvents(boolean)} they are instead queued and delivered in batches (see
+ * {@link #notifyBatch(List)}) by a dedicated thread, which moves the cost of the notifier off the routing threads.
+ * Notice the exchange may have been changed by the time the event is delivered, so notifiers using asynchronous
+ * delivery must not change the exchange, and should only read what they need from it. Asynchronous delivery is not
+ * used when exchange pooling is enabled, as the exchange may then already be reused for another message. Other events
+ * such as camel context and route events are always delivered synchronously.
+ *
  * @see SimpleEventNotifierSupport
  */
 public abstract class EventNotifierSupport extends SimpleEventNotifierSupport implements CamelContextAware {
 
+    private static final Logger LOG = LoggerFactory.getLogger(EventNotifierSupport.class);
+
     private CamelContext camelContext;
+    private boolean asyncExchangeEvents;
+    private int asyncQueueSize = 4096;
+    private int asyncBatchSize = 256;
+    private boolean asyncBlockWhenFull;
+    volatile EventNotifierDispatcher dispatcher;
 
     public EventNotifierSupport() {
         setupIgnore(false);
@@ -48,6 +68,116 @@ public abstract class EventNotifierSupport extends SimpleEventNotifierSupport im
         this.camelContext = camelContext;
     }
 
+    public boolean isAsyncExchangeEvents() {
+        return asyncExchangeEvents;
+    }
+
+    /**
+     * Whether to deliver exchange events asynchronously in batches from a dedicated thread, instead of on the routing
+     * thread.
+     */
+    public void setAsyncExchangeEvents(boolean asyncExchangeEvents) {
+        this.asyncExchangeEvents = asyncExchangeEvents;
+    }
+
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    /**
+     * The maximum number of exchange events that can be queued when using asynchronous delivery. The size is rounded up
+     * to a power of two.
+     */
+    public void setAsyncQueueSize(int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
+    public int getAsyncBatchSize() {
+        return asyncBatchSize;
+    }
+
+    /**
+     * The maximum number of exchange events to deliver in one batch when using asynchronous delivery.
+     */
+    public void setAsyncBatchSize(int asyncBatchSize) {
+        this.asyncBatchSize = asyncBatchSize;
+    }
+
+    public boolean isAsyncBlockWhenFull() {
+        return asyncBlockWhenFull;
+    }
+
+    /**
+     * Whether the routing thread should wait for room in the queue when it is full, when using asynchronous delivery.
+     * By default the event is dropped instead.
+     */
+    public void setAsyncBlockWhenFull(boolean asyncBlockWhenFull) {
+        this.asyncBlockWhenFull = asyncBlockWhenFull;
+    }
+
+    /**
+     * Number of exchange events that was dropped because the queue was full, when using asynchronous delivery.
+     */
+    public long getAsyncDroppedEvents() {
+        EventNotifierDispatcher d = dispatcher;
+        return d != null ? d.getDroppedCount() : 0;
+    }
+
+    /**
+     * Number of exchange events currently waiting to be delivered, when using asynchronous delivery.
+     */
+    public int getAsyncPendingEvents() {
+        EventNotifierDispatcher d = dispatcher;
+        return d != null ? d.size() : 0;
+    }
+
+    /**
+     * Notifies a batch of exchange events, when using asynchronous delivery.
+     * <p/>
+     * The default implementation calls {@link #notify(CamelEvent)} for each event. Implementations can override this to
+     * handle the events in bulk, such as writing them in a single operation.
+     *
+     * @param  events    the events (only valid during this call)
+     * @throws Exception can be thrown if notification failed
+     */
+    protected void notifyBatch(List<CamelEvent> events) throws Exception {
+        for (int i = 0; i < events.size(); i++) {
+            CamelEvent event = events.get(i);
+            try {
+                notify(event);
+            } catch (Throwable e) {
+                LOG.warn("Error notifying event {}. This exception will be ignored.", event, e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        if (asyncExchangeEvents && dispatcher == null && !isIgnoreExchangeEvents()) {
+            if (camelContext != null && camelContext.getCamelContextExtension().getExchangeFactory().isPooled()) {
+                LOG.warn("Cannot use asyncExchangeEvents on event notifier: {} when exchange pooling is enabled,"
+                         + " as the exchanges may be reused before the events are delivered. Exchange events are delivered synchronously.",
+                        this);
+            } else {
+                EventNotifierDispatcher d = new EventNotifierDispatcher(
+                        camelContext, this, asyncQueueSize, asyncBatchSize, asyncBlockWhenFull);
+                ServiceHelper.startService(d);
+                dispatcher = d;
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        EventNotifierDispatcher d = dispatcher;
+        if (d != null) {
+            dispatcher = null;
+            ServiceHelper.stopService(d);
+        }
+        super.stop();
+    }
+
     @Override
     public boolean isIgnoreCamelContextEvents() {
         return ignoreCamelContextEvents;
@@ -53,7 +53,10 @@ public abstract class BinaryPredicateSupport implements BinaryPredicate {
 
     @Override
     public boolean matches(Exchange exchange) {
-        return matchesReturningFailureMessage(exchange) == null;
+        // evaluate directly to avoid building a failure message when not matching
+        Object leftValue = left.evaluate(exchange, Object.class);
+        Object rightValue = right.evaluate(exchange, Object.class);
+        return matches(exchange, leftValue, rightValue);
     }
 
     @Override
@@ -159,7 +159,7 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
         currentSteps.clear();
     }
 
-    public StartupStep beginStep(Class<?> type, String name, String description) {
+    public synchronized StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
             int level = currentSteps.size() - 1;
             if (maxDepth != -1 && level >= maxDepth) {
@@ -177,9 +177,26 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
         }
     }
 
-    public void endStep(StartupStep step) {
+    @Override
+    public synchronized StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        if (enabled && parent != DISABLED_STEP) {
+            int level = parent.getLevel() + 1;
+            if (maxDepth != -1 && level >= maxDepth) {
+                return DISABLED_STEP;
+            }
+            int id = stepCounter.incrementAndGet();
+            // the step is not pushed as current step, as it runs on another thread
+            StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, parent.getId(), level);
+            onBeginStep(step);
+            return step;
+        } else {
+            return DISABLED_STEP;
+        }
+    }
+
+    public synchronized void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            currentSteps.removeFirstOccurrence(step.getId());
             step.endStep();
             onEndStep(step);
         }
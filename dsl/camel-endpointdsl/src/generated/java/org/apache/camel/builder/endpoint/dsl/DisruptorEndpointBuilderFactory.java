@@ -198,6 +198,48 @@ public interface DisruptorEndpointBuilderFactory {
         default DisruptorEndpointConsumerBuilder basic() {
             return (DisruptorEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether the consumer delivers the exchanges available in the
+         * ringbuffer in batches instead of one by one. When enabled, the
+         * exchanges taken from the ringbuffer until the Disruptor signals the
+         * end of a batch are routed as a single exchange whose body is a
+         * java.util.List holding one exchange per message (the same layout as
+         * the grouped exchanges of the aggregator). The original exchanges are
+         * completed when the batch exchange completes.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether the consumer delivers the exchanges available in the
+         * ringbuffer in batches instead of one by one. When enabled, the
+         * exchanges taken from the ringbuffer until the Disruptor signals the
+         * end of a batch are routed as a single exchange whose body is a
+         * java.util.List holding one exchange per message (the same layout as
+         * the grouped exchanges of the aggregator). The original exchanges are
+         * completed when the batch exchange completes.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions (if possible) occurred while the Camel
@@ -250,6 +292,44 @@ public interface DisruptorEndpointBuilderFactory {
             doSetProperty("bridgeErrorHandler", bridgeErrorHandler);
             return this;
         }
+        /**
+         * Whether the consumer routes a copy of the exchanges taken from the
+         * ringbuffer. The producer already publishes a correlated copy of the
+         * exchange, so when this option is disabled InOnly exchanges are routed
+         * as-is, which saves an exchange copy per message. InOut exchanges, and
+         * exchanges delivered to multiple consumers, are always copied.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: true
+         * Group: consumer (advanced)
+         * 
+         * @param copyExchange the value to set
+         * @return the dsl builder
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder copyExchange(boolean copyExchange) {
+            doSetProperty("copyExchange", copyExchange);
+            return this;
+        }
+        /**
+         * Whether the consumer routes a copy of the exchanges taken from the
+         * ringbuffer. The producer already publishes a correlated copy of the
+         * exchange, so when this option is disabled InOnly exchanges are routed
+         * as-is, which saves an exchange copy per message. InOut exchanges, and
+         * exchanges delivered to multiple consumers, are always copied.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: true
+         * Group: consumer (advanced)
+         * 
+         * @param copyExchange the value to set
+         * @return the dsl builder
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder copyExchange(String copyExchange) {
+            doSetProperty("copyExchange", copyExchange);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -315,6 +395,40 @@ public interface DisruptorEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * The maximum number of exchanges delivered in a batch when batching is
+         * enabled. A batch is delivered when the Disruptor signals the end of a
+         * batch or when it reaches this size. Use 0 or a negative value for no
+         * limit (a batch is then bounded by the size of the ringbuffer).
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param maxBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder maxBatchSize(int maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges delivered in a batch when batching is
+         * enabled. A batch is delivered when the Disruptor signals the end of a
+         * batch or when it reaches this size. Use 0 or a negative value for no
+         * limit (a batch is then bounded by the size of the ringbuffer).
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param maxBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder maxBatchSize(String maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
     }
 
     /**
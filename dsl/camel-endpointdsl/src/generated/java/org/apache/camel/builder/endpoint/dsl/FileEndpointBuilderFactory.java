@@ -2053,6 +2053,44 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("directoryMustExist", directoryMustExist);
             return this;
         }
+        /**
+         * To list the sub directories of a recursive consumer in parallel using
+         * a fork-join pool with the given parallelism. This can speed up polling
+         * of large directory trees as the directories are listed concurrently,
+         * while the files are still selected and processed in the same order as
+         * when scanning sequentially. This option is disabled by default (0),
+         * and only applies when recursive is enabled.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param directoryScanParallelism the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryScanParallelism(int directoryScanParallelism) {
+            doSetProperty("directoryScanParallelism", directoryScanParallelism);
+            return this;
+        }
+        /**
+         * To list the sub directories of a recursive consumer in parallel using
+         * a fork-join pool with the given parallelism. This can speed up polling
+         * of large directory trees as the directories are listed concurrently,
+         * while the files are still selected and processed in the same order as
+         * when scanning sequentially. This option is disabled by default (0),
+         * and only applies when recursive is enabled.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param directoryScanParallelism the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryScanParallelism(String directoryScanParallelism) {
+            doSetProperty("directoryScanParallelism", directoryScanParallelism);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -2479,6 +2517,50 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to use a java.nio.file.WatchService to watch the directory
+         * (and sub directories when recursive is enabled) for new or modified
+         * files, and trigger a poll as soon as a change is detected, instead of
+         * waiting for the next scheduled poll. The scheduled polls continue to
+         * run as a safety net (for example if the file system does not support
+         * watching), and the delay option can therefore be set to a higher
+         * value. All the other consumer options such as readLock, move,
+         * idempotent and doneFileName apply as usual.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchChanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchChanges(boolean watchChanges) {
+            doSetProperty("watchChanges", watchChanges);
+            return this;
+        }
+        /**
+         * Whether to use a java.nio.file.WatchService to watch the directory
+         * (and sub directories when recursive is enabled) for new or modified
+         * files, and trigger a poll as soon as a change is detected, instead of
+         * waiting for the next scheduled poll. The scheduled polls continue to
+         * run as a safety net (for example if the file system does not support
+         * watching), and the delay option can therefore be set to a higher
+         * value. All the other consumer options such as readLock, move,
+         * idempotent and doneFileName apply as usual.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchChanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchChanges(String watchChanges) {
+            doSetProperty("watchChanges", watchChanges);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For